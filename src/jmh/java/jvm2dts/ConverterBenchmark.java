@@ -0,0 +1,166 @@
+package jvm2dts;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Converts a single class of each kind, with a new converter every time (the cost of the first conversion of a class)
+ * and with a shared one (the cost of converting it again, e.g. in a session).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConverterBenchmark {
+  @Param({"record", "lombok", "kotlin", "generics", "enum"})
+  public String model;
+
+  private Class<?> clazz;
+  private TypeMapper typeMapper;
+  private Converter sharedConverter;
+
+  @Setup
+  public void setUp() {
+    clazz = switch (model) {
+      case "record" -> RecordModel.class;
+      case "lombok" -> LombokModel.class;
+      case "kotlin" -> KotlinModel.class;
+      case "generics" -> GenericModel.class;
+      case "enum" -> EnumModel.class;
+      default -> throw new IllegalArgumentException(model);
+    };
+    typeMapper = new TypeMapper(emptyMap());
+    sharedConverter = new Converter(typeMapper);
+  }
+
+  @Benchmark
+  public String convert() {
+    return new Converter(typeMapper).convert(clazz);
+  }
+
+  @Benchmark
+  public String convertAgain() {
+    return sharedConverter.convert(clazz);
+  }
+
+  @Benchmark
+  public String convertBytecode() {
+    return new BytecodeConverter(typeMapper, new ClassFiles(List.of())).convert(clazz.getName());
+  }
+}
+
+record RecordModel(UUID id, String name, @Nullable String description, int count, BigDecimal amount,
+                   LocalDate date, List<String> tags, Map<String, Integer> counts, Optional<String> note, EnumModel status) {
+  @JsonProperty("@type") public String type() { return "record"; }
+}
+
+/**
+ * What Lombok's @Data generates: private fields with getters, equals, hashCode and toString
+ */
+@SuppressWarnings("unused")
+class LombokModel {
+  private UUID id;
+  private String firstName;
+  private String lastName;
+  private boolean active;
+  private Integer age;
+  private LocalDateTime created;
+  private List<LombokModel> children;
+  private String password;
+
+  public UUID getId() { return id; }
+  public String getFirstName() { return firstName; }
+  public String getLastName() { return lastName; }
+  public boolean isActive() { return active; }
+  public @Nullable Integer getAge() { return age; }
+  public LocalDateTime getCreated() { return created; }
+  public List<LombokModel> getChildren() { return children; }
+  @JsonIgnore public String getPassword() { return password; }
+  @JsonProperty("full-name") public String getFullName() { return firstName + " " + lastName; }
+
+  @Override public boolean equals(Object o) {
+    return o instanceof LombokModel other && Objects.equals(id, other.id) && Objects.equals(firstName, other.firstName) &&
+      Objects.equals(lastName, other.lastName) && active == other.active && Objects.equals(age, other.age);
+  }
+
+  @Override public int hashCode() { return Objects.hash(id, firstName, lastName, active, age); }
+
+  @Override public String toString() { return "LombokModel(id=" + id + ", firstName=" + firstName + ")"; }
+}
+
+/**
+ * What the Kotlin compiler generates for a data class: final getters, componentN and copy methods,
+ * and synthetic $annotations methods carrying annotations of properties
+ */
+@SuppressWarnings("unused")
+final class KotlinModel {
+  private final long id;
+  private final String name;
+  private final String secret;
+  private final List<String> aliases;
+  private final Double score;
+
+  KotlinModel(long id, String name, String secret, List<String> aliases, Double score) {
+    this.id = id;
+    this.name = name;
+    this.secret = secret;
+    this.aliases = aliases;
+    this.score = score;
+  }
+
+  public final long getId() { return id; }
+  public final String getName() { return name; }
+  public final String getSecret() { return secret; }
+  @JsonIgnore @Deprecated public static void getSecret$annotations() {}
+  public final List<String> getAliases() { return aliases; }
+  public final @Nullable Double getScore() { return score; }
+
+  public final long component1() { return id; }
+  public final String component2() { return name; }
+  public final String component3() { return secret; }
+  public final List<String> component4() { return aliases; }
+  public final Double component5() { return score; }
+  public final KotlinModel copy(long id, String name, String secret, List<String> aliases, Double score) { return new KotlinModel(id, name, secret, aliases, score); }
+
+  @Override public boolean equals(Object o) { return o instanceof KotlinModel other && id == other.id && Objects.equals(name, other.name); }
+  @Override public int hashCode() { return Objects.hash(id, name); }
+  @Override public String toString() { return "KotlinModel(id=" + id + ", name=" + name + ")"; }
+}
+
+@SuppressWarnings("unused")
+interface GenericModel {
+  Map<String, Map<String, Integer>> getNestedMaps();
+  List<Set<UUID>> getSetsOfIds();
+  List<? extends Number> getNumbers();
+  Collection<RecordModel> getRecords();
+  Map<UUID, RecordModel> getRecordsById();
+  Set<EnumModel> getStatuses();
+  Optional<LocalDate> getDate();
+  LombokModel[] getPeople();
+}
+
+enum EnumModel {
+  NEW("new"), ACTIVE("active"), SUSPENDED("suspended"), CLOSED("closed");
+
+  private final String value;
+
+  EnumModel(String value) {
+    this.value = value;
+  }
+
+  @Override public String toString() {
+    return value;
+  }
+}
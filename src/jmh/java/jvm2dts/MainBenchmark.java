@@ -0,0 +1,107 @@
+package jvm2dts;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A full command line run, from scanning the class directory to writing the output file, over generated model classes
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MainBenchmark {
+  @Param({"500"})
+  public int classes;
+
+  @Param({"false", "true"})
+  public boolean bytecode;
+
+  @Param({"1", "0"})
+  public int threads;
+
+  private Path dir;
+
+  @Setup
+  public void setUp() throws IOException {
+    dir = compileModels(classes);
+  }
+
+  /**
+   * @return temporary directory with the compiled classes in its <code>classes</code> subdirectory
+   */
+  static Path compileModels(int classes) throws IOException {
+    var dir = Files.createTempDirectory("jvm2dts-benchmark");
+    var sources = new ArrayList<String>();
+    for (int i = 0; i < classes; i++) {
+      var source = dir.resolve("src/gen/Model" + i + ".java");
+      Files.createDirectories(source.getParent());
+      Files.writeString(source, generateModel(i));
+      sources.add(source.toString());
+    }
+    var status = ToolProvider.getSystemJavaCompiler().run(null, null, null,
+      concat(new String[] {"-d", dir.resolve("classes").toString()}, sources.toArray(new String[0])));
+    if (status != 0) throw new IllegalStateException("Failed to compile generated classes");
+    return dir;
+  }
+
+  /**
+   * Every 5th class is an enum, every 5th a record, the rest are classes with getters extending a common base class
+   */
+  static String generateModel(int i) {
+    var other = "Model" + (i / 5 * 5 + 1);
+    return switch (i % 5) {
+      case 0 -> "package gen; public enum Model" + i + " { A, B, C; @Override public String toString() { return name().toLowerCase(); } }";
+      case 1 -> "package gen; public record Model" + i + "(java.util.UUID id, String name, java.util.List<String> tags, " +
+        "java.util.Map<String, Integer> counts, java.util.Optional<java.time.LocalDate> date) {}";
+      case 2 -> "package gen; public abstract class Model" + i + " { public java.util.UUID getId() { return null; } " +
+        "public java.time.Instant getCreatedAt() { return null; } public java.time.Instant getUpdatedAt() { return null; } " +
+        "public long getVersion() { return 0; } }";
+      default -> "package gen; public class Model" + i + " extends Model" + (i / 5 * 5 + 2) + " { " +
+        "public String getName() { return null; } public boolean isActive() { return false; } " +
+        "public java.util.List<" + other + "> getItems() { return null; } public Model" + (i / 5 * 5) + " getStatus() { return null; } " +
+        "public java.util.Map<String, java.util.List<Long>> getValues() { return null; } " +
+        "@Override public boolean equals(Object o) { return this == o; } @Override public int hashCode() { return 0; } }";
+    };
+  }
+
+  private static String[] concat(String[] a, String[] b) {
+    var result = new String[a.length + b.length];
+    System.arraycopy(a, 0, result, 0, a.length);
+    System.arraycopy(b, 0, result, a.length, b.length);
+    return result;
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    delete(dir);
+  }
+
+  static void delete(Path dir) throws IOException {
+    try (var paths = Files.walk(dir)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public void main() throws Exception {
+    var args = new ArrayList<String>();
+    if (bytecode) args.add("-bytecode");
+    args.add("-threads");
+    args.add(String.valueOf(threads));
+    args.add("-classesDir");
+    args.add(dir.resolve("classes").toString());
+    args.add("-out");
+    args.add(dir.resolve("types.ts").toString());
+    Main.main(args.toArray(new String[0]));
+  }
+}
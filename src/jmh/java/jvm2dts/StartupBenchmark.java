@@ -0,0 +1,70 @@
+package jvm2dts;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time of a whole command line run in a new JVM for a small module, with and without the class data sharing archive
+ * built by the <code>cdsArchive</code> Gradle task, which passes the jar class path and the archive as system properties.
+ * The archive is used with <code>-Xshare:on</code>, so that the run fails instead of silently starting without it
+ * if the class path does not match the one it was built with.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 15)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+  @Param({"20"})
+  public int classes;
+
+  @Param({"false", "true"})
+  public boolean cds;
+
+  private Path dir;
+  private String classPath;
+  private String archive;
+
+  @Setup
+  public void setUp() throws IOException {
+    classPath = System.getProperty("jvm2dts.classpath");
+    archive = System.getProperty("jvm2dts.cds");
+    if (classPath == null || archive == null || !Files.exists(Paths.get(archive)))
+      throw new IllegalStateException("Run with ./gradlew jmh, which builds the jar and the archive first");
+    dir = MainBenchmark.compileModels(classes);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    MainBenchmark.delete(dir);
+  }
+
+  @Benchmark
+  public int main() throws Exception {
+    var command = new ArrayList<String>();
+    command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+    if (cds) {
+      command.add("-XX:SharedArchiveFile=" + archive);
+      command.add("-Xshare:on");
+    }
+    command.add("-cp");
+    command.add(classPath);
+    command.add(Main.class.getName());
+    command.add("-classesDir");
+    command.add(dir.resolve("classes").toString());
+    command.add("-out");
+    command.add(dir.resolve("types.ts").toString());
+    var stderr = dir.resolve("stderr.txt");
+    var process = new ProcessBuilder(command).redirectOutput(ProcessBuilder.Redirect.DISCARD).redirectError(stderr.toFile()).start();
+    var status = process.waitFor();
+    if (status != 0) throw new IllegalStateException("Exited with " + status + ": " + Files.readString(stderr));
+    return status;
+  }
+}
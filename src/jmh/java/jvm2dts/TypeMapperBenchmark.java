@@ -0,0 +1,50 @@
+package jvm2dts;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lookups of already resolved types, as done for every property of every class
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeMapperBenchmark {
+  private final Class<?>[] types = {String.class, int.class, UUID.class, LocalDate.class, ZonedDateTime.class, BigDecimal.class,
+    LongAdder.class, Object.class, RecordModel.class, EnumModel.class, LombokModel.class};
+  private final String[] names = new String[types.length];
+  private TypeMapper typeMapper;
+  private ClassFiles classFiles;
+
+  @Setup
+  public void setUp() {
+    typeMapper = new TypeMapper(Map.of(LombokModel.class, "string"));
+    classFiles = new ClassFiles(List.of());
+    for (int i = 0; i < types.length; i++) names[i] = types[i].getName();
+  }
+
+  @Benchmark
+  public int getTSType() {
+    var length = 0;
+    for (var type : types) length += typeMapper.getTSType(type).length();
+    return length;
+  }
+
+  @Benchmark
+  public int getTSTypeByName() {
+    var length = 0;
+    for (var name : names) length += typeMapper.getTSType(name, classFiles).length();
+    return length;
+  }
+}
@@ -0,0 +1,254 @@
+package jvm2dts;
+
+import jvm2dts.ClassInfo.AnnotationInfo;
+import jvm2dts.ClassInfo.MethodInfo;
+import jvm2dts.TypeSignature.ArrayType;
+import jvm2dts.TypeSignature.ClassType;
+import jvm2dts.TypeSignature.Wildcard;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import static java.util.Comparator.naturalOrder;
+import static java.util.logging.Level.SEVERE;
+import static java.util.logging.Level.WARNING;
+import static jvm2dts.Converter.isLikeGetter;
+import static jvm2dts.Converter.toPropertyName;
+import static jvm2dts.Converter.tsName;
+
+/**
+ * Converts classes to TypeScript from their class files only, producing the same output as {@link Converter},
+ * but without loading the classes into the JVM, so their static initializers are never run.
+ */
+public class BytecodeConverter {
+  Logger logger = Logger.getLogger(BytecodeConverter.class.getName());
+
+  TypeMapper typeMapper;
+  ClassFiles classFiles;
+  TypeRenderer typeRenderer;
+
+  private final Map<String, List<Member>> publicMethods = new ConcurrentHashMap<>();
+
+  record Member(ClassInfo owner, MethodInfo method) {}
+
+  BytecodeConverter(TypeMapper typeMapper, ClassFiles classFiles) {
+    this.typeMapper = typeMapper;
+    this.classFiles = classFiles;
+    this.typeRenderer = new TypeRenderer(typeMapper, classFiles);
+  }
+
+  ClassInfo info(String className) {
+    return classFiles.info(className);
+  }
+
+  public String convert(String className) {
+    var info = info(className);
+    if (info == null) {
+      logger.log(SEVERE, "Class file not found for " + className);
+      return null;
+    }
+    return convert(info);
+  }
+
+  String convert(ClassInfo info) {
+    var out = new StringBuilder();
+    return convert(info, out) ? out.toString() : null;
+  }
+
+  /**
+   * Same as {@link Converter#convert(Class, StringBuilder)}
+   */
+  boolean convert(ClassInfo info, StringBuilder out) {
+    if (info.isAnnotation() || info.anonymous)
+      return false;
+    else if (info.isEnum())
+      return convertEnum(info, out);
+    else
+      return convertClass(info, out);
+  }
+
+  private boolean convertEnum(ClassInfo info, StringBuilder out) {
+    out.append("enum ").append(tsName(info.name)).append(" {");
+
+    var constants = info.enumConstants;
+    var values = new ArrayList<>(info.enumValues);
+    for (int i = 0; i < constants.size(); i++) {
+      var body = info.enumConstantBodies.get(constants.get(i));
+      if (body == null) continue;
+      var bodyInfo = classFiles.info(body);
+      if (bodyInfo == null) values.set(i, null);
+      else if (bodyInfo.declaredMethod("toString", "()") != null) values.set(i, bodyInfo.toStringConstant);
+    }
+    if (values.contains(null))
+      logger.log(WARNING, "Could not determine toString() of some constants of " + info.name + " without loading it, using their names");
+    for (int i = 0; i < constants.size(); i++) {
+      var value = values.get(i);
+      out.append(constants.get(i)).append(" = '").append(value != null ? value : constants.get(i)).append("'");
+      if (i + 1 < constants.size())
+        out.append(", ");
+    }
+
+    out.append("}");
+    return true;
+  }
+
+  private boolean convertClass(ClassInfo info, StringBuilder out) {
+    var start = out.length();
+    out.append("interface ").append(tsName(info.name)).append(" {");
+    var bodyStart = out.length();
+    var propertyStart = bodyStart;
+
+    try {
+      var getters = getters(info);
+
+      var methodNamesInOrder = new ArrayList<String>();
+      for (var method : info.methods)
+        if (method.isPublic() && getters.containsKey(method.name) && !methodNamesInOrder.contains(method.name)) methodNamesInOrder.add(method.name);
+
+      var superClassGetters = new ArrayList<>(getters.keySet());
+      superClassGetters.removeAll(methodNamesInOrder);
+      superClassGetters.sort(naturalOrder());
+      methodNamesInOrder.addAll(superClassGetters);
+
+      for (String name : methodNamesInOrder) {
+        processProperty(out, name, getters.get(name), info);
+        propertyStart = out.length();
+      }
+    } catch (Exception e) {
+      out.setLength(propertyStart);
+      logger.log(SEVERE, "Failed to convert " + info.name, e);
+    }
+
+    if (out.length() == bodyStart) {
+      out.setLength(start);
+      return false;
+    }
+    if (out.charAt(out.length() - 1) == ' ') out.setLength(out.length() - 1);
+    out.append("}");
+    return true;
+  }
+
+  private Map<String, Member> getters(ClassInfo info) {
+    var getters = new HashMap<String, Member>();
+    for (var member : publicMethods(info)) {
+      var method = member.method;
+      if (method.isStatic() || !method.hasNoParameters()) continue;
+      if (info.isRecord()) {
+        if (!member.owner.name.equals("java.lang.Object") && !Set.of("hashCode", "toString").contains(method.name))
+          getters.merge(method.name, member, this::moreSpecific);
+      } else if (isLikeGetter(method.name))
+        getters.merge(toPropertyName(method.name), member, this::moreSpecific);
+    }
+    return getters;
+  }
+
+  private Member moreSpecific(Member m1, Member m2) {
+    return isAssignableFrom(returnType(m1.method).className(), returnType(m2.method).className()) ? m2 : m1;
+  }
+
+  /**
+   * Same as {@link Class#getMethods()}: public methods of the class, its superclasses and superinterfaces, minus the overridden ones
+   */
+  List<Member> publicMethods(ClassInfo info) {
+    var result = publicMethods.get(info.name);
+    if (result != null) return result;
+
+    result = new ArrayList<>();
+    var signatures = new HashSet<String>();
+    var interfaces = new ArrayDeque<String>();
+    for (var c = info; c != null; c = c.isInterface() ? null : info(c.superName)) {
+      for (var method : c.methods)
+        if (method.isPublic() && !method.name.startsWith("<") && signatures.add(method.name + method.descriptor)) result.add(new Member(c, method));
+      interfaces.addAll(c.interfaces);
+    }
+    var visited = new HashSet<String>();
+    while (!interfaces.isEmpty()) {
+      var c = info(interfaces.poll());
+      if (c == null || !visited.add(c.name)) continue;
+      for (var method : c.methods)
+        if (method.isPublic() && !method.isStatic() && signatures.add(method.name + method.descriptor)) result.add(new Member(c, method));
+      interfaces.addAll(c.interfaces);
+    }
+    publicMethods.put(info.name, result);
+    return result;
+  }
+
+  /**
+   * Same as {@link Class#isAssignableFrom(Class)} for class names in the format of {@link Class#getName()}
+   */
+  boolean isAssignableFrom(String type, String other) {
+    if (type.equals(other)) return true;
+    if (TypeSignature.PRIMITIVES.contains(type) || TypeSignature.PRIMITIVES.contains(other)) return false;
+    if (type.equals("java.lang.Object")) return true;
+    if (other.startsWith("[")) return type.equals("java.lang.Cloneable") || type.equals("java.io.Serializable");
+    return classFiles.superTypes(other).contains(type);
+  }
+
+  private static TypeSignature returnType(MethodInfo method) {
+    return TypeSignature.returnType(method.descriptor);
+  }
+
+  private void processProperty(StringBuilder out, String propertyName, Member getter, ClassInfo info) {
+    var method = getter.method;
+
+    var dashPos = propertyName.indexOf('-');
+    if (dashPos > 0) propertyName = propertyName.substring(0, dashPos);
+
+    for (var annotation : annotations(getter)) {
+      var annotationName = annotation.simpleName();
+      if (annotationName.equals("JsonIgnore")) return;
+      else if (annotationName.equals("JsonProperty")) {
+        var overriddenName = (String) annotation.values().getOrDefault("value", "");
+        if (!overriddenName.isEmpty()) propertyName = overriddenName;
+        if (!propertyName.matches("^\\w+$")) propertyName = "\"" + propertyName + "\"";
+      }
+    }
+
+    out.append(propertyName);
+
+    var nullable = info.propertyAnnotations.isNullable(method.name);
+    var type = method.signature != null ? TypeSignature.returnType(method.signature) : returnType(method);
+    if (type.className() != null && type.className().equals("java.util.Optional")) {
+      nullable = true;
+      type = type instanceof ClassType optional && optional.arguments().size() == 1 ? optional.arguments().get(0) : TypeSignature.OBJECT;
+    }
+    if (nullable) out.append("?");
+    out.append(": ").append(typeRenderer.render(type, info, getter.owner, method)).append("; ");
+  }
+
+  /**
+   * @return annotations of the getter, or of its synthetic <code>$annotations</code> method if Kotlin has put them there
+   */
+  private List<AnnotationInfo> annotations(Member getter) {
+    var annotations = getter.method.annotations;
+    return annotations.isEmpty() ? getter.owner.propertyAnnotations.kotlinAnnotations(getter.method.name) : annotations;
+  }
+
+  /**
+   * @return names of all classes in the types of the properties that the class is converted with, including type arguments,
+   * with type variables replaced by the type arguments of the class as in its declaration
+   */
+  Set<String> propertyTypes(ClassInfo info) {
+    var result = new HashSet<String>();
+    if (info.isAnnotation() || info.isEnum()) return result;
+    for (var getter : getters(info).values()) {
+      if (annotations(getter).stream().anyMatch(annotation -> annotation.simpleName().equals("JsonIgnore"))) continue;
+      var method = getter.method;
+      var type = TypeSignature.returnType(method.signature != null ? method.signature : method.descriptor);
+      addClassNames(typeRenderer.close(type, info, getter.owner, method), result);
+    }
+    return result;
+  }
+
+  static void addClassNames(TypeSignature type, Set<String> classNames) {
+    if (type instanceof ClassType classType) {
+      if (!classType.isPrimitive()) classNames.add(classType.name());
+      for (var argument : classType.arguments()) addClassNames(argument, classNames);
+    } else if (type instanceof ArrayType array) {
+      addClassNames(array.component(), classNames);
+    } else if (type instanceof Wildcard wildcard && wildcard.type() != null) {
+      addClassNames(wildcard.type(), classNames);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package jvm2dts;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.System.err;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Keeps conversion results and filter decisions of classes between runs, keyed by the content hash of their class files.
+ * An entry is reused only if neither the class nor any of its dependencies in the input roots have changed
+ * (its supertypes, outer classes and property types with their supertypes), and only if the cache was written with the same options.
+ */
+class ClassCache {
+  static final int VERSION = 3;
+  static final long MISSING = 0;
+
+  record Stamp(long size, long modified, long hash) {}
+
+  record Entry(long hash, boolean data, boolean annotated, String declaration, Map<String, Long> dependencies) {}
+
+  private final Path file;
+  private final ClassFiles classFiles;
+  private final String options;
+
+  private final Map<String, Stamp> previousStamps = new HashMap<>();
+  private final Map<String, Entry> previousEntries = new HashMap<>();
+  private final Map<String, Stamp> stamps = new ConcurrentHashMap<>();
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  ClassCache(Path file, ClassFiles classFiles, String options) {
+    this.file = file;
+    this.classFiles = classFiles;
+    this.options = options;
+    if (Files.exists(file)) load();
+  }
+
+  /**
+   * @return the entry stored for the class by a previous run, or null if the class or its dependencies have changed since
+   */
+  Entry get(String className) {
+    var entry = previousEntries.get(className);
+    if (entry == null || entry.hash != hash(className)) return null;
+    for (var dependency : entry.dependencies.entrySet())
+      if (dependency.getValue() != hash(dependency.getKey())) return null;
+    entries.put(className, entry);
+    return entry;
+  }
+
+  /**
+   * @param dependencies classes that the declaration depends on, the entry is invalidated when any of them changes in the input roots
+   */
+  void put(String className, Collection<String> dependencies, boolean data, boolean annotated, String declaration) {
+    var hashes = new TreeMap<String, Long>();
+    for (var dependency : dependencies) {
+      var hash = hash(dependency);
+      if (hash != MISSING) hashes.put(dependency, hash);
+    }
+    entries.put(className, new Entry(hash(className), data, annotated, declaration, hashes));
+  }
+
+  /**
+   * @return content hash of the class file, re-reading its bytes only if its size or modification time differ from the previous run
+   */
+  long hash(String className) {
+    return stamps.computeIfAbsent(className, this::stamp).hash;
+  }
+
+  private Stamp stamp(String className) {
+    try {
+      var attrs = classFiles.attributes(className);
+      if (attrs == null) return new Stamp(0, 0, MISSING);
+      var previous = previousStamps.get(className);
+      if (previous != null && previous.size == attrs.size() && previous.modified == attrs.modified()) return previous;
+      return new Stamp(attrs.size(), attrs.modified(), hash(classFiles.read(className)));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  static long hash(byte[] bytes) {
+    try {
+      var hash = ByteBuffer.wrap(MessageDigest.getInstance("MD5").digest(bytes)).getLong();
+      return hash != MISSING ? hash : 1;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void load() {
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != VERSION || !in.readUTF().equals(options)) return;
+      var stampCount = in.readInt();
+      for (int i = 0; i < stampCount; i++)
+        previousStamps.put(in.readUTF(), new Stamp(in.readLong(), in.readLong(), in.readLong()));
+      var entryCount = in.readInt();
+      for (int i = 0; i < entryCount; i++) {
+        var className = in.readUTF();
+        var hash = in.readLong();
+        var data = in.readBoolean();
+        var annotated = in.readBoolean();
+        var declaration = readString(in);
+        var dependencyCount = in.readInt();
+        var dependencies = new HashMap<String, Long>(dependencyCount);
+        for (int j = 0; j < dependencyCount; j++) dependencies.put(in.readUTF(), in.readLong());
+        previousEntries.put(className, new Entry(hash, data, annotated, declaration, dependencies));
+      }
+    } catch (IOException e) {
+      err.println("// Ignoring unreadable cache " + file + ": " + e);
+      previousStamps.clear();
+      previousEntries.clear();
+    }
+  }
+
+  /**
+   * Writes entries of the classes seen during this run, so that deleted classes are dropped from the cache.
+   */
+  void save() throws IOException {
+    var tmp = file.resolveSibling(file.getFileName() + ".tmp");
+    try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+      out.writeInt(VERSION);
+      out.writeUTF(options);
+      var usedStamps = new TreeMap<>(stamps);
+      usedStamps.values().removeIf(stamp -> stamp.hash == MISSING);
+      out.writeInt(usedStamps.size());
+      for (var stamp : usedStamps.entrySet()) {
+        out.writeUTF(stamp.getKey());
+        out.writeLong(stamp.getValue().size);
+        out.writeLong(stamp.getValue().modified);
+        out.writeLong(stamp.getValue().hash);
+      }
+      var sortedEntries = new TreeMap<>(entries);
+      out.writeInt(sortedEntries.size());
+      for (var e : sortedEntries.entrySet()) {
+        var entry = e.getValue();
+        out.writeUTF(e.getKey());
+        out.writeLong(entry.hash);
+        out.writeBoolean(entry.data);
+        out.writeBoolean(entry.annotated);
+        writeString(out, entry.declaration);
+        out.writeInt(entry.dependencies.size());
+        for (var dependency : entry.dependencies.entrySet()) {
+          out.writeUTF(dependency.getKey());
+          out.writeLong(dependency.getValue());
+        }
+      }
+    }
+    Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+  }
+
+  static String readString(DataInputStream in) throws IOException {
+    var length = in.readInt();
+    return length < 0 ? null : new String(in.readNBytes(length), UTF_8);
+  }
+
+  static void writeString(DataOutputStream out, String s) throws IOException {
+    if (s == null) {
+      out.writeInt(-1);
+      return;
+    }
+    var bytes = s.getBytes(UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+}
@@ -0,0 +1,453 @@
+package jvm2dts;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+
+/**
+ * Reads the parts of a class file that jvm2dts needs straight from a buffer, e.g. a slice of a memory-mapped jar,
+ * without copying it: the constant pool is only indexed by offsets up front, and its strings are decoded on first use.
+ * Members and attributes are read by walking over them, everything else is skipped.
+ */
+class ClassFile {
+  static final int MAGIC = 0xCAFEBABE;
+
+  static final int ACC_PUBLIC = 0x0001;
+  static final int ACC_STATIC = 0x0008;
+  static final int ACC_INTERFACE = 0x0200;
+  static final int ACC_ANNOTATION = 0x2000;
+  static final int ACC_ENUM = 0x4000;
+
+  static final int CONSTANT_UTF8 = 1;
+  static final int CONSTANT_LONG = 5;
+  static final int CONSTANT_DOUBLE = 6;
+  static final int CONSTANT_STRING = 8;
+
+  static final int ACONST_NULL = 1;
+  static final int DCONST_1 = 15;
+  static final int BIPUSH = 16;
+  static final int SIPUSH = 17;
+  static final int LDC = 18;
+  static final int LDC_W = 19;
+  static final int LDC2_W = 20;
+  static final int ILOAD = 21;
+  static final int ALOAD = 25;
+  static final int ILOAD_0 = 26;
+  static final int ALOAD_3 = 45;
+  static final int ISTORE = 54;
+  static final int ASTORE = 58;
+  static final int ISTORE_0 = 59;
+  static final int ASTORE_3 = 78;
+  static final int DUP = 89;
+  static final int IINC = 132;
+  static final int IFEQ = 153;
+  static final int GOTO = 167;
+  static final int JSR = 168;
+  static final int RET = 169;
+  static final int TABLESWITCH = 170;
+  static final int LOOKUPSWITCH = 171;
+  static final int ARETURN = 176;
+  static final int GETSTATIC = 178;
+  static final int PUTSTATIC = 179;
+  static final int GETFIELD = 180;
+  static final int PUTFIELD = 181;
+  static final int INVOKESPECIAL = 183;
+  static final int INVOKESTATIC = 184;
+  static final int INVOKEINTERFACE = 185;
+  static final int INVOKEDYNAMIC = 186;
+  static final int NEW = 187;
+  static final int NEWARRAY = 188;
+  static final int ANEWARRAY = 189;
+  static final int CHECKCAST = 192;
+  static final int INSTANCEOF = 193;
+  static final int WIDE = 196;
+  static final int MULTIANEWARRAY = 197;
+  static final int IFNULL = 198;
+  static final int IFNONNULL = 199;
+  static final int GOTO_W = 200;
+  static final int JSR_W = 201;
+
+  /** Member of the class, with the offset of its attribute count */
+  record Member(int access, String name, String descriptor, int attributes) {}
+
+  private final ByteBuffer buffer;
+  private final int[] constantOffsets;
+  private final String[] strings;
+  private final int header;
+  /** Reused for decoding all strings, so that only the strings themselves are allocated */
+  private char[] chars = new char[64];
+
+  /**
+   * @param buffer contents of the class file from its position to its limit, which are left unchanged
+   */
+  ClassFile(ByteBuffer buffer) {
+    this.buffer = buffer.slice().order(BIG_ENDIAN);
+    if (this.buffer.getInt(0) != MAGIC) throw new IllegalArgumentException("Not a class file");
+    var count = unsignedShort(8);
+    constantOffsets = new int[count];
+    strings = new String[count];
+    var offset = 10;
+    for (int i = 1; i < count; i++) {
+      constantOffsets[i] = offset + 1;
+      var tag = this.buffer.get(offset);
+      offset += switch (tag) {
+        case CONSTANT_UTF8 -> 3 + unsignedShort(offset + 1);
+        case 7, 8, 16, 19, 20 -> 3;
+        case 15 -> 4;
+        case 3, 4, 9, 10, 11, 12, 17, 18 -> 5;
+        case CONSTANT_LONG, CONSTANT_DOUBLE -> 9;
+        default -> throw new IllegalArgumentException("Unknown constant pool tag " + tag + " at " + offset);
+      };
+      if (tag == CONSTANT_LONG || tag == CONSTANT_DOUBLE) i++;
+    }
+    header = offset;
+  }
+
+  int access() { return unsignedShort(header); }
+  String internalName() { return className(unsignedShort(header + 2)); }
+  String superName() { return className(unsignedShort(header + 4)); }
+
+  List<String> interfaces() {
+    var count = unsignedShort(header + 6);
+    var result = new ArrayList<String>(count);
+    for (int i = 0; i < count; i++) result.add(className(unsignedShort(header + 8 + i * 2)));
+    return result;
+  }
+
+  List<Member> fields() {
+    return members(header + 8 + unsignedShort(header + 6) * 2);
+  }
+
+  List<Member> methods() {
+    return members(skipMembers(header + 8 + unsignedShort(header + 6) * 2));
+  }
+
+  /**
+   * @return offset of the attribute count of the class
+   */
+  int attributes() {
+    return skipMembers(skipMembers(header + 8 + unsignedShort(header + 6) * 2));
+  }
+
+  private List<Member> members(int offset) {
+    var count = unsignedShort(offset);
+    var result = new ArrayList<Member>(count);
+    offset += 2;
+    for (int i = 0; i < count; i++) {
+      result.add(new Member(unsignedShort(offset), utf8(unsignedShort(offset + 2)), utf8(unsignedShort(offset + 4)), offset + 6));
+      offset = skipAttributes(offset + 6);
+    }
+    return result;
+  }
+
+  private int skipMembers(int offset) {
+    var count = unsignedShort(offset);
+    offset += 2;
+    for (int i = 0; i < count; i++) offset = skipAttributes(offset + 6);
+    return offset;
+  }
+
+  private int skipAttributes(int offset) {
+    var count = unsignedShort(offset);
+    offset += 2;
+    for (int i = 0; i < count; i++) offset += 6 + buffer.getInt(offset + 2);
+    return offset;
+  }
+
+  /**
+   * @param attributes offset of an attribute count, as in {@link Member#attributes()} or {@link #attributes()}
+   * @return offset of the contents of the attribute with the name, or -1 if there is no such attribute
+   */
+  int attribute(int attributes, String name) {
+    var count = unsignedShort(attributes);
+    var offset = attributes + 2;
+    for (int i = 0; i < count; i++) {
+      if (utf8Equals(unsignedShort(offset), name)) return offset + 6;
+      offset += 6 + buffer.getInt(offset + 2);
+    }
+    return -1;
+  }
+
+  /**
+   * @return value of the Signature attribute, or null if there is none
+   */
+  String signature(int attributes) {
+    var offset = attribute(attributes, "Signature");
+    return offset != -1 ? utf8(unsignedShort(offset)) : null;
+  }
+
+  /**
+   * Adds descriptors of the annotations in a RuntimeVisibleAnnotations or RuntimeInvisibleAnnotations attribute
+   */
+  void annotationDescriptors(int attributes, String attributeName, List<String> result) {
+    var offset = attribute(attributes, attributeName);
+    if (offset == -1) return;
+    var count = unsignedShort(offset);
+    offset += 2;
+    for (int i = 0; i < count; i++) {
+      result.add(utf8(unsignedShort(offset)));
+      offset = skipAnnotation(offset);
+    }
+  }
+
+  /**
+   * Adds annotations in the RuntimeVisibleAnnotations attribute with their constant values, e.g. strings and numbers,
+   * leaving out enum, class, annotation and array values
+   */
+  void annotations(int attributes, List<ClassInfo.AnnotationInfo> result) {
+    var offset = attribute(attributes, "RuntimeVisibleAnnotations");
+    if (offset == -1) return;
+    var count = unsignedShort(offset);
+    offset += 2;
+    for (int i = 0; i < count; i++) {
+      var values = Map.<String, Object>of();
+      var pairs = unsignedShort(offset + 2);
+      var pair = offset + 4;
+      for (int j = 0; j < pairs; j++) {
+        var value = constantValue(pair + 2);
+        if (value != null) {
+          if (values.isEmpty()) values = new HashMap<>();
+          values.put(utf8(unsignedShort(pair)), value);
+        }
+        pair = skipElementValue(pair + 2);
+      }
+      result.add(new ClassInfo.AnnotationInfo(utf8(unsignedShort(offset)), values));
+      offset = pair;
+    }
+  }
+
+  private Object constantValue(int offset) {
+    var index = unsignedShort(offset + 1);
+    return switch (buffer.get(offset)) {
+      case 'B' -> (byte) buffer.getInt(constantOffsets[index]);
+      case 'C' -> (char) buffer.getInt(constantOffsets[index]);
+      case 'S' -> (short) buffer.getInt(constantOffsets[index]);
+      case 'Z' -> buffer.getInt(constantOffsets[index]) != 0;
+      case 'I' -> buffer.getInt(constantOffsets[index]);
+      case 'J' -> buffer.getLong(constantOffsets[index]);
+      case 'F' -> buffer.getFloat(constantOffsets[index]);
+      case 'D' -> buffer.getDouble(constantOffsets[index]);
+      case 's' -> utf8(index);
+      default -> null;
+    };
+  }
+
+  private int skipAnnotation(int offset) {
+    var pairs = unsignedShort(offset + 2);
+    offset += 4;
+    for (int i = 0; i < pairs; i++) offset = skipElementValue(offset + 2);
+    return offset;
+  }
+
+  private int skipElementValue(int offset) {
+    return switch (buffer.get(offset)) {
+      case 'e' -> offset + 5;
+      case '@' -> skipAnnotation(offset + 1);
+      case '[' -> {
+        var count = unsignedShort(offset + 1);
+        offset += 3;
+        for (int i = 0; i < count; i++) offset = skipElementValue(offset);
+        yield offset;
+      }
+      default -> offset + 3;
+    };
+  }
+
+  /**
+   * Inner classes attribute entry of this class itself
+   * @param outerName internal name of the declaring class, or null for local and anonymous classes
+   * @param innerName simple name, or null for anonymous classes
+   */
+  record InnerClass(String outerName, String innerName) {}
+
+  /**
+   * @return entry of this class in its InnerClasses attribute, or null if it is a top level class
+   */
+  InnerClass innerClass() {
+    var offset = attribute(attributes(), "InnerClasses");
+    if (offset == -1) return null;
+    var thisClass = unsignedShort(header + 2);
+    var internalName = internalName();
+    var count = unsignedShort(offset);
+    for (int i = 0; i < count; i++) {
+      var entry = offset + 2 + i * 8;
+      var inner = unsignedShort(entry);
+      if (inner == thisClass || internalName.equals(className(inner)))
+        return new InnerClass(className(unsignedShort(entry + 2)), utf8(unsignedShort(entry + 4)));
+    }
+    return null;
+  }
+
+  /**
+   * @return instructions of the method, or null if it has no code
+   */
+  Instructions code(Member method) {
+    var offset = attribute(method.attributes, "Code");
+    if (offset == -1) return null;
+    var start = offset + 8;
+    return new Instructions(start, start + buffer.getInt(offset + 4));
+  }
+
+  /**
+   * Cursor over the instructions of a method. Short forms are reported as their general instruction,
+   * e.g. <code>aload_0</code> as {@link #ALOAD} with {@link #operand} 0, <code>ldc_w</code> as {@link #LDC}
+   * and <code>goto_w</code> as {@link #GOTO}.
+   */
+  class Instructions {
+    private final int start;
+    private final int end;
+    private int next;
+    int opcode;
+    /** Local variable, immediate value, or index into the constant pool */
+    int operand;
+
+    private Instructions(int start, int end) {
+      this.start = start;
+      this.next = start;
+      this.end = end;
+    }
+
+    boolean next() {
+      if (next >= end) return false;
+      var offset = next;
+      opcode = buffer.get(offset) & 0xFF;
+      operand = -1;
+      if (opcode >= ILOAD_0 && opcode <= ALOAD_3) {
+        operand = (opcode - ILOAD_0) % 4;
+        opcode = ILOAD + (opcode - ILOAD_0) / 4;
+        next = offset + 1;
+      } else if (opcode >= ISTORE_0 && opcode <= ASTORE_3) {
+        operand = (opcode - ISTORE_0) % 4;
+        opcode = ISTORE + (opcode - ISTORE_0) / 4;
+        next = offset + 1;
+      } else if (opcode == WIDE) {
+        opcode = buffer.get(offset + 1) & 0xFF;
+        operand = unsignedShort(offset + 2);
+        next = offset + (opcode == IINC ? 6 : 4);
+      } else if (opcode == TABLESWITCH || opcode == LOOKUPSWITCH) {
+        var padded = offset + 4 - (offset - start) % 4;
+        next = opcode == TABLESWITCH ?
+          padded + 12 + (buffer.getInt(padded + 8) - buffer.getInt(padded + 4) + 1) * 4 :
+          padded + 8 + buffer.getInt(padded + 4) * 8;
+      } else if (opcode == GOTO_W || opcode == JSR_W) {
+        opcode -= GOTO_W - GOTO;
+        next = offset + 5;
+      } else {
+        next = offset + 1 + switch (opcode) {
+          case BIPUSH, LDC, NEWARRAY -> {
+            operand = opcode == BIPUSH ? buffer.get(offset + 1) : buffer.get(offset + 1) & 0xFF;
+            yield 1;
+          }
+          case ILOAD, ILOAD + 1, ILOAD + 2, ILOAD + 3, ALOAD, ISTORE, ISTORE + 1, ISTORE + 2, ISTORE + 3, ASTORE, RET -> {
+            operand = buffer.get(offset + 1) & 0xFF;
+            yield 1;
+          }
+          case SIPUSH -> {
+            operand = buffer.getShort(offset + 1);
+            yield 2;
+          }
+          case LDC_W, LDC2_W -> {
+            opcode = LDC;
+            operand = unsignedShort(offset + 1);
+            yield 2;
+          }
+          case IINC -> 2;
+          case MULTIANEWARRAY -> {
+            operand = unsignedShort(offset + 1);
+            yield 3;
+          }
+          case INVOKEINTERFACE, INVOKEDYNAMIC -> {
+            operand = unsignedShort(offset + 1);
+            yield 4;
+          }
+          default -> {
+            if (opcode >= IFEQ && opcode <= JSR || opcode == IFNULL || opcode == IFNONNULL) yield 2;
+            if (opcode >= GETSTATIC && opcode <= INVOKESTATIC || opcode == NEW || opcode == ANEWARRAY || opcode == CHECKCAST || opcode == INSTANCEOF) {
+              operand = unsignedShort(offset + 1);
+              yield 2;
+            }
+            yield 0;
+          }
+        };
+      }
+      return true;
+    }
+
+    /** Class of a {@link #NEW}, <code>anewarray</code>, <code>checkcast</code> or <code>instanceof</code>, as an internal name */
+    String type() { return className(operand); }
+
+    /** Owner class of the field or method of the instruction, as an internal name */
+    String owner() { return className(unsignedShort(constantOffsets[operand])); }
+    String name() { return utf8(unsignedShort(constantOffsets[nameAndType()])); }
+    String descriptor() { return utf8(unsignedShort(constantOffsets[nameAndType()] + 2)); }
+
+    private int nameAndType() {
+      return unsignedShort(constantOffsets[operand] + 2);
+    }
+
+    /**
+     * @return the string loaded by an {@link #LDC}, or null if it loads another kind of constant
+     */
+    String stringConstant() {
+      return buffer.get(constantOffsets[operand] - 1) == CONSTANT_STRING ? utf8(unsignedShort(constantOffsets[operand])) : null;
+    }
+  }
+
+  /**
+   * @return number of arguments in the method descriptor, and the number of local variable slots each of them takes
+   */
+  static int[] argumentSizes(String descriptor) {
+    var sizes = new ArrayList<Integer>();
+    for (int i = 1; descriptor.charAt(i) != ')'; i++) {
+      var c = descriptor.charAt(i);
+      sizes.add(c == 'J' || c == 'D' ? 2 : 1);
+      while (c == '[') c = descriptor.charAt(++i);
+      if (c == 'L') i = descriptor.indexOf(';', i);
+    }
+    return sizes.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  private String className(int index) {
+    return index == 0 ? null : utf8(unsignedShort(constantOffsets[index]));
+  }
+
+  private int unsignedShort(int offset) {
+    return buffer.getShort(offset) & 0xFFFF;
+  }
+
+  /**
+   * Compares without decoding, as attribute names are ASCII
+   */
+  private boolean utf8Equals(int index, String ascii) {
+    var offset = constantOffsets[index];
+    var length = unsignedShort(offset);
+    if (length != ascii.length()) return false;
+    for (int i = 0; i < length; i++)
+      if (buffer.get(offset + 2 + i) != ascii.charAt(i)) return false;
+    return true;
+  }
+
+  /**
+   * Decodes the modified UTF-8 of a constant once, sharing the string between all uses
+   */
+  String utf8(int index) {
+    if (index == 0) return null;
+    var result = strings[index];
+    if (result != null) return result;
+    var offset = constantOffsets[index];
+    var length = unsignedShort(offset);
+    if (chars.length < length) chars = new char[Math.max(length, 2 * chars.length)];
+    var count = 0;
+    for (int i = offset + 2, end = offset + 2 + length; i < end; ) {
+      int b = buffer.get(i++) & 0xFF;
+      if (b < 0x80) chars[count++] = (char) b;
+      else if (b < 0xE0) chars[count++] = (char) ((b & 0x1F) << 6 | buffer.get(i++) & 0x3F);
+      else chars[count++] = (char) ((b & 0x0F) << 12 | (buffer.get(i++) & 0x3F) << 6 | buffer.get(i++) & 0x3F);
+    }
+    return strings[index] = new String(chars, 0, count);
+  }
+}
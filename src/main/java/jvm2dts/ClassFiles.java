@@ -0,0 +1,462 @@
+package jvm2dts;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.logging.Logger;
+
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * Reads class files by class name from input roots (directories or jar files), falling back to the class path, without loading the classes.
+ */
+class ClassFiles implements Closeable {
+  Logger logger = Logger.getLogger(ClassFiles.class.getName());
+
+  record Attributes(long size, long modified) {}
+
+  private final List<Path> roots;
+  private final Map<Path, MappedJar> jars = new HashMap<>();
+  private final ClassLoader classLoader;
+  private final Map<String, Optional<ClassInfo>> infos = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> superTypes = new ConcurrentHashMap<>();
+
+  /**
+   * Parsed class files of the class path (e.g. the JDK and libraries) by class loader, shared by all open instances,
+   * so that conversions running in the same JVM at the same time parse each of them only once.
+   * Forgotten when the last instance using them is closed, so that a long-running daemon does not keep them forever.
+   */
+  private static final Map<ClassLoader, ClassPathInfos> CLASS_PATH_INFOS = new WeakHashMap<>();
+  private final ClassPathInfos classPathInfos;
+  private boolean closed;
+
+  private static class ClassPathInfos {
+    final Map<String, Optional<ClassInfo>> infos = new ConcurrentHashMap<>();
+    int users;
+  }
+
+  ClassFiles(List<Path> roots) {
+    this(roots, ClassFiles.class.getClassLoader());
+  }
+
+  ClassFiles(List<Path> roots, ClassLoader classLoader) {
+    this.roots = roots;
+    this.classLoader = classLoader;
+    synchronized (CLASS_PATH_INFOS) {
+      this.classPathInfos = CLASS_PATH_INFOS.computeIfAbsent(classLoader, loader -> new ClassPathInfos());
+      classPathInfos.users++;
+    }
+    for (var root : roots) {
+      if (!Files.isRegularFile(root)) continue;
+      try {
+        jars.put(root, new MappedJar(root));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  static String toResourceName(String className) {
+    return className.replace('.', '/') + ".class";
+  }
+
+  static boolean isClassFile(String name) {
+    return name.endsWith(".class") && !name.endsWith("module-info.class") && !name.endsWith("package-info.class") && !name.startsWith("META-INF/");
+  }
+
+  static String toClassName(String resourceName) {
+    return resourceName.substring(0, resourceName.length() - ".class".length()).replace('/', '.');
+  }
+
+  /**
+   * @return name of the class in a file under a directory root, or null if it is not a class file
+   */
+  static String toClassName(Path root, Path file) {
+    var resourceName = root.relativize(file).toString().replace(File.separatorChar, '/');
+    return isClassFile(resourceName) ? toClassName(resourceName) : null;
+  }
+
+  /**
+   * @return names of all classes in the roots, in the order of the roots
+   */
+  Set<String> classNames() throws IOException {
+    return classNames(PackageFilter.ALL, null);
+  }
+
+  /**
+   * Lists directories of packages that can contain included classes only, so excluded trees are never visited.
+   * @param pool to list independent subdirectories in parallel on, or null to list them in the calling thread
+   * @return names of the classes in the roots that pass the filter, in the order of the roots
+   */
+  Set<String> classNames(PackageFilter filter, ForkJoinPool pool) throws IOException {
+    var result = new LinkedHashSet<String>();
+    for (var root : roots) {
+      var jar = jars.get(root);
+      if (jar != null) {
+        for (var name : jar.names()) {
+          if (!isClassFile(name)) continue;
+          var className = toClassName(name);
+          if (filter.includes(className)) result.add(className);
+        }
+      } else {
+        var node = filter.root();
+        if (node == null) continue;
+        var task = new ScanTask(filter, root, "", node, pool != null);
+        try {
+          result.addAll(pool != null ? pool.invoke(task) : task.compute());
+        } catch (UncheckedIOException e) {
+          throw e.getCause();
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Lists class files in a directory and forks a task for every subdirectory that can contain included classes
+   */
+  @SuppressWarnings("serial") // never serialized, like any ForkJoinTask
+  private static class ScanTask extends RecursiveTask<List<String>> {
+    private final PackageFilter filter;
+    private final Path dir;
+    private final String packagePrefix;
+    private final PackageFilter.Node node;
+    private final boolean parallel;
+
+    ScanTask(PackageFilter filter, Path dir, String packagePrefix, PackageFilter.Node node, boolean parallel) {
+      this.filter = filter;
+      this.dir = dir;
+      this.packagePrefix = packagePrefix;
+      this.node = node;
+      this.parallel = parallel;
+    }
+
+    @Override protected List<String> compute() {
+      var result = new ArrayList<String>();
+      var subdirectories = new ArrayList<ScanTask>();
+      try (var entries = Files.newDirectoryStream(dir)) {
+        for (var path : entries) {
+          var name = path.getFileName().toString();
+          if (Files.isDirectory(path, NOFOLLOW_LINKS)) {
+            if (packagePrefix.isEmpty() && name.equals("META-INF")) continue;
+            var child = filter.descend(node, name);
+            if (child != null) subdirectories.add(new ScanTask(filter, path, packagePrefix + name + ".", child, parallel));
+          } else if (isClassFile(name)) {
+            var className = packagePrefix + toClassName(name);
+            if (filter.includes(node, className)) result.add(className);
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      if (parallel) {
+        for (var task : invokeAll(subdirectories)) result.addAll(task.join());
+      } else {
+        for (var task : subdirectories) result.addAll(task.compute());
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Lists the same classes as {@link #classNames(PackageFilter, ForkJoinPool)}, but lazily and ordered by name across all roots,
+   * so that classes can be converted while the rest of the roots are still being listed.
+   * Directories are listed one at a time, holding only the entries of the directories on the current path in memory.
+   * @return iterator that throws {@link UncheckedIOException} if a directory cannot be listed
+   */
+  Iterator<String> sortedClassNames(PackageFilter filter) {
+    var iterators = new ArrayList<Iterator<String>>();
+    for (var root : roots) {
+      var jar = jars.get(root);
+      if (jar != null) {
+        var names = new ArrayList<String>();
+        for (var name : jar.names()) {
+          if (!isClassFile(name)) continue;
+          var className = toClassName(name);
+          if (filter.includes(className)) names.add(className);
+        }
+        names.sort(naturalOrder());
+        iterators.add(names.iterator());
+      } else {
+        var node = filter.root();
+        if (node != null) iterators.add(new DirectoryWalk(filter, root, node));
+      }
+    }
+    return iterators.size() == 1 ? iterators.get(0) : new MergedNames(iterators);
+  }
+
+  /**
+   * Walks a directory root depth-first, visiting the class files and subdirectories of every directory ordered by name,
+   * where a subdirectory sorts as its package name followed by a dot, so that class names come out in {@link String} order
+   */
+  private static class DirectoryWalk implements Iterator<String> {
+    /**
+     * @param name qualified name of a class, or package name followed by a dot for a directory
+     * @param node filter node of a directory, or null for a class file
+     */
+    private record Entry(String name, Path path, PackageFilter.Node node) {}
+
+    private final PackageFilter filter;
+    private final Deque<Iterator<Entry>> stack = new ArrayDeque<>();
+    private String next;
+
+    DirectoryWalk(PackageFilter filter, Path root, PackageFilter.Node node) {
+      this.filter = filter;
+      list(root, "", node);
+    }
+
+    private void list(Path dir, String packagePrefix, PackageFilter.Node node) {
+      var entries = new ArrayList<Entry>();
+      try (var paths = Files.newDirectoryStream(dir)) {
+        for (var path : paths) {
+          var name = path.getFileName().toString();
+          if (Files.isDirectory(path, NOFOLLOW_LINKS)) {
+            if (packagePrefix.isEmpty() && name.equals("META-INF")) continue;
+            var child = filter.descend(node, name);
+            if (child != null) entries.add(new Entry(packagePrefix + name + ".", path, child));
+          } else if (isClassFile(name)) {
+            var className = packagePrefix + toClassName(name);
+            if (filter.includes(node, className)) entries.add(new Entry(className, path, null));
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      entries.sort(comparing(Entry::name));
+      stack.push(entries.iterator());
+    }
+
+    @Override public boolean hasNext() {
+      while (next == null && !stack.isEmpty()) {
+        var entries = stack.peek();
+        if (!entries.hasNext()) {
+          stack.pop();
+          continue;
+        }
+        var entry = entries.next();
+        if (entry.node == null) next = entry.name;
+        else list(entry.path, entry.name, entry.node);
+      }
+      return next != null;
+    }
+
+    @Override public String next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      var result = next;
+      next = null;
+      return result;
+    }
+  }
+
+  /**
+   * Merges sorted class names of several roots, keeping only the first of the same names like {@link #classNames()}
+   */
+  private static class MergedNames implements Iterator<String> {
+    private final List<Iterator<String>> iterators;
+    private final String[] heads;
+
+    MergedNames(List<Iterator<String>> iterators) {
+      this.iterators = iterators;
+      heads = new String[iterators.size()];
+      for (int i = 0; i < heads.length; i++) advance(i);
+    }
+
+    private void advance(int i) {
+      heads[i] = iterators.get(i).hasNext() ? iterators.get(i).next() : null;
+    }
+
+    @Override public boolean hasNext() {
+      for (var head : heads) if (head != null) return true;
+      return false;
+    }
+
+    @Override public String next() {
+      String result = null;
+      for (var head : heads)
+        if (head != null && (result == null || head.compareTo(result) < 0)) result = head;
+      if (result == null) throw new NoSuchElementException();
+      for (int i = 0; i < heads.length; i++)
+        if (result.equals(heads[i])) advance(i);
+      return result;
+    }
+  }
+
+  /**
+   * @return the jar file of the root, or null if it is a directory
+   */
+  MappedJar jar(Path root) {
+    return jars.get(root);
+  }
+
+  /**
+   * @return the first root containing the class file, which it is read from, or null if it is not in the roots
+   */
+  Path root(String className) {
+    var resourceName = toResourceName(className);
+    for (var root : roots) {
+      var jar = jars.get(root);
+      if (jar != null ? jar.entry(resourceName) != null : Files.isRegularFile(root.resolve(resourceName))) return root;
+    }
+    return null;
+  }
+
+  /**
+   * @return size and modification time of the class file in the roots, for jar entries the modification time of the jar,
+   *         or null if the class is not in the roots
+   */
+  Attributes attributes(String className) throws IOException {
+    var resourceName = toResourceName(className);
+    for (var root : roots) {
+      var jar = jars.get(root);
+      if (jar != null) {
+        var entry = jar.entry(resourceName);
+        if (entry != null) return new Attributes(entry.size(), Files.getLastModifiedTime(root).toMillis());
+      } else {
+        var path = root.resolve(resourceName);
+        if (Files.isRegularFile(path)) {
+          var attrs = Files.readAttributes(path, BasicFileAttributes.class);
+          return new Attributes(attrs.size(), attrs.lastModifiedTime().toMillis());
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return contents of the class file, a slice of the mapped file for uncompressed jar entries, or null if it was not found
+   */
+  ByteBuffer buffer(String className) throws IOException {
+    var buffer = rootBuffer(className);
+    return buffer != null ? buffer : classPathBuffer(className);
+  }
+
+  private ByteBuffer rootBuffer(String className) throws IOException {
+    var resourceName = toResourceName(className);
+    for (var root : roots) {
+      var jar = jars.get(root);
+      if (jar != null) {
+        var buffer = jar.read(resourceName);
+        if (buffer != null) return buffer;
+      } else {
+        var path = root.resolve(resourceName);
+        if (Files.isRegularFile(path)) return ByteBuffer.wrap(Files.readAllBytes(path));
+      }
+    }
+    return null;
+  }
+
+  private ByteBuffer classPathBuffer(String className) throws IOException {
+    try (var in = classLoader.getResourceAsStream(toResourceName(className))) {
+      return in != null ? ByteBuffer.wrap(in.readAllBytes()) : null;
+    }
+  }
+
+  /**
+   * @return contents of the class file, or null if it was not found
+   */
+  byte[] read(String className) throws IOException {
+    var buffer = buffer(className);
+    return buffer != null ? toBytes(buffer) : null;
+  }
+
+  private static byte[] toBytes(ByteBuffer buffer) {
+    if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.remaining() == buffer.array().length) return buffer.array();
+    var bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  /**
+   * @return parsed class file, or null if it was not found
+   */
+  ClassInfo info(String className) {
+    if (className == null || className.startsWith("[") || TypeSignature.PRIMITIVES.contains(className)) return null;
+    return infos.computeIfAbsent(className, name -> {
+      try {
+        var buffer = rootBuffer(name);
+        return buffer != null ? Optional.of(ClassInfo.read(buffer)) : classPathInfos.infos.computeIfAbsent(name, this::readClassPathInfo);
+      } catch (Exception e) {
+        logger.log(SEVERE, "Failed to read class file of " + name, e);
+        return Optional.empty();
+      }
+    }).orElse(null);
+  }
+
+  private Optional<ClassInfo> readClassPathInfo(String className) {
+    try {
+      var buffer = classPathBuffer(className);
+      return Optional.ofNullable(buffer != null ? ClassInfo.read(buffer) : null);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Forgets parsed class files of changed classes, and supertypes of all classes, as they may have changed through them
+   */
+  void invalidate(Collection<String> classNames) {
+    infos.keySet().removeAll(classNames);
+    superTypes.clear();
+  }
+
+  /**
+   * Drops parsed class files of classes that have been converted, so that memory does not grow with the number of classes
+   * when streaming, they are read again if they are needed as supertypes of later classes
+   */
+  void forget(Collection<String> classNames) {
+    infos.keySet().removeAll(classNames);
+    superTypes.keySet().removeAll(classNames);
+  }
+
+  /**
+   * @return the class itself and all of its superclasses and superinterfaces that have class files
+   */
+  Set<String> superTypes(String className) {
+    var result = superTypes.get(className);
+    if (result != null) return result;
+
+    result = new HashSet<>();
+    result.add(className);
+    var info = info(className);
+    if (info != null) {
+      if (info.superName != null) result.addAll(superTypes(info.superName));
+      for (var type : info.interfaces) result.addAll(superTypes(type));
+    }
+    superTypes.put(className, result);
+    return result;
+  }
+
+  /**
+   * @return names of supertypes and declaring classes that the declaration and filtering of the class depend on
+   */
+  Set<String> relatedClasses(ClassInfo info) {
+    var result = new TreeSet<>(superTypes(info.name));
+    for (var declaringClass = info(info.declaringClass); declaringClass != null; declaringClass = info(declaringClass.declaringClass))
+      result.add(declaringClass.name);
+    result.remove(info.name);
+    return result;
+  }
+
+  /**
+   * Releases the shared parsed class files of the class path, forgetting them if no other instance uses them
+   */
+  @Override public void close() {
+    synchronized (CLASS_PATH_INFOS) {
+      if (closed) return;
+      closed = true;
+      if (--classPathInfos.users == 0) CLASS_PATH_INFOS.remove(classLoader, classPathInfos);
+    }
+  }
+}
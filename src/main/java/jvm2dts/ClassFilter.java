@@ -0,0 +1,75 @@
+package jvm2dts;
+
+import jvm2dts.ClassInfo.AnnotationInfo;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Applies the -data-only and -annotated filters to class files, so that rejected classes never need to be loaded.
+ */
+class ClassFilter {
+  private final ClassFiles classFiles;
+  private final boolean dataOnly;
+  private final Set<String> withAnnotations;
+
+  ClassFilter(ClassFiles classFiles, boolean dataOnly, Set<String> withAnnotations) {
+    this.classFiles = classFiles;
+    this.dataOnly = dataOnly;
+    this.withAnnotations = withAnnotations;
+  }
+
+  /**
+   * @return false if only data classes are requested and this is neither a data class, an enum or an interface
+   */
+  boolean passesDataFilter(ClassInfo info) {
+    return !dataOnly || isDataType(info);
+  }
+
+  static boolean isDataType(ClassInfo info) {
+    return isData(info) || info.isEnum() || info.isInterface();
+  }
+
+  boolean passesAnnotationFilter(ClassInfo info) {
+    return withAnnotations == null || isAnnotated(info, withAnnotations);
+  }
+
+  /**
+   * Same as checking {@link Class#getDeclaredMethod(String, Class[])} for equals(Object), as data classes implement it
+   */
+  static boolean isData(ClassInfo info) {
+    return info.declaredMethod("equals", "(Ljava/lang/Object;)") != null;
+  }
+
+  /**
+   * Same as checking {@link Class#getAnnotations()} of the class and its declaring classes, including inherited annotations
+   */
+  boolean isAnnotated(ClassInfo info, Set<String> annotations) {
+    for (var annotation : info.annotations)
+      if (annotations.contains(annotation.typeName())) return true;
+    for (var superClass = classFiles.info(info.superName); superClass != null; superClass = classFiles.info(superClass.superName))
+      for (var annotation : superClass.annotations)
+        if (annotations.contains(annotation.typeName()) && isInherited(annotation)) return true;
+    var declaringClass = classFiles.info(info.declaringClass);
+    return declaringClass != null && isAnnotated(declaringClass, annotations);
+  }
+
+  /**
+   * @return names of all annotations that {@link #isAnnotated(ClassInfo, Set)} accepts the class for
+   */
+  Set<String> annotationNames(ClassInfo info) {
+    var result = new HashSet<String>();
+    for (var annotation : info.annotations) result.add(annotation.typeName());
+    for (var superClass = classFiles.info(info.superName); superClass != null; superClass = classFiles.info(superClass.superName))
+      for (var annotation : superClass.annotations)
+        if (isInherited(annotation)) result.add(annotation.typeName());
+    var declaringClass = classFiles.info(info.declaringClass);
+    if (declaringClass != null) result.addAll(annotationNames(declaringClass));
+    return result;
+  }
+
+  private boolean isInherited(AnnotationInfo annotation) {
+    var annotationType = classFiles.info(annotation.typeName());
+    return annotationType != null && annotationType.annotations.stream().anyMatch(a -> a.typeName().equals("java.lang.annotation.Inherited"));
+  }
+}
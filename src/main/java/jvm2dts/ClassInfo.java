@@ -0,0 +1,261 @@
+package jvm2dts;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import static java.util.Collections.emptyMap;
+import static jvm2dts.ClassFile.*;
+
+/**
+ * Contents of a class file that are needed for filtering and conversion, read without loading the class into the JVM.
+ */
+class ClassInfo {
+  String name;
+  int access;
+  String superName;
+  List<String> interfaces;
+  /** Generic signature with the type parameters and the type arguments of supertypes, or null if the class is not generic */
+  String signature;
+  String declaringClass;
+  boolean anonymous;
+  final List<AnnotationInfo> annotations = new ArrayList<>();
+  final List<MethodInfo> methods = new ArrayList<>();
+  final List<String> enumConstants = new ArrayList<>();
+  /** toString() of each enum constant, or null if it cannot be determined without running the code */
+  final List<String> enumValues = new ArrayList<>();
+  /** Class of each enum constant that has a body, which can override toString() */
+  final Map<String, String> enumConstantBodies = new HashMap<>();
+  /** String constant that toString() returns, e.g. in the body of an enum constant, or null if it returns anything else */
+  String toStringConstant;
+  PropertyAnnotations propertyAnnotations;
+
+  record AnnotationInfo(String descriptor, Map<String, Object> values) {
+    String typeName() {
+      return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+    }
+
+    String simpleName() {
+      var typeName = typeName();
+      return typeName.substring(Math.max(typeName.lastIndexOf('.'), typeName.lastIndexOf('$')) + 1);
+    }
+  }
+
+  static class MethodInfo {
+    final int access;
+    final String name;
+    final String descriptor;
+    final String signature;
+    /** Runtime-visible annotations, like {@link java.lang.reflect.Method#getAnnotations()} */
+    final List<AnnotationInfo> annotations = new ArrayList<>();
+    /** Descriptors of all annotations, including the ones not retained at runtime */
+    final List<String> annotationDescriptors = new ArrayList<>();
+
+    MethodInfo(int access, String name, String descriptor, String signature) {
+      this.access = access;
+      this.name = name;
+      this.descriptor = descriptor;
+      this.signature = signature;
+    }
+
+    boolean isPublic() { return (access & ACC_PUBLIC) != 0; }
+    boolean isStatic() { return (access & ACC_STATIC) != 0; }
+    boolean hasNoParameters() { return descriptor.startsWith("()"); }
+  }
+
+  boolean isInterface() { return (access & ACC_INTERFACE) != 0; }
+  boolean isAnnotation() { return (access & ACC_ANNOTATION) != 0; }
+  boolean isEnum() { return (access & ACC_ENUM) != 0 && "java.lang.Enum".equals(superName); }
+  boolean isRecord() { return "java.lang.Record".equals(superName); }
+
+  /**
+   * Same as {@link Class#getDeclaredMethod(String, Class[])} with parameter types given as a descriptor prefix, e.g. "(Ljava/lang/Object;)"
+   */
+  MethodInfo declaredMethod(String name, String parameters) {
+    for (var method : methods)
+      if (method.name.equals(name) && method.descriptor.startsWith(parameters)) return method;
+    return null;
+  }
+
+  /**
+   * @param buffer contents of the class file, which are read in place
+   */
+  static ClassInfo read(ByteBuffer buffer) {
+    var file = new ClassFile(buffer);
+    var info = new ClassInfo();
+    var internalName = file.internalName();
+    info.name = toClassName(internalName);
+    info.access = file.access();
+    info.superName = toClassName(file.superName());
+    info.interfaces = file.interfaces();
+    info.interfaces.replaceAll(ClassInfo::toClassName);
+    info.signature = file.signature(file.attributes());
+    var innerClass = file.innerClass();
+    if (innerClass != null) {
+      info.declaringClass = toClassName(innerClass.outerName());
+      info.anonymous = innerClass.innerName() == null;
+    }
+    file.annotations(file.attributes(), info.annotations);
+
+    for (var field : file.fields())
+      if ((field.access() & ACC_ENUM) != 0) info.enumConstants.add(field.name());
+
+    var methods = file.methods();
+    for (var member : methods) {
+      var method = new MethodInfo(member.access(), member.name(), member.descriptor(), file.signature(member.attributes()));
+      file.annotations(member.attributes(), method.annotations);
+      file.annotationDescriptors(member.attributes(), "RuntimeVisibleAnnotations", method.annotationDescriptors);
+      file.annotationDescriptors(member.attributes(), "RuntimeInvisibleAnnotations", method.annotationDescriptors);
+      info.methods.add(method);
+    }
+    if ((info.access & ACC_ENUM) != 0) new EnumReader(file, internalName).read(methods, info);
+    info.propertyAnnotations = new PropertyAnnotations(info);
+    return info;
+  }
+
+  static String toClassName(String internalName) {
+    return internalName == null ? null : internalName.replace('/', '.');
+  }
+
+  /**
+   * Finds out toString() of enum constants from the bytecode, without running the static initializer
+   */
+  static class EnumReader {
+    final ClassFile file;
+    final String internalName;
+    boolean hasToString;
+    String toStringField;
+    final Map<String, Map<String, Integer>> constructorFieldArguments = new HashMap<>();
+    final Map<String, Construction> constructions = new HashMap<>();
+
+    EnumReader(ClassFile file, String internalName) {
+      this.file = file;
+      this.internalName = internalName;
+    }
+
+    void read(List<ClassFile.Member> methods, ClassInfo info) {
+      for (var method : methods) {
+        var code = file.code(method);
+        if (code == null) continue;
+        if (method.name().equals("<clinit>")) readInitializer(code);
+        else if (method.name().equals("<init>")) readConstructor(method.descriptor(), code);
+        else if (method.name().equals("toString") && method.descriptor().equals("()Ljava/lang/String;")) {
+          hasToString = true;
+          toStringField = returnedField(code);
+          info.toStringConstant = returnedConstant(file.code(method));
+        }
+      }
+      for (var constant : info.enumConstants) {
+        var construction = constructions.get(constant);
+        if (construction != null && !construction.type.equals(internalName))
+          info.enumConstantBodies.put(constant, toClassName(construction.type));
+        if (!hasToString) info.enumValues.add(constant);
+        else info.enumValues.add(info.toStringConstant != null ? info.toStringConstant : enumValue(construction));
+      }
+    }
+
+    private String enumValue(Construction construction) {
+      if (toStringField == null || construction == null) return null;
+      var argument = constructorFieldArguments.getOrDefault(construction.descriptor, emptyMap()).get(toStringField);
+      return argument != null && construction.arguments.get(argument) instanceof String value ? value : null;
+    }
+
+    /**
+     * Recognizes toString() methods that return a field, e.g. {@code return value;}
+     * @return name of the field, or null if the method does anything else
+     */
+    private String returnedField(ClassFile.Instructions code) {
+      if (!code.next() || code.opcode != ALOAD || code.operand != 0) return null;
+      if (!code.next() || code.opcode != GETFIELD || !code.owner().equals(internalName)) return null;
+      var field = code.name();
+      return code.next() && code.opcode == ARETURN && !code.next() ? field : null;
+    }
+
+    /**
+     * Recognizes toString() methods that return a string constant, e.g. {@code return "bee";}
+     * @return the string, or null if the method does anything else
+     */
+    private static String returnedConstant(ClassFile.Instructions code) {
+      if (!code.next() || code.opcode != LDC) return null;
+      var value = code.stringConstant();
+      return code.next() && code.opcode == ARETURN && !code.next() ? value : null;
+    }
+
+    /**
+     * Finds constructor arguments that are assigned to fields, e.g. {@code this.value = value;}
+     */
+    private void readConstructor(String descriptor, ClassFile.Instructions code) {
+      var argumentsBySlot = new HashMap<Integer, Integer>();
+      var fieldArguments = new HashMap<String, Integer>();
+      var slot = 1;
+      var argumentSizes = ClassFile.argumentSizes(descriptor);
+      for (int i = 0; i < argumentSizes.length; i++) {
+        argumentsBySlot.put(slot, i);
+        slot += argumentSizes[i];
+      }
+      constructorFieldArguments.put(descriptor, fieldArguments);
+
+      var thisLoaded = false;
+      var lastLoad = -1;
+      while (code.next()) {
+        if (code.opcode == ALOAD && code.operand == 0) {
+          thisLoaded = true;
+          lastLoad = -1;
+        } else if (code.opcode == ALOAD && thisLoaded) lastLoad = code.operand;
+        else {
+          if (code.opcode == PUTFIELD && lastLoad > 0 && argumentsBySlot.containsKey(lastLoad) && code.owner().equals(internalName))
+            fieldArguments.putIfAbsent(code.name(), argumentsBySlot.get(lastLoad));
+          thisLoaded = false;
+          lastLoad = -1;
+        }
+      }
+    }
+
+    /**
+     * Follows the operand stack of the enum static initializer to find the constructor arguments of each constant,
+     * e.g. {@code ADMIN("admin")} compiles to {@code new Role("ADMIN", 0, "admin")}.
+     */
+    private void readInitializer(ClassFile.Instructions code) {
+      var unknown = new Object();
+      var stack = new ArrayList<Object>();
+      while (code.next()) {
+        var opcode = code.opcode;
+        if (opcode == NEW) stack.add(new Instance(code.type()));
+        else if (opcode == DUP && !stack.isEmpty()) stack.add(stack.get(stack.size() - 1));
+        else if (opcode >= ACONST_NULL && opcode <= DCONST_1 || opcode == BIPUSH || opcode == SIPUSH) stack.add(unknown);
+        else if (opcode == LDC) {
+          var value = code.stringConstant();
+          stack.add(value != null ? value : unknown);
+        } else if (opcode == INVOKESPECIAL && code.name().equals("<init>")) {
+          var arguments = new Object[ClassFile.argumentSizes(code.descriptor()).length];
+          for (int i = arguments.length - 1; i >= 0; i--) arguments[i] = pop(stack, unknown);
+          if (!(pop(stack, unknown) instanceof Instance instance)) {
+            stack.clear();
+            continue;
+          }
+          var construction = new Construction(instance.type, code.descriptor(), Arrays.asList(arguments));
+          stack.replaceAll(value -> value == instance ? construction : value);
+        } else if (opcode == PUTSTATIC && code.owner().equals(internalName) && pop(stack, unknown) instanceof Construction construction)
+          constructions.put(code.name(), construction);
+        else stack.clear();
+      }
+    }
+
+    private static Object pop(List<Object> stack, Object unknown) {
+      return stack.isEmpty() ? unknown : stack.remove(stack.size() - 1);
+    }
+
+    /** Object created by a {@link ClassFile#NEW} that is not constructed yet, each one a distinct instance */
+    private static class Instance {
+      final String type;
+
+      Instance(String type) {
+        this.type = type;
+      }
+    }
+
+    /**
+     * @param type class of the constant, which is a subclass of the enum for constants with a body
+     */
+    record Construction(String type, String descriptor, List<Object> arguments) {}
+  }
+}
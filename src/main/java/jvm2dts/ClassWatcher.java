@@ -0,0 +1,83 @@
+package jvm2dts;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardWatchEventKinds.*;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Watches the directories among the input roots recursively and reports names of class files created, modified or deleted in them.
+ * Jar roots are not watched.
+ */
+class ClassWatcher implements Closeable {
+  /** Compilers write many class files in a row, so changes are collected until none arrive for this long */
+  static final long QUIET_PERIOD_MS = 100;
+
+  record Directory(Path root, Path path) {}
+
+  private final WatchService watchService;
+  private final Map<WatchKey, Directory> directories = new HashMap<>();
+
+  ClassWatcher(List<Path> roots) throws IOException {
+    watchService = FileSystems.getDefault().newWatchService();
+    for (var root : roots)
+      if (Files.isDirectory(root)) register(root, root, null);
+  }
+
+  /**
+   * Blocks until class files change, then waits for the changes to settle.
+   * @return names of the changed classes, or null if events were lost and all classes have to be considered changed
+   */
+  Set<String> awaitChanges() throws InterruptedException, IOException {
+    var changed = new TreeSet<String>();
+    var overflow = false;
+    while (changed.isEmpty() && !overflow) {
+      var key = watchService.take();
+      while (key != null) {
+        var directory = directories.get(key);
+        for (var event : key.pollEvents()) {
+          if (event.kind() == OVERFLOW) {
+            overflow = true;
+            continue;
+          }
+          var path = directory.path.resolve((Path) event.context());
+          if (event.kind() == ENTRY_CREATE && Files.isDirectory(path, NOFOLLOW_LINKS)) {
+            register(directory.root, path, changed);
+          } else {
+            var className = ClassFiles.toClassName(directory.root, path);
+            if (className != null) changed.add(className);
+          }
+        }
+        if (!key.reset()) directories.remove(key);
+        key = watchService.poll(QUIET_PERIOD_MS, MILLISECONDS);
+      }
+    }
+    return overflow ? null : changed;
+  }
+
+  /**
+   * Registers the directory and its subdirectories, adding class files already in them to found, as they may have been written before registration
+   */
+  private void register(Path root, Path dir, Set<String> found) throws IOException {
+    try (var paths = Files.walk(dir)) {
+      for (var path : (Iterable<Path>) paths::iterator) {
+        if (Files.isDirectory(path, NOFOLLOW_LINKS)) {
+          directories.put(path.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), new Directory(root, path));
+        } else if (found != null) {
+          var className = ClassFiles.toClassName(root, path);
+          if (className != null) found.add(className);
+        }
+      }
+    } catch (NoSuchFileException ignore) {
+      // deleted again before it could be registered
+    }
+  }
+
+  @Override public void close() throws IOException {
+    watchService.close();
+  }
+}
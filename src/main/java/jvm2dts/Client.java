@@ -0,0 +1,76 @@
+package jvm2dts;
+
+import java.io.*;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Thin client of a {@link Daemon}: forwards the arguments of {@link Main} together with the working directory
+ * and copies the output of the conversion to stdout and stderr, so that it behaves like running {@link Main} directly.
+ * It loads only a few JDK classes, so it starts quickly. If no daemon is listening, the conversion is run in this JVM instead.
+ * <pre>
+ * java -classpath jvm2dts.jar jvm2dts.Main -daemon build/jvm2dts.sock &amp;
+ * java -classpath jvm2dts.jar jvm2dts.Client build/jvm2dts.sock -classesDir build/classes/java/main -out build/types.d.ts
+ * </pre>
+ */
+public class Client {
+  public static void main(String[] args) throws Exception {
+    if (args.length < 1) {
+      System.err.println("Usage: java -classpath path/to/jvm2dts " + Client.class.getName() + " path/to/socket [options of " + Main.class.getName() + "]");
+      System.exit(2);
+    }
+    var mainArgs = Arrays.copyOfRange(args, 1, args.length);
+    SocketChannel channel;
+    try {
+      channel = SocketChannel.open(UnixDomainSocketAddress.of(Paths.get(args[0])));
+    } catch (IOException e) {
+      System.err.println("// No daemon listening on " + args[0] + ", converting in this JVM");
+      Main.main(mainArgs);
+      return;
+    }
+    var exitCode = run(channel, mainArgs, new FileOutputStream(FileDescriptor.out), System.err);
+    if (exitCode != 0) System.exit(exitCode);
+  }
+
+  /**
+   * Sends the arguments over the connection and copies the output of the daemon until it exits
+   * @return exit code of the conversion
+   */
+  static int run(SocketChannel channel, String[] args, OutputStream stdout, OutputStream stderr) throws IOException {
+    try (channel) {
+      var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+      out.writeUTF(Path.of("").toAbsolutePath().toString());
+      out.writeInt(args.length);
+      for (var arg : args) out.writeUTF(arg);
+      out.flush();
+
+      var in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), Main.OUTPUT_BUFFER_SIZE));
+      var buffer = new byte[Main.OUTPUT_BUFFER_SIZE];
+      while (true) {
+        var kind = in.readByte();
+        var value = in.readInt();
+        if (kind == Daemon.EXIT) {
+          stdout.flush();
+          stderr.flush();
+          return value;
+        }
+        var target = kind == Daemon.STDOUT ? stdout : stderr;
+        for (var remaining = value; remaining > 0; ) {
+          var read = in.read(buffer, 0, Math.min(remaining, buffer.length));
+          if (read < 0) throw new EOFException("Daemon closed the connection");
+          target.write(buffer, 0, read);
+          remaining -= read;
+        }
+      }
+    } catch (EOFException e) {
+      stderr.write(("// Daemon closed the connection before the conversion finished" + System.lineSeparator()).getBytes(UTF_8));
+      return 1;
+    }
+  }
+}
@@ -0,0 +1,780 @@
+package jvm2dts;
+
+import jvm2dts.ClassFiles.Attributes;
+import jvm2dts.ConversionStats.ClassEvent;
+import jvm2dts.ConversionStats.Outcome;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+
+import static java.lang.System.lineSeparator;
+import static jvm2dts.ConversionStats.Outcome.*;
+import static jvm2dts.ConversionStats.Phase.*;
+
+/**
+ * Converts classes of the input roots to TypeScript, and can be kept around between builds (e.g. in a Gradle worker daemon):
+ * every following conversion re-reads and converts only the classes that have changed since the previous one,
+ * together with their subclasses, inner classes and the classes with properties of their types, and reuses declarations of all other classes.
+ *
+ * <pre>
+ * try (var session = new ConversionSession(List.of(classesDir)).dataOnly(true).cast(Map.of("my.Id", "string"))) {
+ *   session.convert(writer);
+ * }
+ * </pre>
+ *
+ * Options must be set before the first conversion. Jar files among the roots are read only once.
+ */
+public class ConversionSession implements Closeable {
+  /** Most classes of one package converted at a time when streaming */
+  static final int STREAM_BATCH_SIZE = 256;
+  /** Batches listed ahead of conversion when streaming */
+  static final int QUEUED_BATCHES = 4;
+
+  private final List<Path> roots;
+  private final ClassFiles classFiles;
+  private ClassFilter filter;
+
+  private Set<String> packages = Set.of();
+  private String exclude;
+  private Set<String> excludedPackages = Set.of();
+  private PackageFilter packageFilter;
+  private Map<String, String> cast = Map.of();
+  private boolean dataOnly;
+  private Set<String> withAnnotations;
+  private boolean bytecode;
+  private int threads = 1;
+  private int batchSize;
+  private Path cacheFile;
+  private Path jarIndexDir;
+  private Set<String> rootClasses = Set.of();
+  private Set<String> rootAnnotations = Set.of();
+
+  private PrintStream messages = System.err;
+  private boolean allocations;
+
+  private boolean started;
+  private ForkJoinPool pool;
+  private final Map<String, Attributes> attributes = new HashMap<>();
+  private final Map<Path, JarIndex> jarIndexes = new HashMap<>();
+  private final SortedSet<String> classNames = new TreeSet<>();
+  private Set<String> reachable = Set.of();
+  private final SortedMap<String, String> declarations = new ConcurrentSkipListMap<>();
+  /** Dependencies of unchanged classes by class name, computed when they are first needed to find the classes to reconvert */
+  private final Map<String, Set<String>> dependencies = new HashMap<>();
+  /** Reads property types for {@link #dependencies(ClassInfo)}, renewed for every conversion, as it keeps type arguments of supertypes */
+  private BytecodeConverter properties;
+  private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+  private ConversionStats stats = new ConversionStats(1);
+
+  public ConversionSession(List<Path> roots) {
+    this.roots = List.copyOf(roots);
+    this.classFiles = new ClassFiles(this.roots);
+  }
+
+  /**
+   * Converts only classes directly in the given packages, all classes if empty
+   */
+  public ConversionSession packages(Collection<String> packages) {
+    checkNotStarted();
+    this.packages = Set.copyOf(packages);
+    return this;
+  }
+
+  /**
+   * Skips classes with qualified names matching the regular expression
+   */
+  public ConversionSession exclude(String regex) {
+    checkNotStarted();
+    this.exclude = regex;
+    return this;
+  }
+
+  /**
+   * Skips the given packages and all of their subpackages, without listing their directories
+   */
+  public ConversionSession excludePackages(Collection<String> packages) {
+    checkNotStarted();
+    this.excludedPackages = Set.copyOf(packages);
+    return this;
+  }
+
+  /**
+   * @param cast TypeScript types to use for qualified class names and their subclasses
+   */
+  public ConversionSession cast(Map<String, String> cast) {
+    checkNotStarted();
+    this.cast = Map.copyOf(cast);
+    return this;
+  }
+
+  /**
+   * Converts only data classes (which have implemented equals), enums and interfaces
+   */
+  public ConversionSession dataOnly(boolean dataOnly) {
+    checkNotStarted();
+    this.dataOnly = dataOnly;
+    return this;
+  }
+
+  /**
+   * Converts only classes annotated with any of the given annotations, all classes if null
+   */
+  public ConversionSession annotated(Set<String> annotations) {
+    checkNotStarted();
+    this.withAnnotations = annotations != null ? Set.copyOf(annotations) : null;
+    return this;
+  }
+
+  /**
+   * Converts classes from their class files without loading them, see {@link BytecodeConverter}
+   */
+  public ConversionSession bytecode(boolean bytecode) {
+    checkNotStarted();
+    this.bytecode = bytecode;
+    return this;
+  }
+
+  /**
+   * Number of classes to load with each class loader, 0 to load all classes with one,
+   * so that the metaspace used by loaded classes is bounded by the batch size rather than the number of classes.
+   * Supertypes shared by classes of different batches are loaded once per batch.
+   */
+  public ConversionSession batchSize(int batchSize) {
+    checkNotStarted();
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  /**
+   * Number of threads to convert classes with, the output order does not depend on it
+   */
+  public ConversionSession threads(int threads) {
+    checkNotStarted();
+    this.threads = threads;
+    return this;
+  }
+
+  /**
+   * File to keep conversion results in between processes, used by the first conversion of the session, see {@link ClassCache}
+   */
+  public ConversionSession cache(Path cacheFile) {
+    checkNotStarted();
+    this.cacheFile = cacheFile;
+    return this;
+  }
+
+  /**
+   * Directory to keep a {@link JarIndex} of every jar file among the roots in. A missing index is built by the first conversion,
+   * which converts all classes of the jar for it, following conversions take classes of the jar from the index.
+   */
+  public ConversionSession jarIndex(Path dir) {
+    checkNotStarted();
+    this.jarIndexDir = dir;
+    return this;
+  }
+
+  /**
+   * Converts only the given root classes, the classes annotated with any of the given annotations,
+   * and the classes reachable from them through method signatures and property types, see {@link Reachability}.
+   * All classes that pass the other filters are converted if both are empty.
+   */
+  public ConversionSession reachableFrom(Set<String> rootClasses, Set<String> rootAnnotations) {
+    checkNotStarted();
+    this.rootClasses = Set.copyOf(rootClasses);
+    this.rootAnnotations = Set.copyOf(rootAnnotations);
+    return this;
+  }
+
+  /**
+   * Stream to report classes that cannot be read or loaded to, stderr by default, which can be changed between conversions
+   */
+  public ConversionSession messages(PrintStream messages) {
+    this.messages = messages;
+    return this;
+  }
+
+  /**
+   * Also measures bytes allocated by every phase and class for the stats of following conversions, see {@link ConversionStats}
+   */
+  public ConversionSession allocations(boolean allocations) {
+    this.allocations = allocations;
+    return this;
+  }
+
+  List<Path> roots() {
+    return roots;
+  }
+
+  private void checkNotStarted() {
+    if (started) throw new IllegalStateException("Options must be set before the first conversion");
+  }
+
+  /**
+   * @return declarations of all classes by class name, without the export keyword, after converting the changed ones
+   */
+  public SortedMap<String, String> convert() throws IOException {
+    stats = new ConversionStats(threads, allocations);
+    convert(changedClasses(), null);
+    return Collections.unmodifiableSortedMap(declarations);
+  }
+
+  /**
+   * Writes declarations of all classes ordered by class name to the output, converting the changed ones
+   * @return number of classes that were converted, rather than reused from the previous conversion
+   */
+  public int convert(Appendable out) throws IOException {
+    stats = new ConversionStats(threads, allocations);
+    return convert(changedClasses(), out);
+  }
+
+  /**
+   * Same as {@link #convert(Appendable)}, but converts and writes classes while the roots are still being listed:
+   * class names are listed in order on another thread and converted in batches of consecutive classes of one package,
+   * so that conversion starts immediately and memory use does not grow with the number of classes.
+   * Nothing is kept for incremental conversions, a following conversion of the session converts all classes again,
+   * so this is meant for single conversions. Falls back to {@link #convert(Appendable)} with roots to follow,
+   * which needs all classes to be listed first, and after the first conversion.
+   * @return number of classes that were processed
+   */
+  public int stream(Appendable out) throws IOException {
+    if (started || !rootClasses.isEmpty() || !rootAnnotations.isEmpty()) return convert(out);
+    stats = new ConversionStats(threads, allocations);
+    var cache = cacheFile != null ? loadCache() : null;
+    filter = new ClassFilter(classFiles, dataOnly, withAnnotations);
+    properties = new BytecodeConverter(new TypeMapper(Map.of()), classFiles);
+    loadJarIndexes();
+    started = true;
+
+    var queue = new ArrayBlockingQueue<List<String>>(QUEUED_BATCHES);
+    var scan = new FutureTask<>(() -> scan(queue));
+    var scanner = new Thread(scan, "jvm2dts-scan");
+    scanner.setDaemon(true);
+    scanner.start();
+
+    var convertEvent = ConversionStats.beginPhase(CONVERT);
+    RootClassLoader classLoader = null;
+    try {
+      ClassConverter converter = null;
+      var loaded = 0;
+      for (var batch = queue.take(); !batch.isEmpty(); batch = queue.take()) {
+        if (classLoader == null || batchSize > 0 && loaded >= batchSize) {
+          if (classLoader != null) classLoader.close();
+          classLoader = new RootClassLoader(toURLs(roots), ConversionSession.class.getClassLoader());
+          converter = converter(classLoader);
+          loaded = 0;
+        }
+        loaded += batch.size();
+        var batchConverter = converter;
+        convertAll(batch, className -> {
+          var declaration = processClass(className, batchConverter, cache);
+          if (declaration != null) declarations.put(className, declaration);
+        }, out);
+        declarations.keySet().removeAll(batch);
+        classFiles.forget(batch);
+      }
+      var processed = scan.get();
+      ConversionStats.commit(convertEvent, processed);
+      if (cache != null) {
+        var event = ConversionStats.beginPhase(CACHE);
+        var start = stats.start();
+        cache.save();
+        stats.add(CACHE, start);
+        ConversionStats.commit(event, processed);
+      }
+      stats.finish();
+      return processed;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof UncheckedIOException io) throw io.getCause();
+      if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+      throw new IOException(e.getCause());
+    } finally {
+      scanner.interrupt();
+      if (classLoader != null) classLoader.close();
+    }
+  }
+
+  /**
+   * Lists included class names in order into the queue, in batches that end with the package or at {@link #STREAM_BATCH_SIZE},
+   * followed by an empty batch also if listing fails
+   * @return number of listed classes
+   */
+  private int scan(BlockingQueue<List<String>> queue) throws InterruptedException {
+    var event = ConversionStats.beginPhase(SCAN);
+    var count = 0;
+    try {
+      var batch = new ArrayList<String>();
+      var start = stats.start();
+      for (var names = classFiles.sortedClassNames(packageFilter()); names.hasNext(); ) {
+        var className = names.next();
+        stats.add(SCAN, start);
+        count++;
+        if (!batch.isEmpty() && (batch.size() >= STREAM_BATCH_SIZE || !samePackage(className, batch.get(0)))) {
+          queue.put(batch);
+          batch = new ArrayList<>();
+        }
+        batch.add(className);
+        start = stats.start();
+      }
+      if (!batch.isEmpty()) queue.put(batch);
+    } finally {
+      ConversionStats.commit(event, count);
+      queue.put(List.of());
+    }
+    return count;
+  }
+
+  private static boolean samePackage(String className, String other) {
+    var end = className.lastIndexOf('.');
+    return end == other.lastIndexOf('.') && className.regionMatches(0, other, 0, Math.max(end, 0));
+  }
+
+  /**
+   * Writes declarations of all classes into one file per package, see {@link ShardedOutput}, converting the changed ones.
+   * Files are written in parallel with the configured number of threads.
+   * @return number of classes that were converted, rather than reused from the previous conversion
+   */
+  public int convert(ShardedOutput out) throws IOException {
+    stats = new ConversionStats(threads, allocations);
+    var converted = convert(changedClasses(), null);
+    write(out);
+    return converted;
+  }
+
+  /**
+   * @param changed names of classes whose class files may have been added, modified or deleted since the previous conversion,
+   *                e.g. reported by a {@link ClassWatcher}
+   */
+  int convert(Set<String> changed, ShardedOutput out) throws IOException {
+    var converted = convert(changed, (Appendable) null);
+    write(out);
+    return converted;
+  }
+
+  /**
+   * @param changed names of classes whose class files may have been added, modified or deleted since the previous conversion,
+   *                e.g. reported by a {@link ClassWatcher}
+   */
+  int convert(Set<String> changed, Appendable out) throws IOException {
+    stats = new ConversionStats(threads, allocations);
+    var event = ConversionStats.beginPhase(SCAN);
+    var start = stats.start();
+    var changedAttributes = new HashMap<String, Attributes>();
+    for (var className : changed) changedAttributes.put(className, classFiles.attributes(className));
+    stats.add(SCAN, start);
+    ConversionStats.commit(event, changed.size());
+    return convert(changedAttributes, out);
+  }
+
+  /**
+   * @return current attributes of classes in the roots whose class files were added, modified or deleted since the previous conversion,
+   *         null for deleted ones
+   */
+  private Map<String, Attributes> changedClasses() throws IOException {
+    var event = ConversionStats.beginPhase(SCAN);
+    var start = stats.start();
+    var changed = new HashMap<String, Attributes>();
+    var current = classFiles.classNames(scanFilter(), threads > 1 ? pool() : null);
+    for (var className : current) {
+      var attrs = classFiles.attributes(className);
+      if (!Objects.equals(attrs, attributes.get(className))) changed.put(className, attrs);
+    }
+    for (var className : attributes.keySet())
+      if (!current.contains(className)) changed.put(className, null);
+    stats.add(SCAN, start);
+    ConversionStats.commit(event, current.size());
+    return changed;
+  }
+
+  private int convert(Map<String, Attributes> changed, Appendable out) throws IOException {
+    var cache = !started && cacheFile != null ? loadCache() : null;
+    classFiles.invalidate(changed.keySet());
+    properties = new BytecodeConverter(new TypeMapper(Map.of()), classFiles);
+    if (!started) {
+      filter = new ClassFilter(classFiles, dataOnly, withAnnotations);
+      loadJarIndexes();
+    }
+    started = true;
+
+    for (var change : changed.entrySet()) {
+      var className = change.getKey();
+      if (change.getValue() != null) attributes.put(className, change.getValue());
+      else attributes.remove(className);
+      if (change.getValue() != null && isIncluded(className)) classNames.add(className);
+      else classNames.remove(className);
+      if (change.getValue() != null && !classNames.contains(className)) stats.add(EXCLUDED);
+    }
+    var targets = classNames;
+    var newlyReachable = Set.<String>of();
+    if (!rootClasses.isEmpty() || !rootAnnotations.isEmpty()) {
+      var event = ConversionStats.beginPhase(REACH);
+      var start = stats.start();
+      var previous = reachable;
+      reachable = new Reachability(classFiles, rootClasses, rootAnnotations).reachable(attributes.keySet());
+      stats.add(REACH, start);
+      ConversionStats.commit(event, reachable.size());
+      newlyReachable = new HashSet<>(reachable);
+      newlyReachable.removeAll(previous);
+      targets = new TreeSet<>(classNames);
+      targets.retainAll(reachable);
+      stats.add(UNREACHABLE, classNames.size() - targets.size());
+    }
+    declarations.keySet().retainAll(targets);
+
+    var dirty = new HashSet<String>();
+    for (var className : targets) {
+      var info = changed.containsKey(className) || newlyReachable.contains(className) ? null : classFiles.info(className);
+      if (info == null || !Collections.disjoint(dependencies.computeIfAbsent(className, name -> dependencies(info)), changed.keySet()))
+        dirty.add(className);
+    }
+    // dependencies of a class can only change with the class or one of its dependencies, i.e. when it is reconverted
+    dependencies.keySet().retainAll(targets);
+    dependencies.keySet().removeAll(dirty);
+
+    var convertEvent = ConversionStats.beginPhase(CONVERT);
+    for (var batch : batches(new ArrayList<>(targets))) {
+      try (var classLoader = new RootClassLoader(toURLs(roots), ConversionSession.class.getClassLoader())) {
+        var converter = converter(classLoader);
+        convertAll(batch, className -> {
+          if (!dirty.contains(className)) {
+            stats.add(UNCHANGED);
+            return;
+          }
+          var declaration = processClass(className, converter, cache);
+          if (declaration != null) declarations.put(className, declaration);
+          else declarations.remove(className);
+        }, out);
+      }
+    }
+    ConversionStats.commit(convertEvent, dirty.size());
+    if (cache != null) {
+      var event = ConversionStats.beginPhase(CACHE);
+      var start = stats.start();
+      cache.save();
+      stats.add(CACHE, start);
+      ConversionStats.commit(event, classNames.size());
+    }
+    stats.finish();
+    return dirty.size();
+  }
+
+  /**
+   * @return timings and class counts of the last conversion
+   */
+  ConversionStats stats() {
+    return stats;
+  }
+
+  private ClassCache loadCache() {
+    var event = ConversionStats.beginPhase(CACHE);
+    var start = stats.start();
+    var cache = new ClassCache(cacheFile, classFiles, cacheOptions());
+    stats.add(CACHE, start);
+    ConversionStats.commit(event, 0);
+    return cache;
+  }
+
+  /**
+   * Reads the indexes of all jar files among the roots, building the missing ones
+   */
+  private void loadJarIndexes() throws IOException {
+    if (jarIndexDir == null) return;
+    var options = "cast=" + new TreeMap<>(cast) + " bytecode=" + bytecode;
+    for (var root : roots) {
+      var jar = classFiles.jar(root);
+      if (jar == null) continue;
+      var event = ConversionStats.beginPhase(INDEX);
+      var start = stats.start();
+      var index = new JarIndex(jarIndexDir, root, jar.checksum(), options);
+      stats.add(INDEX, start);
+      if (!index.isLoaded()) {
+        buildJarIndex(root, jar, index);
+        start = stats.start();
+        index.save();
+        stats.add(INDEX, start);
+      }
+      jarIndexes.put(root, index);
+      ConversionStats.commit(event, index.size());
+    }
+  }
+
+  /**
+   * Converts all classes of the jar that are read from it, except the ones that depend on classes in other roots
+   * (supertypes, outer classes or property types), which can change without the jar changing, and the ones that fail to convert, so that they are reported on every run
+   */
+  private void buildJarIndex(Path root, MappedJar jar, JarIndex index) throws IOException {
+    try (var classLoader = new RootClassLoader(toURLs(roots), ConversionSession.class.getClassLoader())) {
+      var converter = converter(classLoader);
+      var out = new StringBuilder();
+      for (var name : jar.names()) {
+        if (!ClassFiles.isClassFile(name)) continue;
+        var className = ClassFiles.toClassName(name);
+        if (!root.equals(classFiles.root(className))) continue;
+        var info = classFiles.info(className);
+        if (info == null || !isSelfContained(info, root)) continue;
+        try {
+          out.setLength(0);
+          var declaration = converter.convert(info, out, new ClassEvent()) ? out.toString() : null;
+          index.put(className, new JarIndex.Entry(ClassFilter.isDataType(info), filter.annotationNames(info), declaration));
+        } catch (Throwable ignored) {
+          // left out of the index, so that it is converted and its failure reported as usual
+        }
+      }
+    }
+  }
+
+  private boolean isSelfContained(ClassInfo info, Path root) {
+    for (var dependency : dependencies(info)) {
+      var dependencyRoot = classFiles.root(dependency);
+      if (dependencyRoot != null && !dependencyRoot.equals(root)) return false;
+    }
+    return true;
+  }
+
+  /**
+   * @return the entry of the class in the index of the jar it is read from, or null if it is not indexed
+   */
+  private JarIndex.Entry indexed(String className) {
+    if (jarIndexes.isEmpty()) return null;
+    var root = classFiles.root(className);
+    var index = root != null ? jarIndexes.get(root) : null;
+    return index != null ? index.get(className) : null;
+  }
+
+  /**
+   * Every batch is loaded by its own class loader, which can be unloaded together with its classes once the batch is converted.
+   * Batches are consecutive in class name order, so that the output order stays the same.
+   */
+  private List<List<String>> batches(List<String> classNames) {
+    if (bytecode || batchSize <= 0 || classNames.size() <= batchSize) return List.of(classNames);
+    var batches = new ArrayList<List<String>>();
+    for (int i = 0; i < classNames.size(); i += batchSize)
+      batches.add(classNames.subList(i, Math.min(i + batchSize, classNames.size())));
+    return batches;
+  }
+
+  private boolean isIncluded(String className) {
+    return packageFilter().includes(className);
+  }
+
+  private PackageFilter packageFilter() {
+    if (packageFilter == null) packageFilter = new PackageFilter(packages, excludedPackages, exclude);
+    return packageFilter;
+  }
+
+  /**
+   * Roots may be outside of the converted packages, so only excluded packages are skipped when following them
+   */
+  private PackageFilter scanFilter() {
+    if (!rootClasses.isEmpty() || !rootAnnotations.isEmpty()) return new PackageFilter(Set.of(), excludedPackages, null);
+    return packageFilter();
+  }
+
+  private String cacheOptions() {
+    var annotations = withAnnotations != null ? new TreeSet<>(withAnnotations) : null;
+    return "dataOnly=" + dataOnly + " annotated=" + annotations + " exclude=" + exclude + " excludePackages=" + new TreeSet<>(excludedPackages) + " cast=" + new TreeMap<>(cast) + " bytecode=" + bytecode;
+  }
+
+  private interface ClassConverter {
+    /**
+     * @param event receives load and conversion times of the class
+     */
+    boolean convert(ClassInfo info, StringBuilder out, ClassEvent event);
+  }
+
+  /**
+   * Classes are loaded with a new class loader for every conversion, so that their current versions are converted
+   */
+  private ClassConverter converter(ClassLoader classLoader) {
+    if (bytecode) {
+      var converter = new BytecodeConverter(TypeMapper.ofNames(cast), classFiles);
+      return (info, out, event) -> {
+        var start = stats.start();
+        var converted = converter.convert(info, out);
+        event.convertTime = stats.add(CONVERT, start);
+        return converted;
+      };
+    }
+
+    var customTypes = new HashMap<Class<?>, String>();
+    for (var entry : cast.entrySet()) {
+      try {
+        customTypes.put(Class.forName(entry.getKey(), false, classLoader), entry.getValue());
+      } catch (ClassNotFoundException e) {
+        throw new IllegalArgumentException("Cannot cast missing class " + entry.getKey(), e);
+      }
+    }
+    var converter = new Converter(new TypeMapper(customTypes), classFiles);
+    return (info, out, event) -> {
+      var start = stats.start();
+      Class<?> clazz;
+      try {
+        clazz = Class.forName(info.name, true, classLoader);
+      } catch (ClassNotFoundException e) {
+        throw new NoClassDefFoundError(e.getMessage());
+      }
+      event.loadTime = stats.add(LOAD, start);
+      start = stats.start();
+      var converted = converter.convert(clazz, out);
+      event.convertTime = stats.add(CONVERT, start);
+      return converted;
+    };
+  }
+
+  /**
+   * Converts classes on a work-stealing pool of the given size, but writes them in the original order,
+   * so that the output is identical to a single-threaded run.
+   */
+  private void convertAll(List<String> classNames, Consumer<String> processor, Appendable out) throws IOException {
+    var stream = threads <= 1 ? classNames.stream() : classNames.parallelStream();
+    run(() -> stream.peek(processor).forEachOrdered(className -> write(out, className)));
+  }
+
+  private void write(ShardedOutput out) throws IOException {
+    var event = ConversionStats.beginPhase(WRITE);
+    var start = stats.start();
+    Files.createDirectories(out.dir());
+    var shards = out.group(declarations);
+    var declaringShards = ShardedOutput.declaringShards(shards);
+    var stream = threads <= 1 ? shards.entrySet().stream() : shards.entrySet().parallelStream();
+    run(() -> stream.forEach(shard -> {
+      try {
+        out.write(shard.getKey(), shard.getValue(), declaringShards);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }));
+    out.deleteStale(shards.keySet());
+    stats.add(WRITE, start);
+    ConversionStats.commit(event, shards.size());
+    stats.finish();
+  }
+
+  /**
+   * Runs the task on the pool if there is more than one thread, so that parallel streams in it use the pool
+   */
+  private void run(Runnable task) throws IOException {
+    try {
+      if (threads <= 1) task.run();
+      else pool().submit(task).get();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof UncheckedIOException io) throw io.getCause();
+      if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+      throw (Error) e.getCause();
+    }
+  }
+
+  private synchronized ForkJoinPool pool() {
+    if (pool == null) pool = new ForkJoinPool(threads);
+    return pool;
+  }
+
+  private void write(Appendable out, String className) {
+    var declaration = declarations.get(className);
+    if (out == null || declaration == null) return;
+    var start = stats.start();
+    try {
+      out.append("// ").append(className).append(lineSeparator()).append("export ").append(declaration).append(lineSeparator());
+      stats.add(WRITE, start);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Filters the class by its class file first, so that rejected classes are never loaded, then converts it.
+   */
+  private String processClass(String className, ClassConverter converter, ClassCache cache) {
+    var event = stats.beginClass(className);
+    try {
+      var indexed = indexed(className);
+      if (indexed != null) {
+        var data = !dataOnly || indexed.data();
+        var annotated = withAnnotations == null || !Collections.disjoint(indexed.annotations(), withAnnotations);
+        var declaration = data && annotated ? indexed.declaration() : null;
+        stats.record(event, declaration != null ? INDEXED : outcome(data, annotated, null));
+        return declaration;
+      }
+      if (cache != null) {
+        var start = stats.start();
+        var cached = cache.get(className);
+        stats.add(CACHE, start);
+        if (cached != null) {
+          stats.record(event, CACHED);
+          return cached.declaration();
+        }
+      }
+      var start = stats.start();
+      var info = classFiles.info(className);
+      event.readTime = stats.add(READ, start);
+      if (info == null) {
+        messages.println("// Failed to read class file of " + className);
+        stats.record(event, UNREADABLE);
+        return null;
+      }
+      start = stats.start();
+      var data = filter.passesDataFilter(info);
+      var annotated = filter.passesAnnotationFilter(info);
+      event.filterTime = stats.add(FILTER, start);
+      var out = buffers.get();
+      out.setLength(0);
+      var converted = data && annotated && converter.convert(info, out, event) ? out.toString() : null;
+      if (cache != null) cache.put(className, dependencies(info), data, annotated, converted);
+      stats.record(event, outcome(data, annotated, converted));
+      return converted;
+    } catch (Throwable e) {
+      messages.println("// Failed to load class " + className + ": " + e.getMessage());
+      stats.record(event, FAILED);
+    }
+    return null;
+  }
+
+  /**
+   * @return classes that the declaration and filtering of the class depend on: its supertypes and outer classes,
+   * and the types of its properties with their supertypes, which decide casts and whether a property is a map or an array
+   */
+  private Set<String> dependencies(ClassInfo info) {
+    var result = new TreeSet<>(classFiles.relatedClasses(info));
+    for (var type : properties.propertyTypes(info)) result.addAll(classFiles.superTypes(type));
+    result.remove(info.name);
+    return result;
+  }
+
+  private static Outcome outcome(boolean data, boolean annotated, String converted) {
+    if (!data) return NOT_DATA;
+    if (!annotated) return NOT_ANNOTATED;
+    return converted != null ? CONVERTED : SKIPPED;
+  }
+
+  private static URL[] toURLs(List<Path> roots) throws MalformedURLException {
+    var urls = new URL[roots.size()];
+    for (int i = 0; i < urls.length; i++) urls[i] = roots.get(i).toUri().toURL();
+    return urls;
+  }
+
+  @Override public void close() {
+    if (pool != null) pool.shutdown();
+    classFiles.close();
+  }
+}
@@ -0,0 +1,264 @@
+package jvm2dts;
+
+import jdk.jfr.*;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Comparator.comparingLong;
+
+/**
+ * Collects time spent in every phase of a conversion and what happened to every class, printed with -stats.
+ * If requested, also bytes allocated by every phase and class, measured on the thread that runs it,
+ * so allocations of work that a phase hands to other threads count only where those threads record them.
+ * The same data is emitted as JFR events, so that conversions can be profiled with Flight Recorder:
+ * <pre>
+ * java -XX:StartFlightRecording:filename=jvm2dts.jfr ... jvm2dts.Main ...
+ * jfr print --events jvm2dts.* jvm2dts.jfr
+ * </pre>
+ */
+class ConversionStats {
+  static final int SLOWEST_CLASSES = 10;
+
+  enum Phase {
+    SCAN("listing class files"),
+    REACH("following -roots"),
+    CACHE("reading the cache"),
+    INDEX("jar indexes"),
+    READ("parsing class files"),
+    FILTER("filtering"),
+    LOAD("loading classes"),
+    CONVERT("converting"),
+    WRITE("writing output");
+
+    final String description;
+
+    Phase(String description) {
+      this.description = description;
+    }
+  }
+
+  enum Outcome {
+    CONVERTED("converted"),
+    CACHED("reused from cache"),
+    INDEXED("served from jar indexes"),
+    UNCHANGED("unchanged since previous conversion"),
+    EXCLUDED("excluded by package or -exclude"),
+    UNREACHABLE("not reachable from -roots"),
+    NOT_DATA("not data classes"),
+    NOT_ANNOTATED("not annotated"),
+    SKIPPED("skipped by converter"),
+    UNREADABLE("unreadable class files"),
+    FAILED("failed");
+
+    final String description;
+
+    Outcome(String description) {
+      this.description = description;
+    }
+  }
+
+  @Name("jvm2dts.ClassConversion")
+  @Label("Class Conversion")
+  @Category("jvm2dts")
+  @StackTrace(false)
+  static class ClassEvent extends Event {
+    @Label("Class") String className;
+    @Label("Outcome") String outcome;
+    @Label("Read Time") @Timespan long readTime;
+    @Label("Filter Time") @Timespan long filterTime;
+    @Label("Load Time") @Timespan long loadTime;
+    @Label("Convert Time") @Timespan long convertTime;
+    @Label("Allocated") @DataAmount long allocated;
+    /** Allocated bytes of the thread when the class was started, not recorded by JFR */
+    transient long allocatedAtBegin;
+  }
+
+  @Name("jvm2dts.Phase")
+  @Label("Conversion Phase")
+  @Category("jvm2dts")
+  @StackTrace(false)
+  static class PhaseEvent extends Event {
+    @Label("Phase") String phase;
+    @Label("Classes") int classes;
+  }
+
+  record ClassTime(String className, long nanos, long bytes) {}
+
+  /**
+   * Start of a phase on the current thread, from {@link #start()}
+   */
+  record Mark(long nanos, long bytes) {}
+
+  /**
+   * Loaded only when allocations are measured, as the management API takes a while to initialize
+   */
+  private static class Allocations {
+    static final com.sun.management.ThreadMXBean THREADS =
+      ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemoryEnabled() ? threads : null;
+  }
+
+  private final int threads;
+  private final boolean allocations;
+  private final long start = System.nanoTime();
+  private long end;
+  private final LongAdder[] phaseNanos = new LongAdder[Phase.values().length];
+  private final LongAdder[] phaseBytes = new LongAdder[Phase.values().length];
+  private final LongAdder[] outcomes = new LongAdder[Outcome.values().length];
+  private final PriorityQueue<ClassTime> slowest = new PriorityQueue<>(comparingLong(ClassTime::nanos));
+
+  ConversionStats(int threads) {
+    this(threads, false);
+  }
+
+  /**
+   * @param allocations whether to measure allocated bytes, which are also measured while the class conversion event of JFR is enabled
+   */
+  ConversionStats(int threads, boolean allocations) {
+    this.threads = Math.max(threads, 1);
+    this.allocations = (allocations || new ClassEvent().isEnabled()) && Allocations.THREADS != null;
+    for (int i = 0; i < phaseNanos.length; i++) phaseNanos[i] = new LongAdder();
+    for (int i = 0; i < phaseBytes.length; i++) phaseBytes[i] = new LongAdder();
+    for (int i = 0; i < outcomes.length; i++) outcomes[i] = new LongAdder();
+  }
+
+  private long allocatedBytes() {
+    return allocations ? Allocations.THREADS.getCurrentThreadAllocatedBytes() : 0;
+  }
+
+  Mark start() {
+    return new Mark(System.nanoTime(), allocatedBytes());
+  }
+
+  /**
+   * Adds the time and allocated bytes since the start to the phase
+   * @return time spent
+   */
+  long add(Phase phase, Mark start) {
+    var nanos = System.nanoTime() - start.nanos;
+    phaseNanos[phase.ordinal()].add(nanos);
+    if (allocations) phaseBytes[phase.ordinal()].add(allocatedBytes() - start.bytes);
+    return nanos;
+  }
+
+  void add(Outcome outcome) {
+    outcomes[outcome.ordinal()].increment();
+  }
+
+  void add(Outcome outcome, int count) {
+    outcomes[outcome.ordinal()].add(count);
+  }
+
+  ClassEvent beginClass(String className) {
+    var event = new ClassEvent();
+    event.begin();
+    event.className = className;
+    event.allocatedAtBegin = allocatedBytes();
+    return event;
+  }
+
+  /**
+   * Records a processed class, started with {@link #beginClass(String)} on the same thread, whose phase times have already been added
+   */
+  void record(ClassEvent event, Outcome outcome) {
+    add(outcome);
+    event.end();
+    if (allocations) event.allocated = allocatedBytes() - event.allocatedAtBegin;
+    var nanos = event.readTime + event.filterTime + event.loadTime + event.convertTime;
+    synchronized (slowest) {
+      if (slowest.size() < SLOWEST_CLASSES || slowest.peek().nanos < nanos) {
+        slowest.add(new ClassTime(event.className, nanos, event.allocated));
+        if (slowest.size() > SLOWEST_CLASSES) slowest.poll();
+      }
+    }
+    if (event.shouldCommit()) {
+      event.outcome = outcome.description;
+      event.commit();
+    }
+  }
+
+  static PhaseEvent beginPhase(Phase phase) {
+    var event = new PhaseEvent();
+    event.begin();
+    event.phase = phase.description;
+    return event;
+  }
+
+  static void commit(PhaseEvent event, int classes) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.classes = classes;
+      event.commit();
+    }
+  }
+
+  void finish() {
+    end = System.nanoTime();
+  }
+
+  long phaseNanos(Phase phase) {
+    return phaseNanos[phase.ordinal()].sum();
+  }
+
+  long phaseBytes(Phase phase) {
+    return phaseBytes[phase.ordinal()].sum();
+  }
+
+  long count(Outcome outcome) {
+    return outcomes[outcome.ordinal()].sum();
+  }
+
+  List<ClassTime> slowest() {
+    synchronized (slowest) {
+      var result = new ArrayList<>(slowest);
+      result.sort(comparingLong(ClassTime::nanos).reversed());
+      return result;
+    }
+  }
+
+  /**
+   * Prints the breakdown as comments, so that it can be told apart from declarations when both go to the console.
+   * Times of phases that run for every class are summed over all threads, so with -threads they can exceed the wall time.
+   * The breakdown is printed at once, so that breakdowns of conversions running in parallel do not interleave.
+   */
+  void print(PrintStream stream) {
+    var text = new StringWriter();
+    var out = new PrintWriter(text);
+    var total = 0L;
+    for (var count : outcomes) total += count.sum();
+    out.println("// " + total + " classes in " + millis(end - start) + " ms with " + threads + (threads == 1 ? " thread" : " threads"));
+    for (var phase : Phase.values()) {
+      var nanos = phaseNanos(phase);
+      if (nanos == 0) continue;
+      out.printf("//   %-22s %8s ms", phase.description, millis(nanos));
+      if (allocations) out.printf(" %8s MB allocated", megabytes(phaseBytes(phase)));
+      out.println();
+    }
+    for (var outcome : Outcome.values()) {
+      var count = count(outcome);
+      if (count > 0) out.printf("//   %-40s %6d%n", outcome.description, count);
+    }
+    var slowest = slowest();
+    if (!slowest.isEmpty()) {
+      out.println("// slowest classes:");
+      for (var time : slowest) {
+        if (allocations) out.printf("//   %8s ms %8s MB %s%n", millis(time.nanos), megabytes(time.bytes), time.className);
+        else out.printf("//   %8s ms %s%n", millis(time.nanos), time.className);
+      }
+    }
+    out.flush();
+    stream.print(text);
+  }
+
+  private static String millis(long nanos) {
+    return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+  }
+
+  private static String megabytes(long bytes) {
+    return String.format(Locale.ROOT, "%.1f", bytes / (double) (1 << 20));
+  }
+}
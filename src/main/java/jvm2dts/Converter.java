@@ -1,18 +1,16 @@
 package jvm2dts;
 
-import jdk.internal.org.objectweb.asm.*;
-
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
-import static java.lang.reflect.Modifier.isPublic;
 import static java.lang.reflect.Modifier.isStatic;
 import static java.util.Arrays.stream;
-import static java.util.Collections.emptyList;
-import static java.util.Comparator.comparing;
 import static java.util.Comparator.naturalOrder;
 import static java.util.logging.Level.SEVERE;
 import static java.util.stream.Collectors.toMap;
@@ -20,66 +18,130 @@ import static java.util.stream.Collectors.toMap;
 public class Converter {
   Logger logger = Logger.getLogger(Converter.class.getName());
 
-  static final int ASM_VERSION = detectAsmVersion();
   TypeMapper typeMapper;
+  ClassFiles classFiles;
+  TypeRenderer typeRenderer;
 
-  static int detectAsmVersion() {
-    try {
-      var asmField = stream(Opcodes.class.getDeclaredFields()).filter(f -> f.getName().startsWith("ASM") && !f.getName().contains("_"))
-        .max(comparing(Field::getName)).get();
-      return (int) asmField.get(null);
-    } catch (Exception e) {
-      System.err.println("Could not detect ASM version: " + e.getMessage());
-      return Opcodes.ASM8; // Java 17
-    }
+  public Converter(TypeMapper typeMapper) {
+    this(typeMapper, null);
   }
 
-  public Converter(TypeMapper typeMapper) {
+  /**
+   * @param classFiles input roots to read class files from, instead of looking them up from the class loader of each class
+   */
+  Converter(TypeMapper typeMapper, ClassFiles classFiles) {
     this.typeMapper = typeMapper;
+    this.classFiles = classFiles;
+    this.typeRenderer = new TypeRenderer(typeMapper, classFiles);
   }
 
   public static String tsName(Class<?> clazz) {
-    var name = clazz.getName();
-    name = name.substring(name.lastIndexOf('.') + 1).replace("$", "").replace(";", "");
-    return name;
+    return tsName(clazz.getName());
+  }
+
+  public static String tsName(String className) {
+    return className.substring(className.lastIndexOf('.') + 1).replace("$", "").replace(";", "");
   }
 
   public String convert(Class<?> clazz) {
+    var out = new StringBuilder();
+    return convert(clazz, out) ? out.toString() : null;
+  }
+
+  /**
+   * Writes the declaration of the class straight to the output, without building intermediate strings
+   * @return false if there is nothing to declare for the class, leaving the output as it was
+   */
+  public boolean convert(Class<?> clazz, StringBuilder out) {
     if (clazz.isAnnotation() || clazz.getSimpleName().isEmpty())
-      return null;
+      return false;
     else if (clazz.isEnum())
-      return convertEnum(clazz);
+      return convertEnum(clazz, out);
     else
-      return convertClass(clazz);
+      return convertClass(clazz, out);
   }
 
-  private String convertEnum(Class<?> clazz) {
-    var output = new StringBuilder("enum ").append(tsName(clazz)).append(" {");
+  private boolean convertEnum(Class<?> clazz, StringBuilder out) {
+    out.append("enum ").append(tsName(clazz)).append(" {");
 
     try {
       var enumConstants = clazz.getEnumConstants();
       for (int i = 0; i < enumConstants.length; i++) {
         Object field = enumConstants[i];
         //noinspection rawtypes
-        output.append(((Enum) field).name()).append(" = '").append(field).append("'");
+        out.append(((Enum) field).name()).append(" = '").append(field).append("'");
         if (i + 1 < enumConstants.length)
-          output.append(", ");
+          out.append(", ");
       }
     } catch (Exception e) {
       logger.log(SEVERE, "Converting Enum failed: " + clazz, e);
     }
 
-    output.append("}");
-    return output.toString();
+    out.append("}");
+    return true;
+  }
+
+  private boolean convertClass(Class<?> clazz, StringBuilder out) {
+    var properties = this.properties.get(clazz);
+    if (properties.isEmpty()) return false;
+
+    out.append("interface ").append(tsName(clazz)).append(" {");
+    for (int i = 0; i < properties.size(); i++) {
+      var property = properties.get(i);
+      out.append(property.name).append(property.modifiers).append(": ").append(property.type);
+      out.append(i + 1 < properties.size() ? "; " : ";");
+    }
+    out.append("}");
+    return true;
   }
 
-  private String convertClass(Class<?> clazz) {
-    var out = new StringBuilder("interface ").append(tsName(clazz)).append(" {");
-    var nonRuntimeAnnotations = new LinkedHashMap<String, List<String>>();
+  /**
+   * Analysis of a getter that does not depend on the class it is inherited into,
+   * so it is done only once for all subclasses of the class declaring it
+   * @param jsonName value of JsonProperty, or null if there is no such annotation
+   * @param type generic return type, or the type argument of {@link Optional}
+   */
+  record Getter(boolean ignored, String jsonName, boolean optional, Type type) {}
+
+  /**
+   * @param modifiers question marks for nullable and optional properties
+   * @param type TypeScript type of the property in the class it is inherited into
+   */
+  record Property(String name, String modifiers, Getter getter, String type) {}
+
+  final Map<Method, Getter> getters = new ConcurrentHashMap<>();
+
+  private final ClassValue<List<Property>> properties = new ClassValue<>() {
+    @Override protected List<Property> computeValue(Class<?> clazz) {
+      return properties(clazz);
+    }
+  };
+
+  /**
+   * Annotation index of the classes declaring getters, which are often superclasses of the converted classes
+   */
+  private final ClassValue<PropertyAnnotations> propertyAnnotations = new ClassValue<>() {
+    @Override protected PropertyAnnotations computeValue(Class<?> clazz) {
+      try {
+        return classInfo(clazz).propertyAnnotations;
+      } catch (Exception e) {
+        logger.log(SEVERE, "Failed to read annotations of " + clazz, e);
+        return PropertyAnnotations.NONE;
+      }
+    }
+  };
+
+  /**
+   * @return properties of the class in the order they are declared, as far as they could be read
+   */
+  private List<Property> properties(Class<?> clazz) {
+    var properties = new ArrayList<Property>();
 
     try {
-      var in = clazz.getClassLoader().getResourceAsStream(clazz.getName().replace(".", "/") + ".class");
-      new ClassReader(in).accept(new ClassAnnotationExtractor(nonRuntimeAnnotations), ClassReader.SKIP_CODE);
+      var info = classInfo(clazz);
+      var publicMethodNames = new LinkedHashSet<String>();
+      for (var method : info.methods)
+        if (method.isPublic()) publicMethodNames.add(method.name);
 
       var getters = clazz.isRecord() ?
         stream(clazz.getMethods())
@@ -89,7 +151,7 @@ public class Converter {
           .filter(m -> !isStatic(m.getModifiers()) && m.getParameterCount() == 0 && isLikeGetter(m.getName()))
           .collect(toMap(m -> toPropertyName(m.getName()), m -> m, (m1, m2) -> m1.getReturnType().isAssignableFrom(m2.getReturnType()) ? m2 : m1));
 
-      var methodNamesInOrder = new ArrayList<>(nonRuntimeAnnotations.keySet());
+      var methodNamesInOrder = new ArrayList<>(publicMethodNames);
       methodNamesInOrder.retainAll(getters.keySet());
 
       var superClassGetters = new ArrayList<>(getters.keySet());
@@ -98,171 +160,83 @@ public class Converter {
       methodNamesInOrder.addAll(superClassGetters);
 
       for (String name : methodNamesInOrder) {
-        processProperty(out, name, getters.get(name), nonRuntimeAnnotations);
+        var property = property(clazz, name, getters.get(name), info.propertyAnnotations);
+        if (property != null) properties.add(property);
       }
     } catch (Exception e) {
       logger.log(SEVERE, "Failed to convert " + clazz, e);
     }
+    return properties;
+  }
 
-    if (out.charAt(out.length() - 1) == ' ') out.setLength(out.length() - 1);
-    out.append("}");
-    var result = out.toString();
-    return result.endsWith("{}") ? null : result;
+  /**
+   * @return the parsed class file, shared with filtering when reading from input roots
+   */
+  private ClassInfo classInfo(Class<?> clazz) throws IOException {
+    var info = classFiles != null ? classFiles.info(clazz.getName()) : null;
+    if (info != null) return info;
+    var resourceName = ClassFiles.toResourceName(clazz.getName());
+    var loader = clazz.getClassLoader();
+    try (var in = loader != null ? loader.getResourceAsStream(resourceName) : ClassLoader.getSystemResourceAsStream(resourceName)) {
+      if (in == null) throw new IOException("Class file not found for " + clazz);
+      return ClassInfo.read(ByteBuffer.wrap(in.readAllBytes()));
+    }
   }
 
   static boolean isLikeGetter(String methodName) {
     return (methodName.startsWith("get") || methodName.startsWith("is")) && !methodName.equals("getClass");
   }
 
-  private void processProperty(StringBuilder out, String propertyName, Method method, Map<String, List<String>> nonRuntimeAnnotations) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-    var fieldBuffer = new StringBuilder();
+  /**
+   * @return the property, or null if it is ignored
+   */
+  private Property property(Class<?> clazz, String propertyName, Method method, PropertyAnnotations propertyAnnotations) throws ReflectiveOperationException {
+    var getter = getter(method);
+    if (getter.ignored) return null;
 
-    if (propertyName == null) return;
     var dashPos = propertyName.indexOf('-');
     if (dashPos > 0) propertyName = propertyName.substring(0, dashPos);
-
-    var annotations = method.getAnnotations();
-    try {
-      if (annotations.length == 0)
-        annotations = method.getDeclaringClass().getMethod(method.getName() + "$annotations").getAnnotations();
-    } catch (NoSuchMethodException ignore) {}
-
-    for (Annotation annotation : annotations) {
-      String annotationName = annotation.annotationType().getSimpleName();
-      if (annotationName.equals("JsonIgnore")) return;
-      else if (annotationName.equals("JsonProperty")) {
-        var overriddenName = (String) annotation.getClass().getMethod("value").invoke(annotation);
-        if (!overriddenName.isEmpty()) propertyName = overriddenName;
-        if (!propertyName.matches("^\\w+$")) propertyName = "\"" + propertyName + "\"";
-      }
-    }
-
-    fieldBuffer.append(propertyName);
-
-    if (!nonRuntimeAnnotations.isEmpty()) {
-      for (var annotation : nonRuntimeAnnotations.getOrDefault(method.getName(), emptyList()))
-        if (annotation.contains("Nullable;")) fieldBuffer.append("?");
-    }
-
-    var type = method.getReturnType();
-    var genericType = method.getGenericReturnType();
-    if (type == Optional.class) {
-      fieldBuffer.append("?");
-      var parameterTypes = ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments();
-      genericType = type = (Class<?>) parameterTypes[0];
-    }
-    fieldBuffer.append(": ");
-
-    boolean isIterable = false;
-    var typeBuffer = new StringBuilder();
-    try {
-      if (genericType instanceof ParameterizedType) {
-        var parameterTypes = ((ParameterizedType) genericType).getActualTypeArguments();
-        isIterable = processGenericField(typeBuffer, type, parameterTypes);
-      } else {
-        isIterable = type.isArray();
-        typeBuffer.append(typeMapper.getTSType(isIterable ? type.getComponentType() : type));
-      }
-    } catch (Exception e) {
-      logger.log(SEVERE, "Failed to convert property type for `" + propertyName + "` in `" + method.getDeclaringClass() + "`, defaulting to `any`", e);
-      typeBuffer = new StringBuilder("any");
-    }
-    out.append(fieldBuffer);
-    out.append(typeBuffer);
-    if (isIterable) out.append("[]");
-    out.append("; ");
-  }
-
-  private static String toPropertyName(String name) {
-    return name.startsWith("get") ? name.substring(3, 4).toLowerCase() + name.substring(4) :
-           name.startsWith("is") ? name.substring(2, 3).toLowerCase() + name.substring(3) :
-           name;
-  }
-
-  private boolean processGenericField(StringBuilder typeBuffer, Class<?> fieldType, Type[] parameterTypes) {
-    var isIterable = false;
-    if (Map.class.isAssignableFrom(fieldType)) {
-      typeBuffer.append(readAsMapGeneric(parameterTypes));
-    } else if (Iterable.class.isAssignableFrom(fieldType)) {
-      isIterable = true;
-      for (Type parameterType : parameterTypes) {
-        convertIterableGenerics(parameterType, typeBuffer);
-      }
-    } else {
-      var type = typeMapper.getSimpleTSType(fieldType);
-      if (type != null) typeBuffer.append(type);
-      else {
-        typeBuffer.append(tsName(fieldType));
-        typeBuffer.append("<");
-        for (int j = 0; j < parameterTypes.length; j++) {
-          if (j > 0) typeBuffer.append(",");
-          convertIterableGenerics(parameterTypes[j], typeBuffer);
-        }
-        typeBuffer.append(">");
-      }
+    if (getter.jsonName != null) {
+      if (!getter.jsonName.isEmpty()) propertyName = getter.jsonName;
+      if (!propertyName.matches("^\\w+$")) propertyName = "\"" + propertyName + "\"";
     }
-    return isIterable;
-  }
 
-  private void convertIterableGenerics(Type type, StringBuilder typeBuffer) throws ClassCastException {
-    if (type instanceof WildcardType wildcardType) {
-      var bounds = wildcardType.getLowerBounds();
-      if (bounds.length == 0) bounds = wildcardType.getUpperBounds();
-      if (bounds[0] instanceof ParameterizedType) convertIterableGenerics(bounds[0], typeBuffer);
-      else typeBuffer.append(typeMapper.getTSType((Class<?>) bounds[0]));
-    } else if (type instanceof ParameterizedType parameterizedType) {
-      var elementType = (Class<?>) parameterizedType.getRawType();
-      if (Iterable.class.isAssignableFrom(elementType))
-        typeBuffer.append(typeMapper.getTSType((Class<?>) parameterizedType.getActualTypeArguments()[0])).append("[]");
-      else
-        typeBuffer.append(typeMapper.getTSType(elementType));
-    } else {
-      typeBuffer.append(typeMapper.getTSType((Class<?>) type));
-    }
+    var modifiers = propertyAnnotations.isNullable(method.getName()) ? "?" : "";
+    if (getter.optional) modifiers = "?";
+    return new Property(propertyName, modifiers, getter, typeRenderer.render(getter.type, clazz));
   }
 
-  private String readAsMapGeneric(Type[] parameterTypes) {
-    var output = new StringBuilder();
-
-    output.append("{");
-    for (int j = 0; j < parameterTypes.length; j = 2) {
-      var value = parameterTypes[j + 1];
-      output.append("[key: string]: ");
-      if (value instanceof ParameterizedType)
-        output.append(readAsMapGeneric(((ParameterizedType) value).getActualTypeArguments()));
-      else
-        output.append(typeMapper.getTSType((Class<?>) value));
+  private Getter getter(Method method) throws ReflectiveOperationException {
+    var getter = getters.get(method);
+    if (getter == null) {
+      getter = analyzeGetter(method);
+      getters.put(method, getter);
     }
-    output.append("}");
-
-    return output.toString();
+    return getter;
   }
 
-  class ClassAnnotationExtractor extends ClassVisitor {
-    Map<String, List<String>> annotations;
+  private Getter analyzeGetter(Method method) throws ReflectiveOperationException {
+    var annotations = method.getAnnotations();
+    var declaringClass = method.getDeclaringClass();
+    if (annotations.length == 0 && propertyAnnotations.get(declaringClass).hasKotlinAnnotations(method.getName()))
+      annotations = declaringClass.getDeclaredMethod(method.getName() + PropertyAnnotations.KOTLIN_ANNOTATIONS_SUFFIX).getAnnotations();
 
-    public ClassAnnotationExtractor(Map<String, List<String>> annotations) {
-      super(ASM_VERSION);
-      this.annotations = annotations;
+    String jsonName = null;
+    for (Annotation annotation : annotations) {
+      String annotationName = annotation.annotationType().getSimpleName();
+      if (annotationName.equals("JsonIgnore")) return new Getter(true, null, false, null);
+      else if (annotationName.equals("JsonProperty")) jsonName = (String) annotation.getClass().getMethod("value").invoke(annotation);
     }
 
-    @Override public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
-      if (!isPublic(access)) return null;
-      return new MethodAnnotationExtractor(annotations.computeIfAbsent(name, k -> new ArrayList<>()));
-    }
+    var type = method.getGenericReturnType();
+    var optional = method.getReturnType() == Optional.class;
+    if (optional) type = type instanceof ParameterizedType parameterized ? parameterized.getActualTypeArguments()[0] : Object.class;
+    return new Getter(false, jsonName, optional, type);
   }
 
-  class MethodAnnotationExtractor extends MethodVisitor {
-    List<String> annotations;
-
-    public MethodAnnotationExtractor(List<String> annotations) {
-      super(ASM_VERSION);
-      this.annotations = annotations;
-    }
-
-    @Override public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
-      annotations.add(descriptor);
-      return null;
-    }
+  static String toPropertyName(String name) {
+    return name.startsWith("get") ? name.substring(3, 4).toLowerCase() + name.substring(4) :
+           name.startsWith("is") ? name.substring(2, 3).toLowerCase() + name.substring(3) :
+           name;
   }
 }
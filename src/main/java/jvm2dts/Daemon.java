@@ -0,0 +1,180 @@
+package jvm2dts;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.lang.System.err;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Keeps the JVM, its JIT-compiled code, parsed class files of the class path and {@link ConversionSession}s warm between builds,
+ * like the Gradle daemon: listens on a Unix domain socket for the arguments of {@link Main} sent by {@link Client},
+ * runs the conversion on the session for the same options, which converts only the classes changed since its previous run,
+ * and streams stdout and stderr back to the client.
+ *
+ * <p>A client sends its working directory and arguments as {@link DataOutputStream#writeUTF(String)} strings,
+ * preceded by the number of arguments. The daemon replies with frames of a kind byte and an int:
+ * {@link #STDOUT} and {@link #STDERR} followed by that many bytes of output, and finally {@link #EXIT} with the exit code.
+ */
+class Daemon implements Closeable {
+  static final byte STDOUT = 'o';
+  static final byte STDERR = 'e';
+  static final byte EXIT = 'x';
+  /** Sessions kept warm, the least recently used one is closed when another is needed */
+  static final int MAX_SESSIONS = 8;
+
+  private final Path socket;
+  private final ServerSocketChannel server;
+  private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+    var thread = new Thread(runnable, "jvm2dts-client");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final Map<String, ConversionSession> sessions = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Binds the socket, replacing a stale socket file left by a daemon that was killed
+   */
+  Daemon(Path socket) throws IOException {
+    this.socket = socket;
+    Files.deleteIfExists(socket);
+    server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+    server.bind(UnixDomainSocketAddress.of(socket));
+  }
+
+  /**
+   * Serves clients in parallel until the daemon is closed
+   */
+  void serve() throws IOException {
+    err.println("// Listening on " + socket);
+    try {
+      while (true) {
+        var client = server.accept();
+        executor.execute(() -> handle(client));
+      }
+    } catch (AsynchronousCloseException e) {
+      // closed
+    }
+  }
+
+  private void handle(SocketChannel client) {
+    try (client) {
+      var in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(client)));
+      var cwd = Paths.get(in.readUTF());
+      var args = new String[in.readInt()];
+      for (int i = 0; i < args.length; i++) args[i] = in.readUTF();
+
+      var output = new Frames(client);
+      var clientErr = new PrintStream(output.stream(STDERR), true, UTF_8);
+      int exitCode;
+      try {
+        exitCode = Main.run(args, cwd, this, output.channel(STDOUT), clientErr);
+      } catch (Exception | Error e) {
+        clientErr.println("// Failed to convert: " + e);
+        exitCode = 1;
+      }
+      clientErr.flush();
+      output.write(EXIT, exitCode, null);
+    } catch (IOException e) {
+      err.println("// Lost connection to a client: " + e);
+    }
+  }
+
+  /**
+   * Runs the conversion on the warm session for the same options, creating it on first use.
+   * Conversions of the same session run one at a time, conversions of different sessions in parallel.
+   */
+  void run(Main.Args parsedArgs, WritableByteChannel stdout, PrintStream err) throws Exception {
+    var key = Main.sessionKey(parsedArgs);
+    ConversionSession session;
+    List<ConversionSession> evicted = new ArrayList<>();
+    synchronized (sessions) {
+      session = sessions.get(key);
+      if (session == null) {
+        session = Main.newSession(parsedArgs);
+        sessions.put(key, session);
+        for (var i = sessions.values().iterator(); sessions.size() > MAX_SESSIONS; ) {
+          evicted.add(i.next());
+          i.remove();
+        }
+      }
+    }
+    for (var old : evicted) {
+      synchronized (old) {
+        old.close();
+      }
+    }
+    synchronized (session) {
+      Main.convert(session, parsedArgs, stdout, err, true);
+    }
+  }
+
+  @Override public void close() throws IOException {
+    server.close();
+    executor.shutdown();
+    Files.deleteIfExists(socket);
+    synchronized (sessions) {
+      for (var session : sessions.values()) session.close();
+      sessions.clear();
+    }
+  }
+
+  /**
+   * Writes output of a conversion to the client as frames, which do not interleave when written from several threads
+   */
+  private static class Frames {
+    private final SocketChannel client;
+    private final ByteBuffer header = ByteBuffer.allocate(5);
+
+    Frames(SocketChannel client) {
+      this.client = client;
+    }
+
+    synchronized void write(byte kind, int value, ByteBuffer data) throws IOException {
+      header.clear().put(kind).putInt(value).flip();
+      while (header.hasRemaining()) client.write(header);
+      if (data != null) while (data.hasRemaining()) client.write(data);
+    }
+
+    WritableByteChannel channel(byte kind) {
+      return new WritableByteChannel() {
+        @Override public int write(ByteBuffer src) throws IOException {
+          var length = src.remaining();
+          Frames.this.write(kind, length, src);
+          return length;
+        }
+
+        @Override public boolean isOpen() {
+          return client.isOpen();
+        }
+
+        @Override public void close() {}
+      };
+    }
+
+    OutputStream stream(byte kind) {
+      return new OutputStream() {
+        @Override public void write(int b) throws IOException {
+          write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override public void write(byte[] b, int off, int len) throws IOException {
+          Frames.this.write(kind, len, ByteBuffer.wrap(b, off, len));
+        }
+      };
+    }
+  }
+}
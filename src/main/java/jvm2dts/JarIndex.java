@@ -0,0 +1,113 @@
+package jvm2dts;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static java.lang.System.err;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static jvm2dts.ClassCache.readString;
+import static jvm2dts.ClassCache.writeString;
+
+/**
+ * Declarations and filter metadata of the classes of a jar file, precomputed once and kept in a directory between runs,
+ * so that classes of dependency jars, which rarely change, are neither read, loaded nor converted again.
+ * There is an index file per content checksum of the jar and per options that declarations depend on (casts and the converter),
+ * so an index is used only for exactly the same jar and options, and is never updated once written.
+ * Filter decisions are stored independently of -data-only and -annotated, so one index serves all filters.
+ */
+class JarIndex {
+  static final int VERSION = 2;
+
+  /**
+   * @param data        whether the class passes -data-only, i.e. it is a data class, an enum or an interface
+   * @param annotations names of annotations that the class counts as annotated with for -annotated,
+   *                    including inherited ones and the ones of its outer classes
+   * @param declaration declaration without the export keyword, or null if there is nothing to declare
+   */
+  record Entry(boolean data, Set<String> annotations, String declaration) {}
+
+  private final Path file;
+  private final String options;
+  private final long checksum;
+  private final Map<String, Entry> entries = new TreeMap<>();
+  private boolean loaded;
+
+  /**
+   * Reads the index of the jar with the checksum from the directory, if it has been written before with the same options
+   */
+  JarIndex(Path dir, Path jar, long checksum, String options) {
+    var jarName = jar.getFileName().toString().replaceFirst("\\.jar$", "");
+    this.file = dir.resolve(jarName + "-" + Long.toHexString(checksum) + "-" + Integer.toHexString(options.hashCode()) + ".idx");
+    this.options = options;
+    this.checksum = checksum;
+    if (Files.exists(file)) load();
+  }
+
+  /**
+   * @return whether the index was read from its file, otherwise it is empty and must be built
+   */
+  boolean isLoaded() {
+    return loaded;
+  }
+
+  /**
+   * @return the entry of the class, or null if the class is not indexed and must be converted as usual
+   */
+  Entry get(String className) {
+    return entries.get(className);
+  }
+
+  void put(String className, Entry entry) {
+    entries.put(className, entry);
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  private void load() {
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != VERSION || !in.readUTF().equals(options) || in.readLong() != checksum) return;
+      var entryCount = in.readInt();
+      for (int i = 0; i < entryCount; i++) {
+        var className = in.readUTF();
+        var data = in.readBoolean();
+        var annotationCount = in.readInt();
+        var annotations = new HashSet<String>(annotationCount);
+        for (int j = 0; j < annotationCount; j++) annotations.add(in.readUTF());
+        entries.put(className, new Entry(data, annotations, readString(in)));
+      }
+      loaded = true;
+    } catch (IOException e) {
+      err.println("// Ignoring unreadable jar index " + file + ": " + e);
+      entries.clear();
+    }
+  }
+
+  /**
+   * Writes the index to a temporary file first, so that concurrent runs never read a half-written index
+   */
+  void save() throws IOException {
+    Files.createDirectories(file.getParent());
+    var tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+    try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+      out.writeInt(VERSION);
+      out.writeUTF(options);
+      out.writeLong(checksum);
+      out.writeInt(entries.size());
+      for (var e : entries.entrySet()) {
+        var entry = e.getValue();
+        out.writeUTF(e.getKey());
+        out.writeBoolean(entry.data);
+        out.writeInt(entry.annotations.size());
+        for (var annotation : new TreeSet<>(entry.annotations)) out.writeUTF(annotation);
+        writeString(out, entry.declaration);
+      }
+    }
+    Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    loaded = true;
+  }
+}
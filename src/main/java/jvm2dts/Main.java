@@ -2,19 +2,36 @@ package jvm2dts;
 
 import com.beust.jcommander.JCommander;
 import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
 
-import java.io.IOException;
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static java.lang.System.err;
-import static java.lang.System.out;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 public class Main {
+  static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
   static class Args {
     @Parameter
     private List<String> packages = new ArrayList<>();
@@ -22,7 +39,7 @@ public class Main {
     @Parameter(names = {"-e", "-exclude"}, description = "Excludes classes in the generation with qualified name matching a RegExp")
     private String excludeRegex;
 
-    @Parameter(names = {"-c", "-cast"}, description = "Comma-separated key=value map to make classnames matching the key into specified value")
+    @Parameter(names = {"-c", "-cast"}, description = "Comma-separated key=value map to make classnames matching the key, and their subclasses and implementations, into specified value")
     private String cast;
 
     @Parameter(names = {"-d", "-data-only"}, description = "Process only data classes (which have implemented equals), but also enums & interfaces")
@@ -31,14 +48,66 @@ public class Main {
     @Parameter(names = {"-a", "-annotated"}, description = "Process only annotated classes with comma-separated annotations (note that lombok annotations are not visible in class files)")
     private String withAnnotations;
 
-    @Parameter(names = {"-classesDir"}, description = "Recursively look for classes from a location")
+    @Parameter(names = {"-roots"}, description = "Comma-separated root classes, or annotations marking them prefixed with @, to convert only them and the classes reachable from their method signatures and properties")
+    private String roots;
+
+    @Parameter(names = {"-classesDir"}, description = "Comma-separated directories or jar files to recursively look for classes from")
     private String classesDir;
 
-    @Parameter(names = {"-excludeDir"}, description = "Comma-separated list to filter out package names when using classesDir")
+    @Parameter(names = {"-excludeDir"}, description = "Comma-separated packages to skip together with their subpackages, without listing their directories")
     private String excludeDirs;
 
+    @Parameter(names = {"-threads"}, description = "Number of threads to load and convert classes with, 0 uses all available processors")
+    private int threads = 1;
+
+    @Parameter(names = {"-batchSize"}, description = "Number of classes to load with each disposable class loader, so that loaded classes can be unloaded after every batch, 0 loads all classes with one")
+    private int batchSize;
+
+    @Parameter(names = {"-cache"}, description = "File to keep conversion results in, so that only changed classes are converted on the next run")
+    private String cacheFile;
+
+    @Parameter(names = {"-jarIndex"}, description = "Directory to keep declarations of the classes of -classesDir jar files in, per jar checksum and -cast, so that unchanged jars are not converted again")
+    private String jarIndexDir;
+
+    @Parameter(names = {"-bytecode"}, description = "Convert classes from their class files without loading them, so that static initializers are not run")
+    private boolean bytecode;
+
+    @Parameter(names = {"-out"}, description = "File to write the declarations to instead of stdout")
+    private String outFile;
+
+    @Parameter(names = {"-outDir"}, description = "Directory to write declarations to, one file per package that imports types from the others")
+    private String outDir;
+
+    @Parameter(names = {"-packageDepth"}, description = "Number of leading package name segments to group classes into -outDir files by, 0 for full package names")
+    private int packageDepth;
+
+    @Parameter(names = {"-watch"}, description = "Keep running and update the -out file or -outDir whenever class files in -classesDir directories change")
+    private boolean watch;
+
+    @Parameter(names = {"-stats"}, description = "Print time spent in every phase, class counts per filter outcome and the slowest classes to stderr")
+    private boolean stats;
+
+    @Parameter(names = {"-jobs"}, description = "File with the options and packages of a separate conversion on every line, to run all of them in this JVM, -threads of them at a time")
+    private String jobsFile;
+
+    @Parameter(names = {"-daemon"}, description = "Unix domain socket to listen on for the arguments of conversions sent by jvm2dts.Client, to run all of them in this JVM with warm sessions")
+    private String daemonSocket;
+
     @Parameter(names = {"-h", "-help"}, help = true)
     private boolean help;
+
+    /**
+     * Makes relative paths absolute against the working directory of a client of the daemon
+     */
+    Args resolve(Path cwd) {
+      if (classesDir != null) classesDir = stream(classesDir.split(",")).map(dir -> cwd.resolve(dir).toString()).collect(joining(","));
+      if (cacheFile != null) cacheFile = cwd.resolve(cacheFile).toString();
+      if (jarIndexDir != null) jarIndexDir = cwd.resolve(jarIndexDir).toString();
+      if (outFile != null) outFile = cwd.resolve(outFile).toString();
+      if (outDir != null) outDir = cwd.resolve(outDir).toString();
+      if (jobsFile != null) jobsFile = cwd.resolve(jobsFile).toString();
+      return this;
+    }
   }
 
   public static void main(String[] args) throws Exception {
@@ -50,79 +119,284 @@ public class Main {
       jc.usage();
       return;
     }
+    if (parsedArgs.daemonSocket != null) {
+      try (var daemon = new Daemon(Paths.get(parsedArgs.daemonSocket))) {
+        daemon.serve();
+      }
+    } else if (parsedArgs.jobsFile != null) {
+      var exitCode = runJobs(Paths.get(parsedArgs.jobsFile), threads(parsedArgs), Main::run, err);
+      if (exitCode != 0) System.exit(exitCode);
+    } else run(parsedArgs);
+  }
 
-    var packages = new LinkedHashSet<>(parsedArgs.packages);
-    var withAnnotations = parsedArgs.withAnnotations != null ? stream(parsedArgs.withAnnotations.split(",")).collect(toSet()) : null;
-    var basePath = Paths.get(parsedArgs.classesDir);
+  /**
+   * Runs the conversion sent by a {@link Client} on warm sessions of the daemon
+   * @param cwd working directory of the client, which relative paths in the arguments are resolved against
+   * @return exit code for the client
+   */
+  static int run(String[] args, Path cwd, Daemon daemon, WritableByteChannel stdout, PrintStream err) throws Exception {
+    var parsedArgs = new Args();
+    JCommander.newBuilder().addObject(parsedArgs).build().parse(args);
+    if (args.length < 1 || parsedArgs.help || parsedArgs.classesDir == null && parsedArgs.jobsFile == null) {
+      err.println("// Run " + Main.class.getName() + " -help for the options");
+      return 2;
+    }
+    if (parsedArgs.watch || parsedArgs.daemonSocket != null) {
+      err.println("// -watch and -daemon cannot be run through the daemon");
+      return 2;
+    }
+    parsedArgs.resolve(cwd);
+    if (parsedArgs.jobsFile != null) return runJobs(Paths.get(parsedArgs.jobsFile), threads(parsedArgs), job -> daemon.run(job.resolve(cwd), stdout, err), err);
+    daemon.run(parsedArgs, stdout, err);
+    return 0;
+  }
+
+  private static int threads(Args parsedArgs) {
+    return parsedArgs.threads > 0 ? parsedArgs.threads : Runtime.getRuntime().availableProcessors();
+  }
+
+  static void run(Args parsedArgs) throws Exception {
+    try (var session = newSession(parsedArgs)) {
+      convert(session, parsedArgs, new FileOutputStream(FileDescriptor.out).getChannel(), err, false);
+    }
+  }
 
-    var customTypes = new HashMap<Class<?>, String>();
+  static ConversionSession newSession(Args parsedArgs) {
+    var roots = stream(parsedArgs.classesDir.split(",")).map(Paths::get).collect(toList());
+    var cast = new LinkedHashMap<String, String>();
     if (parsedArgs.cast != null) {
       var kvpairs = parsedArgs.cast.split(",");
       for (var pair : kvpairs) {
-        customTypes.put(Class.forName(pair.split("=")[0]), pair.split("=")[1]);
+        cast.put(pair.split("=")[0], pair.split("=")[1]);
       }
     }
-    var converter = new Converter(new TypeMapper(customTypes));
 
+    var rootClasses = new HashSet<String>();
+    var rootAnnotations = new HashSet<String>();
+    if (parsedArgs.roots != null) {
+      for (var root : parsedArgs.roots.split(",")) {
+        if (root.startsWith("@")) rootAnnotations.add(root.substring(1));
+        else rootClasses.add(root);
+      }
+    }
+
+    return new ConversionSession(roots)
+      .packages(parsedArgs.packages)
+      .exclude(parsedArgs.excludeRegex)
+      .excludePackages(parsedArgs.excludeDirs != null ? List.of(parsedArgs.excludeDirs.split(",")) : List.of())
+      .cast(cast)
+      .dataOnly(parsedArgs.dataOnly)
+      .annotated(parsedArgs.withAnnotations != null ? stream(parsedArgs.withAnnotations.split(",")).collect(toSet()) : null)
+      .bytecode(parsedArgs.bytecode)
+      .batchSize(parsedArgs.batchSize)
+      .reachableFrom(rootClasses, rootAnnotations)
+      .threads(threads(parsedArgs))
+      .cache(parsedArgs.cacheFile != null ? Paths.get(parsedArgs.cacheFile) : null)
+      .jarIndex(parsedArgs.jarIndexDir != null ? Paths.get(parsedArgs.jarIndexDir) : null);
+  }
+
+  /**
+   * Writes the output of the session where the arguments tell, to stdout by default
+   * @param err receives messages and -stats
+   * @param reused whether the session is kept for later conversions, which then convert only changed classes,
+   *               so that it must not stream, as streaming does not keep the state for that
+   */
+  static void convert(ConversionSession session, Args parsedArgs, WritableByteChannel stdout, PrintStream err, boolean reused) throws Exception {
+    session.messages(err).allocations(parsedArgs.stats);
     try {
-      var exclude = parsedArgs.excludeRegex;
-      Files.walk(basePath)
-        .filter(Files::isRegularFile)
-        .filter(path -> path.getFileName().toString().endsWith(".class"))
-        .map(path -> toClassName(path, basePath))
-        .filter(className -> {
-          if (exclude == null) return true;
-          return !className.matches(exclude);
-        })
-        .filter(className -> isInPackage(className, packages))
-        .sorted()
-        .forEach(className -> processClass(className, converter, parsedArgs.dataOnly, withAnnotations));
-    } catch (IOException e) {
-      err.println("// Could not access classes in " + basePath + ": " + e);
+      if (parsedArgs.outDir != null) {
+        var shards = new ShardedOutput(Paths.get(parsedArgs.outDir)).packageDepth(parsedArgs.packageDepth);
+        if (parsedArgs.watch) watch(session, shards.dir(), changes -> changes != null ? session.convert(changes, shards) : session.convert(shards), parsedArgs.stats);
+        else session.convert(shards);
+      } else if (parsedArgs.watch) {
+        if (parsedArgs.outFile == null) {
+          err.println("// -watch requires -out or -outDir");
+          return;
+        }
+        var output = Paths.get(parsedArgs.outFile);
+        watch(session, output, changes -> write(output, writer -> changes != null ? session.convert(changes, writer) : session.convert(writer)), parsedArgs.stats);
+      } else if (parsedArgs.outFile != null) {
+        write(Paths.get(parsedArgs.outFile), reused ? session::convert : session::stream);
+      } else {
+        var writer = newWriter(stdout);
+        if (reused) session.convert(writer);
+        else session.stream(writer);
+        writer.flush();
+      }
+      if (parsedArgs.stats) session.stats().print(err);
+    } catch (NoSuchFileException e) {
+      err.println("// Could not access classes in " + parsedArgs.classesDir + ": " + e);
     }
   }
 
-  private static String toClassName(Path path, Path basePath) {
-    var pathString = path.toString();
-    var baseString = basePath.toString();
-    var relativePath = pathString.substring(baseString.length() + 1);
-    return relativePath.substring(0, relativePath.length() - ".class".length()).replace('/', '.');
+  /**
+   * @return options that a session is created with, which identify a warm session of the daemon,
+   *         together with sizes and modification times of jar files, as their contents are read only once per session
+   */
+  static String sessionKey(Args parsedArgs) throws IOException {
+    var key = new StringBuilder(String.join(",", parsedArgs.packages));
+    for (var option : new Object[] {parsedArgs.classesDir, parsedArgs.excludeRegex, parsedArgs.excludeDirs, parsedArgs.cast, parsedArgs.dataOnly, parsedArgs.withAnnotations,
+      parsedArgs.roots, parsedArgs.threads, parsedArgs.batchSize, parsedArgs.cacheFile, parsedArgs.bytecode, parsedArgs.jarIndexDir})
+      key.append(' ').append(option);
+    for (var root : parsedArgs.classesDir.split(",")) {
+      var path = Paths.get(root);
+      if (Files.isRegularFile(path)) key.append(' ').append(Files.size(path)).append('@').append(Files.getLastModifiedTime(path).toMillis());
+    }
+    return key.toString();
   }
 
-  private static boolean isInPackage(String className, Set<String> packages) {
-    if (packages.isEmpty()) return true;
-    var lastDot = className.lastIndexOf('.');
-    return lastDot != -1 && packages.contains(className.substring(0, lastDot));
+  interface Runner {
+    void run(Args parsedArgs) throws Exception;
   }
 
-  private static void processClass(String className, Converter converter, boolean dataOnly, Set<String> withAnnotations) {
+  interface Conversion {
+    /**
+     * @param changed names of changed classes, or null to look for changes in all classes
+     * @return number of converted classes
+     */
+    int convert(Set<String> changed) throws IOException;
+  }
+
+  /**
+   * Runs the conversions listed in the file in parallel, sharing parsed class files of the class path between them.
+   * Every line has the same options as the command line, empty lines and lines starting with # are ignored.
+   * Every job must write to its own -out file or -outDir. Invalid lines are reported, and the other jobs still run.
+   * @return exit code, 1 if any line is invalid or any job fails
+   */
+  static int runJobs(Path jobsFile, int threads, Runner runner, PrintStream err) throws Exception {
+    var jobs = new ArrayList<Args>();
+    var outputs = new HashMap<Path, Integer>();
+    var exitCode = 0;
+    var lines = Files.readAllLines(jobsFile);
+    for (int i = 0; i < lines.size(); i++) {
+      var line = lines.get(i).strip();
+      if (line.isEmpty() || line.startsWith("#")) continue;
+      var location = "// Job on line " + (i + 1) + " of " + jobsFile;
+      var jobArgs = new Args();
+      try {
+        JCommander.newBuilder().addObject(jobArgs).build().parse(splitJobLine(line).toArray(new String[0]));
+      } catch (ParameterException | IllegalArgumentException e) {
+        err.println(location + ": " + e.getMessage());
+        exitCode = 1;
+        continue;
+      }
+      if (jobArgs.classesDir == null || jobArgs.outFile == null && jobArgs.outDir == null || jobArgs.watch || jobArgs.jobsFile != null) {
+        err.println(location + " needs -classesDir and -out or -outDir, and cannot use -watch or -jobs");
+        exitCode = 1;
+        continue;
+      }
+      var output = Paths.get(jobArgs.outFile != null ? jobArgs.outFile : jobArgs.outDir).toAbsolutePath().normalize();
+      var previous = outputs.putIfAbsent(output, i + 1);
+      if (previous != null) {
+        err.println(location + " writes to " + output + " like the job on line " + previous);
+        exitCode = 1;
+        continue;
+      }
+      jobs.add(jobArgs);
+    }
+
+    var executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(jobs.size(), 1)));
     try {
-      var cls = Class.forName(className);
-      if (dataOnly && !isData(cls) && !cls.isEnum() && !cls.isInterface() ||
-          withAnnotations != null && !isAnnotated(cls, withAnnotations)) {
-        return;
+      var results = new ArrayList<Future<?>>();
+      for (var job : jobs) results.add(executor.submit(() -> {
+        runner.run(job);
+        return null;
+      }));
+      for (int i = 0; i < results.size(); i++) {
+        try {
+          results.get(i).get();
+        } catch (ExecutionException e) {
+          var job = jobs.get(i);
+          err.println("// Failed to convert " + job.classesDir + " into " + (job.outFile != null ? job.outFile : job.outDir) + ": " + e.getCause());
+          exitCode = 1;
+        }
       }
-      var converted = converter.convert(cls);
-      if (converted != null) {
-        out.println("// " + className);
-        out.println("export " + converted);
+    } finally {
+      executor.shutdown();
+    }
+    return exitCode;
+  }
+
+  /**
+   * Splits a line of a jobs file into arguments at whitespace outside of double or single quotes,
+   * so that paths with spaces can be quoted like on the command line
+   */
+  static List<String> splitJobLine(String line) {
+    var result = new ArrayList<String>();
+    var arg = new StringBuilder();
+    var inArg = false;
+    char quote = 0;
+    for (int i = 0; i < line.length(); i++) {
+      var c = line.charAt(i);
+      if (quote != 0) {
+        if (c == quote) quote = 0;
+        else arg.append(c);
+      } else if (c == '"' || c == '\'') {
+        quote = c;
+        inArg = true;
+      } else if (Character.isWhitespace(c)) {
+        if (inArg) result.add(arg.toString());
+        arg.setLength(0);
+        inArg = false;
+      } else {
+        arg.append(c);
+        inArg = true;
       }
-    } catch (Throwable e) {
-      err.println("// Failed to load class " + className + ": " + e.getMessage());
     }
+    if (quote != 0) throw new IllegalArgumentException("Unterminated quote " + quote);
+    if (inArg) result.add(arg.toString());
+    return result;
   }
 
-  private static boolean isData(Class<?> clazz) {
-    try {
-      clazz.getDeclaredMethod("equals", Object.class);
-      return true;
-    } catch (NoSuchMethodException e) {
-      return false;
+  /**
+   * Converts all classes, then keeps the JVM running and converts again only the classes whose class files change,
+   * rewriting the output after every batch of changes.
+   * @param stats whether to print stats of every batch
+   */
+  private static void watch(ConversionSession session, Path output, Conversion conversion, boolean stats) throws Exception {
+    try (var watcher = new ClassWatcher(session.roots())) {
+      Set<String> changed = null;
+      while (true) {
+        var start = System.nanoTime();
+        var converted = conversion.convert(changed);
+        err.println("// Converted " + converted + " classes into " + output + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        if (stats) session.stats().print(err);
+        changed = watcher.awaitChanges();
+      }
     }
   }
 
-  private static boolean isAnnotated(Class<?> cls, Set<String> annotations) {
-    var result = stream(cls.getAnnotations()).anyMatch(a -> annotations.contains(a.annotationType().getName()));
-    return result || cls.getDeclaringClass() != null && isAnnotated(cls.getDeclaringClass(), annotations);
+  /**
+   * Declarations are encoded to UTF-8 into a large buffer, which is written to the channel only when full,
+   * instead of flushing every line like {@link System#out}.
+   */
+  static Writer newWriter(WritableByteChannel channel) {
+    return new BufferedWriter(Channels.newWriter(channel, UTF_8.newEncoder(), OUTPUT_BUFFER_SIZE), OUTPUT_BUFFER_SIZE);
+  }
+
+  interface Output {
+    /**
+     * @return number of converted classes
+     */
+    int writeTo(Writer writer) throws IOException;
+  }
+
+  /**
+   * Writes the output to a temporary file first, so that tools watching the output file never see it half-written.
+   * The temporary file is deleted if writing fails.
+   */
+  static int write(Path file, Output output) throws IOException {
+    var tmp = file.resolveSibling(file.getFileName() + ".tmp");
+    int converted;
+    try {
+      try (var writer = newWriter(FileChannel.open(tmp, CREATE, TRUNCATE_EXISTING, WRITE))) {
+        converted = output.writeTo(writer);
+      }
+      Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    } catch (IOException | RuntimeException | Error e) {
+      Files.deleteIfExists(tmp);
+      throw e;
+    }
+    return converted;
   }
 }
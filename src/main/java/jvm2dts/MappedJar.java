@@ -0,0 +1,172 @@
+package jvm2dts;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Reads entries of a jar (zip) file through a memory-mapped buffer, without extracting it.
+ * Stored entries are returned as slices of the mapped file, deflated ones are inflated straight from it.
+ */
+class MappedJar {
+  static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+  static final int ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50;
+  static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR = 0x07064b50;
+  static final int CENTRAL_DIRECTORY_ENTRY = 0x02014b50;
+  static final int LOCAL_FILE_HEADER = 0x04034b50;
+  static final int STORED = 0;
+  static final int DEFLATED = 8;
+  static final long MASK_32 = 0xFFFFFFFFL;
+
+  record Entry(int method, long compressedSize, long size, long localHeaderOffset) {}
+
+  private final Path path;
+  private final ByteBuffer buffer;
+  private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+  MappedJar(Path path) throws IOException {
+    this.path = path;
+    try (var channel = FileChannel.open(path, READ)) {
+      if (channel.size() > Integer.MAX_VALUE) throw new IOException("Jar files over 2 GB are not supported: " + path);
+      buffer = channel.map(READ_ONLY, 0, channel.size()).order(LITTLE_ENDIAN);
+    }
+    readCentralDirectory();
+  }
+
+  /**
+   * @return content hash of the whole jar file
+   */
+  long checksum() {
+    try {
+      var digest = MessageDigest.getInstance("MD5");
+      digest.update(buffer.duplicate().clear());
+      return ByteBuffer.wrap(digest.digest()).getLong();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  Set<String> names() {
+    return entries.keySet();
+  }
+
+  Entry entry(String name) {
+    return entries.get(name);
+  }
+
+  /**
+   * @return contents of the entry, or null if there is no such entry
+   */
+  ByteBuffer read(String name) throws IOException {
+    var entry = entries.get(name);
+    if (entry == null) return null;
+
+    var offset = (int) entry.localHeaderOffset;
+    if (buffer.getInt(offset) != LOCAL_FILE_HEADER) throw new IOException("Invalid local header for " + name + " in " + path);
+    var dataStart = offset + 30 + unsignedShort(offset + 26) + unsignedShort(offset + 28);
+    var data = buffer.slice(dataStart, (int) entry.compressedSize);
+
+    switch (entry.method) {
+      case STORED:
+        return data;
+      case DEFLATED:
+        var inflater = new Inflater(true);
+        try {
+          inflater.setInput(data);
+          var out = new byte[(int) entry.size];
+          var length = 0;
+          while (length < out.length && !inflater.finished()) {
+            var inflated = inflater.inflate(out, length, out.length - length);
+            if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+            length += inflated;
+          }
+          if (length != out.length) throw new IOException("Truncated entry " + name + " in " + path);
+          return ByteBuffer.wrap(out);
+        } catch (DataFormatException e) {
+          throw new IOException("Corrupt entry " + name + " in " + path, e);
+        } finally {
+          inflater.end();
+        }
+      default:
+        throw new IOException("Unsupported compression method " + entry.method + " for " + name + " in " + path);
+    }
+  }
+
+  private void readCentralDirectory() throws IOException {
+    var end = findEndOfCentralDirectory();
+    long count = unsignedShort(end + 10);
+    long offset = unsignedInt(end + 16);
+
+    var locator = end - 20;
+    if (locator >= 0 && buffer.getInt(locator) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR) {
+      var zip64End = (int) buffer.getLong(locator + 8);
+      if (buffer.getInt(zip64End) != ZIP64_END_OF_CENTRAL_DIRECTORY) throw new IOException("Invalid zip64 end of central directory in " + path);
+      count = buffer.getLong(zip64End + 32);
+      offset = buffer.getLong(zip64End + 48);
+    }
+
+    var pos = (int) offset;
+    for (long i = 0; i < count; i++) {
+      if (buffer.getInt(pos) != CENTRAL_DIRECTORY_ENTRY) throw new IOException("Invalid central directory entry in " + path);
+      var method = unsignedShort(pos + 10);
+      var compressedSize = unsignedInt(pos + 20);
+      var size = unsignedInt(pos + 24);
+      var nameLength = unsignedShort(pos + 28);
+      var extraLength = unsignedShort(pos + 30);
+      var commentLength = unsignedShort(pos + 32);
+      var localHeaderOffset = unsignedInt(pos + 42);
+
+      var nameBytes = new byte[nameLength];
+      buffer.get(pos + 46, nameBytes);
+      var name = new String(nameBytes, UTF_8);
+
+      if (size == MASK_32 || compressedSize == MASK_32 || localHeaderOffset == MASK_32) {
+        var extra = pos + 46 + nameLength;
+        var extraEnd = extra + extraLength;
+        while (extra + 4 <= extraEnd) {
+          var id = unsignedShort(extra);
+          var length = unsignedShort(extra + 2);
+          if (id == 1) {
+            var field = extra + 4;
+            if (size == MASK_32) { size = buffer.getLong(field); field += 8; }
+            if (compressedSize == MASK_32) { compressedSize = buffer.getLong(field); field += 8; }
+            if (localHeaderOffset == MASK_32) localHeaderOffset = buffer.getLong(field);
+            break;
+          }
+          extra += 4 + length;
+        }
+      }
+
+      if (!name.endsWith("/")) entries.putIfAbsent(name, new Entry(method, compressedSize, size, localHeaderOffset));
+      pos += 46 + nameLength + extraLength + commentLength;
+    }
+  }
+
+  private int findEndOfCentralDirectory() throws IOException {
+    var minPos = Math.max(0, buffer.limit() - 22 - 0xFFFF);
+    for (var pos = buffer.limit() - 22; pos >= minPos; pos--)
+      if (buffer.getInt(pos) == END_OF_CENTRAL_DIRECTORY) return pos;
+    throw new IOException("Not a jar file: " + path);
+  }
+
+  private int unsignedShort(int pos) {
+    return buffer.getShort(pos) & 0xFFFF;
+  }
+
+  private long unsignedInt(int pos) {
+    return buffer.getInt(pos) & MASK_32;
+  }
+}
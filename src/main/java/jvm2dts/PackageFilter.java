@@ -0,0 +1,105 @@
+package jvm2dts;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Decides which classes to convert by their names: compiles the included packages and the excluded package trees
+ * into a trie of package name segments, so that directories that cannot contain any included class are skipped
+ * without being listed, and the exclude regex into a pattern that is compiled only once.
+ */
+class PackageFilter {
+  static final PackageFilter ALL = new PackageFilter(Set.of(), Set.of(), null);
+
+  static final class Node {
+    private final Map<String, Node> children = new HashMap<>();
+    /** Classes directly in this package are included */
+    private boolean included;
+    /** This package and all of its subpackages are excluded */
+    private boolean excluded;
+    /** This package or any of its subpackages is included */
+    private boolean leadsToIncluded;
+  }
+
+  /** Any package outside of the trie, when all packages are included */
+  private static final Node ANY = new Node();
+
+  static {
+    ANY.included = ANY.leadsToIncluded = true;
+  }
+
+  private final Node root = new Node();
+  private final boolean allPackages;
+  private final Pattern exclude;
+
+  /**
+   * @param packages         packages to include classes directly in, all packages if empty
+   * @param excludedPackages packages to exclude together with their subpackages, separated with dots or slashes
+   * @param excludeRegex     regular expression for qualified class names to exclude, or null
+   */
+  PackageFilter(Collection<String> packages, Collection<String> excludedPackages, String excludeRegex) {
+    allPackages = packages.isEmpty();
+    root.leadsToIncluded = allPackages;
+    for (var packageName : packages) {
+      var node = root;
+      node.leadsToIncluded = true;
+      for (var segment : segments(packageName)) {
+        node = node.children.computeIfAbsent(segment, s -> new Node());
+        node.leadsToIncluded = true;
+      }
+      node.included = true;
+    }
+    for (var packageName : excludedPackages) {
+      var node = root;
+      for (var segment : segments(packageName.replace('/', '.')))
+        node = node.children.computeIfAbsent(segment, s -> new Node());
+      node.excluded = true;
+    }
+    exclude = excludeRegex != null ? Pattern.compile(excludeRegex) : null;
+  }
+
+  private static List<String> segments(String packageName) {
+    var result = new ArrayList<String>();
+    for (var segment : packageName.split("\\."))
+      if (!segment.isEmpty()) result.add(segment);
+    return result;
+  }
+
+  /**
+   * @return the node of the default package
+   */
+  Node root() {
+    return root.excluded ? null : root;
+  }
+
+  /**
+   * @param node node of a package, as returned by {@link #root()} or this method
+   * @param name name of its subpackage
+   * @return the node of the subpackage, or null if neither it nor any of its subpackages can contain included classes
+   */
+  Node descend(Node node, String name) {
+    if (node == ANY) return ANY;
+    var child = node.children.get(name);
+    if (child == null) return allPackages ? ANY : null;
+    if (child.excluded) return null;
+    if (!allPackages && !child.leadsToIncluded) return null;
+    return child;
+  }
+
+  /**
+   * @param node node of the package the class is in
+   */
+  boolean includes(Node node, String className) {
+    return node != null && (allPackages || node.included) && (exclude == null || !exclude.matcher(className).matches());
+  }
+
+  boolean includes(String className) {
+    var node = root();
+    var start = 0;
+    for (var dot = className.indexOf('.'); dot != -1 && node != null; dot = className.indexOf('.', start)) {
+      node = descend(node, className.substring(start, dot));
+      start = dot + 1;
+    }
+    return includes(node, className);
+  }
+}
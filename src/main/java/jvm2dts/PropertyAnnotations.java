@@ -0,0 +1,61 @@
+package jvm2dts;
+
+import jvm2dts.ClassInfo.AnnotationInfo;
+
+import java.util.*;
+
+/**
+ * Index of the annotations that the getters of a class are converted with, built once per class from its class file:
+ * which public methods are nullable, and the annotations that Kotlin puts on synthetic <code>getName$annotations</code>
+ * methods instead of the getters of properties. Looking them up here means that getters without annotations,
+ * i.e. nearly all getters of Java classes, need no reflective lookups that fail with an exception.
+ */
+class PropertyAnnotations {
+  static final String KOTLIN_ANNOTATIONS_SUFFIX = "$annotations";
+
+  private final Map<String, List<AnnotationInfo>> kotlinAnnotations = new HashMap<>();
+  private final Set<String> nullable = new HashSet<>();
+
+  /** For classes without a class file */
+  static final PropertyAnnotations NONE = new PropertyAnnotations();
+
+  private PropertyAnnotations() {}
+
+  PropertyAnnotations(ClassInfo info) {
+    for (var method : info.methods) {
+      if (method.name.endsWith(KOTLIN_ANNOTATIONS_SUFFIX))
+        kotlinAnnotations.putIfAbsent(method.name.substring(0, method.name.length() - KOTLIN_ANNOTATIONS_SUFFIX.length()), method.annotations);
+      if (method.isPublic() && method.annotationDescriptors.stream().anyMatch(PropertyAnnotations::isNullableAnnotation))
+        nullable.add(method.name);
+    }
+  }
+
+  /**
+   * @return whether a public method declared with the name has an annotation named Nullable, from any package,
+   *         e.g. the ones that the Kotlin compiler puts on getters of nullable properties
+   */
+  boolean isNullable(String methodName) {
+    return nullable.contains(methodName);
+  }
+
+  /**
+   * @return whether the class declares a synthetic method with the annotations of the property of the getter
+   */
+  boolean hasKotlinAnnotations(String getterName) {
+    return kotlinAnnotations.containsKey(getterName);
+  }
+
+  /**
+   * @return runtime annotations of the property of the getter, or an empty list if there is no synthetic method for it
+   */
+  List<AnnotationInfo> kotlinAnnotations(String getterName) {
+    return kotlinAnnotations.getOrDefault(getterName, List.of());
+  }
+
+  /**
+   * Matches the simple name exactly, so that e.g. <code>NonNullable</code> is not taken for a nullable annotation
+   */
+  static boolean isNullableAnnotation(String descriptor) {
+    return descriptor.endsWith("/Nullable;") || descriptor.endsWith("$Nullable;") || descriptor.equals("LNullable;");
+  }
+}
@@ -0,0 +1,76 @@
+package jvm2dts;
+
+import java.util.*;
+
+/**
+ * Finds the classes reachable from root classes, e.g. REST controllers: the types in the signatures of public methods
+ * declared by the roots, and from there, transitively, the types of the properties that the converters produce.
+ * Only classes in the input roots are followed, as other types are either mapped to TypeScript types or not converted.
+ */
+class Reachability {
+  private final ClassFiles classFiles;
+  private final BytecodeConverter converter;
+  private final Set<String> rootClasses;
+  private final Set<String> rootAnnotations;
+
+  /**
+   * @param rootClasses     names of root classes
+   * @param rootAnnotations names of annotations marking root classes
+   */
+  Reachability(ClassFiles classFiles, Set<String> rootClasses, Set<String> rootAnnotations) {
+    this.classFiles = classFiles;
+    this.converter = new BytecodeConverter(new TypeMapper(Map.of()), classFiles);
+    this.rootClasses = rootClasses;
+    this.rootAnnotations = rootAnnotations;
+  }
+
+  /**
+   * @param classNames names of all classes in the input roots
+   * @return the roots and all classes reachable from them among the given classes
+   */
+  Set<String> reachable(Collection<String> classNames) {
+    var available = classNames instanceof Set<String> set ? set : new HashSet<>(classNames);
+    var result = new HashSet<String>();
+    var queue = new ArrayDeque<String>();
+    for (var className : classNames) {
+      if (!isRoot(className)) continue;
+      result.add(className);
+      queue.add(className);
+      var info = classFiles.info(className);
+      if (info == null) continue;
+      for (var type : signatureTypes(info))
+        if (available.contains(type) && result.add(type)) queue.add(type);
+    }
+    while (!queue.isEmpty()) {
+      var info = classFiles.info(queue.poll());
+      if (info == null) continue;
+      for (var type : converter.propertyTypes(info))
+        if (available.contains(type) && result.add(type)) queue.add(type);
+    }
+    return result;
+  }
+
+  private boolean isRoot(String className) {
+    if (rootClasses.contains(className)) return true;
+    if (rootAnnotations.isEmpty()) return false;
+    var info = classFiles.info(className);
+    if (info == null) return false;
+    for (var annotation : info.annotations)
+      if (rootAnnotations.contains(annotation.typeName())) return true;
+    return false;
+  }
+
+  /**
+   * @return classes in parameter and return types of public instance methods declared by the class
+   */
+  private static Set<String> signatureTypes(ClassInfo info) {
+    var result = new HashSet<String>();
+    for (var method : info.methods) {
+      if (!method.isPublic() || method.isStatic() || method.name.startsWith("<")) continue;
+      var signature = method.signature != null ? method.signature : method.descriptor;
+      for (var type : TypeSignature.parameterTypes(signature)) BytecodeConverter.addClassNames(type, result);
+      BytecodeConverter.addClassNames(TypeSignature.returnType(signature), result);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,28 @@
+package jvm2dts;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * Loads classes found in the input roots itself before asking the parent, so that every new instance sees
+ * their current class files, even if the same classes are also on the class path.
+ */
+class RootClassLoader extends URLClassLoader {
+  static {
+    registerAsParallelCapable();
+  }
+
+  RootClassLoader(URL[] roots, ClassLoader parent) {
+    super(roots, parent);
+  }
+
+  @Override protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+    synchronized (getClassLoadingLock(name)) {
+      var loaded = findLoadedClass(name);
+      if (loaded == null && findResource(ClassFiles.toResourceName(name)) != null) loaded = findClass(name);
+      if (loaded == null) return super.loadClass(name, resolve);
+      if (resolve) resolveClass(loaded);
+      return loaded;
+    }
+  }
+}
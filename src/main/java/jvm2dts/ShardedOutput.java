@@ -0,0 +1,148 @@
+package jvm2dts;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static java.lang.System.lineSeparator;
+
+/**
+ * Writes declarations into one file per Java package (or per package prefix of the configured depth) in a directory,
+ * e.g. <code>com.example.model.ts</code>, each importing the types it refers to from the other files.
+ * Files are flat in the directory, so every import is <code>from './com.example.other';</code>.
+ * <p>
+ * Types are referred to by simple name in declarations, so a name declared in the file itself refers to that declaration,
+ * and other names are imported from the first file (by name) that declares them.
+ */
+public class ShardedOutput {
+  static final String EXTENSION = ".ts";
+  static final String DEFAULT_PACKAGE = "default";
+
+  private final Path dir;
+  private int packageDepth;
+  private final Set<Path> written = new HashSet<>();
+
+  public ShardedOutput(Path dir) {
+    this.dir = dir;
+  }
+
+  /**
+   * @param packageDepth number of leading package name segments to group classes by, 0 for the full package name
+   */
+  public ShardedOutput packageDepth(int packageDepth) {
+    this.packageDepth = packageDepth;
+    return this;
+  }
+
+  public Path dir() {
+    return dir;
+  }
+
+  String shardOf(String className) {
+    var lastDot = className.lastIndexOf('.');
+    if (lastDot == -1) return DEFAULT_PACKAGE;
+    var packageName = className.substring(0, lastDot);
+    if (packageDepth <= 0) return packageName;
+    var end = -1;
+    for (int i = 0; i < packageDepth; i++) {
+      end = packageName.indexOf('.', end + 1);
+      if (end == -1) return packageName;
+    }
+    return packageName.substring(0, end);
+  }
+
+  /**
+   * @return declarations by class name, grouped by shard name, both in order
+   */
+  SortedMap<String, SortedMap<String, String>> group(SortedMap<String, String> declarations) {
+    var shards = new TreeMap<String, SortedMap<String, String>>();
+    for (var declaration : declarations.entrySet())
+      shards.computeIfAbsent(shardOf(declaration.getKey()), shard -> new TreeMap<>()).put(declaration.getKey(), declaration.getValue());
+    return shards;
+  }
+
+  /**
+   * @return names of shards by the simple type names declared in them
+   */
+  static Map<String, String> declaringShards(SortedMap<String, SortedMap<String, String>> shards) {
+    var result = new HashMap<String, String>();
+    for (var shard : shards.entrySet())
+      for (var declaration : shard.getValue().values()) {
+        var name = declaredName(declaration);
+        if (name != null) result.putIfAbsent(name, shard.getKey());
+      }
+    return result;
+  }
+
+  /**
+   * Writes a single shard to a temporary file first, so that tools watching the directory never see it half-written
+   */
+  void write(String shard, SortedMap<String, String> declarations, Map<String, String> declaringShards) throws IOException {
+    Main.write(dir.resolve(shard + EXTENSION), writer -> {
+      var declared = new HashSet<String>();
+      for (var declaration : declarations.values()) declared.add(declaredName(declaration));
+      var imports = new TreeMap<String, SortedSet<String>>();
+      for (var declaration : declarations.values()) {
+        for (var type : referencedTypes(declaration)) {
+          var from = declaringShards.get(type);
+          if (from != null && !from.equals(shard) && !declared.contains(type)) imports.computeIfAbsent(from, s -> new TreeSet<>()).add(type);
+        }
+      }
+      for (var entry : imports.entrySet())
+        writer.append("import {").append(String.join(", ", entry.getValue())).append("} from './").append(entry.getKey()).append("';").append(lineSeparator());
+      if (!imports.isEmpty()) writer.append(lineSeparator());
+      for (var declaration : declarations.entrySet())
+        writer.append("// ").append(declaration.getKey()).append(lineSeparator()).append("export ").append(declaration.getValue()).append(lineSeparator());
+      return declarations.size();
+    });
+  }
+
+  /**
+   * Deletes files of shards written previously that no longer have any declarations
+   */
+  void deleteStale(Set<String> shards) throws IOException {
+    var current = new HashSet<Path>();
+    for (var shard : shards) current.add(dir.resolve(shard + EXTENSION));
+    for (var file : written)
+      if (!current.contains(file)) Files.deleteIfExists(file);
+    written.clear();
+    written.addAll(current);
+  }
+
+  /**
+   * @return name of the interface or enum, e.g. <code>Model</code> for <code>interface Model&lt;T&gt; {id: string;}</code>
+   */
+  static String declaredName(String declaration) {
+    var start = declaration.indexOf(' ') + 1;
+    var end = start;
+    while (end < declaration.length() && Character.isJavaIdentifierPart(declaration.charAt(end))) end++;
+    return end > start ? declaration.substring(start, end) : null;
+  }
+
+  /**
+   * @return identifiers in type positions of the declaration, skipping property names, enum constants and string literals
+   */
+  static Set<String> referencedTypes(String declaration) {
+    var result = new HashSet<String>();
+    var body = declaration.indexOf('{');
+    if (body == -1) return result;
+    var length = declaration.length();
+    for (int i = body + 1; i < length; i++) {
+      var c = declaration.charAt(i);
+      if (c == '\'' || c == '"') {
+        i = declaration.indexOf(c, i + 1);
+        if (i == -1) break;
+      } else if (Character.isJavaIdentifierStart(c)) {
+        var start = i;
+        while (i + 1 < length && Character.isJavaIdentifierPart(declaration.charAt(i + 1))) i++;
+        var next = i + 1;
+        while (next < length && declaration.charAt(next) == ' ') next++;
+        if (next < length && declaration.charAt(next) == '?') next++;
+        if (next < length && (declaration.charAt(next) == ':' || declaration.charAt(next) == '=')) continue;
+        result.add(declaration.substring(start, i + 1));
+      }
+    }
+    return result;
+  }
+}
@@ -9,11 +9,13 @@ import java.time.chrono.ChronoPeriod;
 import java.time.zone.ZoneOffsetTransition;
 import java.time.zone.ZoneOffsetTransitionRule;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static jvm2dts.Converter.tsName;
 
 public class TypeMapper {
   private Map<Class<?>, String> map = new HashMap<>();
+  private Map<String, String> names = new HashMap<>();
 
   public TypeMapper(Map<Class<?>, String> customTypes) {
     map.put(byte.class, "number");
@@ -63,15 +65,98 @@ public class TypeMapper {
     map.put(ZoneOffsetTransitionRule.class, "string");
 
     map.putAll(customTypes);
+    map.forEach((type, tsType) -> names.put(type.getName(), tsType));
   }
 
+  /**
+   * Casts classes given by name, without loading them, for converting classes that are not loaded either
+   * with {@link #getTSType(String, ClassFiles)}
+   */
+  static TypeMapper ofNames(Map<String, String> customTypes) {
+    var typeMapper = new TypeMapper(Map.of());
+    typeMapper.names.putAll(customTypes);
+    return typeMapper;
+  }
+
+  private record Resolution(String simpleType, String tsType) {}
+
+  private final ClassValue<Resolution> resolutions = new ClassValue<>() {
+    @Override protected Resolution computeValue(Class<?> type) {
+      var simpleType = resolveSimpleTSType(type);
+      return new Resolution(simpleType, simpleType != null ? simpleType : tsName(type));
+    }
+  };
+
+  private final Map<String, Resolution> nameResolutions = new ConcurrentHashMap<>();
+
+  /**
+   * @return TypeScript type cast for the class or the nearest of its superclasses and superinterfaces, or null if there is none
+   */
   public String getSimpleTSType(Class<?> type) {
-    if (type == Object.class) return "any";
-    return map.getOrDefault(type, map.get(type.getSuperclass()));
+    return resolutions.get(type).simpleType;
   }
 
   public String getTSType(Class<?> type) {
-    var simple = getSimpleTSType(type);
-    return simple != null ? simple : tsName(type);
+    return resolutions.get(type).tsType;
+  }
+
+  private String resolveSimpleTSType(Class<?> type) {
+    if (type == Object.class) return "any";
+    for (var c = type; c != null; c = c.getSuperclass()) {
+      var tsType = map.get(c);
+      if (tsType != null) return tsType;
+    }
+    var interfaces = new ArrayDeque<Class<?>>();
+    for (var c = type; c != null; c = c.getSuperclass()) interfaces.addAll(List.of(c.getInterfaces()));
+    while (!interfaces.isEmpty()) {
+      var i = interfaces.poll();
+      var tsType = map.get(i);
+      if (tsType != null) return tsType;
+      interfaces.addAll(List.of(i.getInterfaces()));
+    }
+    return null;
+  }
+
+  /**
+   * Same as {@link #getSimpleTSType(Class)} for classes that are not loaded, given their names in the format of {@link Class#getName()}
+   */
+  String getSimpleTSType(String className, ClassFiles classFiles) {
+    return resolve(className, classFiles).simpleType;
+  }
+
+  String getTSType(String className, ClassFiles classFiles) {
+    return resolve(className, classFiles).tsType;
+  }
+
+  private Resolution resolve(String className, ClassFiles classFiles) {
+    var resolution = nameResolutions.get(className);
+    if (resolution != null) return resolution;
+    var simpleType = resolveSimpleTSType(className, classFiles);
+    resolution = new Resolution(simpleType, simpleType != null ? simpleType : tsName(className));
+    nameResolutions.put(className, resolution);
+    return resolution;
+  }
+
+  private String resolveSimpleTSType(String className, ClassFiles classFiles) {
+    if (className.equals("java.lang.Object")) return "any";
+    var interfaces = new ArrayDeque<String>();
+    for (var c = className; c != null; ) {
+      var tsType = names.get(c);
+      if (tsType != null) return tsType;
+      var info = classFiles.info(c);
+      if (info == null) break;
+      interfaces.addAll(info.interfaces);
+      c = info.isInterface() ? null : info.superName;
+    }
+    var visited = new HashSet<String>();
+    while (!interfaces.isEmpty()) {
+      var i = interfaces.poll();
+      if (!visited.add(i)) continue;
+      var tsType = names.get(i);
+      if (tsType != null) return tsType;
+      var info = classFiles.info(i);
+      if (info != null) interfaces.addAll(info.interfaces);
+    }
+    return null;
   }
 }
@@ -0,0 +1,337 @@
+package jvm2dts;
+
+import jvm2dts.ClassInfo.MethodInfo;
+import jvm2dts.TypeSignature.ArrayType;
+import jvm2dts.TypeSignature.ClassSignature;
+import jvm2dts.TypeSignature.ClassType;
+import jvm2dts.TypeSignature.TypeParameter;
+import jvm2dts.TypeSignature.Wildcard;
+
+import java.lang.reflect.*;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyList;
+import static jvm2dts.Converter.tsName;
+import static jvm2dts.TypeSignature.OBJECT;
+
+/**
+ * Renders TypeScript types of properties from generic Java types, the same way with reflection and from class files:
+ * maps become index signatures and iterables become arrays at any depth, and type variables are replaced with
+ * the type arguments that the converted class passes to its superclasses and superinterfaces, or else with the erasure of their bound.
+ * Rendered types are memoized, so that shapes like {@code List<Map<String, Money>>} are rendered once per run.
+ * Types that cannot be rendered more precisely become {@code any}, nothing is thrown.
+ */
+class TypeRenderer {
+  private final TypeMapper typeMapper;
+  private final ClassFiles classFiles;
+
+  /**
+   * Rendered types without type variables keyed by themselves, and the others by {@link OpenType}
+   */
+  private final Map<Object, String> rendered = new ConcurrentHashMap<>();
+
+  /**
+   * Type with type variables, which are resolved against the converted class
+   */
+  private record OpenType(Object type, Object context) {}
+
+  /**
+   * @param classFiles class files to render {@link TypeSignature}s with, or null if only reflection is used
+   */
+  TypeRenderer(TypeMapper typeMapper, ClassFiles classFiles) {
+    this.typeMapper = typeMapper;
+    this.classFiles = classFiles;
+  }
+
+  /**
+   * @param type generic type of a property, e.g. from {@link Method#getGenericReturnType()}
+   * @param context converted class, which the property may be inherited into from a generic superclass
+   */
+  String render(Type type, Class<?> context) {
+    var result = rendered.get(type);
+    if (result == null) result = rendered.get(new OpenType(type, context));
+    if (result != null) return result;
+
+    var rendering = new Rendering(context);
+    rendering.property(type);
+    result = rendering.out.toString();
+    rendered.put(rendering.open ? new OpenType(type, context) : type, result);
+    return result;
+  }
+
+  /**
+   * Type arguments of every generic superclass and superinterface of the class, by their type parameters
+   */
+  private final ClassValue<Map<TypeVariable<?>, Type>> typeArguments = new ClassValue<>() {
+    @Override protected Map<TypeVariable<?>, Type> computeValue(Class<?> clazz) {
+      var result = new HashMap<TypeVariable<?>, Type>();
+      collectTypeArguments(clazz, result);
+      return result;
+    }
+  };
+
+  private static void collectTypeArguments(Class<?> clazz, Map<TypeVariable<?>, Type> result) {
+    var supertypes = new ArrayList<Type>();
+    if (clazz.getGenericSuperclass() != null) supertypes.add(clazz.getGenericSuperclass());
+    supertypes.addAll(List.of(clazz.getGenericInterfaces()));
+    for (var supertype : supertypes) {
+      if (supertype instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> raw) {
+        var parameters = raw.getTypeParameters();
+        var arguments = parameterized.getActualTypeArguments();
+        for (int i = 0; i < parameters.length && i < arguments.length; i++) result.putIfAbsent(parameters[i], arguments[i]);
+        collectTypeArguments(raw, result);
+      } else if (supertype instanceof Class<?> raw) {
+        collectTypeArguments(raw, result);
+      }
+    }
+  }
+
+  private class Rendering {
+    final Class<?> context;
+    final StringBuilder out = new StringBuilder();
+    /** whether the type had type variables, so that its rendering depends on the context */
+    boolean open;
+
+    Rendering(Class<?> context) {
+      this.context = context;
+    }
+
+    /**
+     * Renders the type of a property, where generic classes other than maps and iterables keep their type arguments
+     */
+    void property(Type type) {
+      if (type instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> raw &&
+          !Map.class.isAssignableFrom(raw) && !Iterable.class.isAssignableFrom(raw)) {
+        var simple = typeMapper.getSimpleTSType(raw);
+        if (simple != null) {
+          out.append(simple);
+          return;
+        }
+        out.append(tsName(raw)).append("<");
+        var arguments = parameterized.getActualTypeArguments();
+        for (int i = 0; i < arguments.length; i++) {
+          if (i > 0) out.append(",");
+          element(arguments[i]);
+        }
+        out.append(">");
+      } else element(type);
+    }
+
+    /**
+     * Renders a type nested in another, where generic classes other than maps and iterables lose their type arguments
+     */
+    void element(Type type) {
+      if (type instanceof Class<?> clazz) {
+        if (clazz.isArray()) {
+          element(clazz.getComponentType());
+          out.append("[]");
+        } else out.append(typeMapper.getTSType(clazz));
+      } else if (type instanceof GenericArrayType array) {
+        element(array.getGenericComponentType());
+        out.append("[]");
+      } else if (type instanceof WildcardType wildcard) {
+        var bounds = wildcard.getLowerBounds();
+        element(bounds.length > 0 ? bounds[0] : wildcard.getUpperBounds()[0]);
+      } else if (type instanceof TypeVariable<?> variable) {
+        element(resolve(variable));
+      } else if (type instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> raw) {
+        var arguments = parameterized.getActualTypeArguments();
+        if (Map.class.isAssignableFrom(raw) && arguments.length == 2) {
+          out.append("{[key: string]: ");
+          element(arguments[1]);
+          out.append("}");
+        } else if (Iterable.class.isAssignableFrom(raw) && arguments.length > 0) {
+          element(arguments[0]);
+          out.append("[]");
+        } else out.append(typeMapper.getTSType(raw));
+      } else out.append("any");
+    }
+
+    /**
+     * @return type argument of the variable in the context, or the erasure of its bound
+     */
+    private Type resolve(TypeVariable<?> variable) {
+      open = true;
+      var argument = typeArguments.get(context).get(variable);
+      if (argument != null) return argument;
+      var bound = variable.getBounds()[0];
+      return bound instanceof ParameterizedType parameterized ? parameterized.getRawType() : bound;
+    }
+  }
+
+  /**
+   * Same as {@link #render(Type, Class)} for the return type of a method from its class file
+   * @param owner class declaring the method
+   */
+  String render(TypeSignature type, ClassInfo context, ClassInfo owner, MethodInfo method) {
+    var closed = close(type, context, owner, method);
+    var result = rendered.get(closed);
+    if (result != null) return result;
+
+    var out = new StringBuilder();
+    property(out, closed);
+    result = out.toString();
+    rendered.put(closed, result);
+    return result;
+  }
+
+  /**
+   * @return the type with its type variables replaced the same way as when it is rendered, i.e. the types that the rendering refers to
+   */
+  TypeSignature close(TypeSignature type, ClassInfo context, ClassInfo owner, MethodInfo method) {
+    var methodParameters = method.signature != null ? TypeSignature.typeParameters(method.signature) : List.<TypeParameter>of();
+    return substitute(type, name -> resolve(name, methodParameters, context, owner));
+  }
+
+  private final Map<String, Map<String, TypeSignature>> typeArgumentsByName = new ConcurrentHashMap<>();
+
+  /**
+   * @return type arguments of the class and all of its superclasses and superinterfaces, keyed by "owner:variable"
+   */
+  private Map<String, TypeSignature> typeArguments(ClassInfo info) {
+    var result = typeArgumentsByName.get(info.name);
+    if (result != null) return result;
+
+    result = new HashMap<>();
+    var signature = classSignature(info);
+    var scope = erasures(signature.typeParameters());
+    for (var entry : scope.entrySet()) result.put(info.name + ":" + entry.getKey(), entry.getValue());
+    collectTypeArguments(signature, scope, result, new HashSet<>(Set.of(info.name)));
+    typeArgumentsByName.put(info.name, result);
+    return result;
+  }
+
+  private void collectTypeArguments(ClassSignature signature, Map<String, TypeSignature> scope, Map<String, TypeSignature> result, Set<String> visited) {
+    for (var supertype : signature.supertypes()) {
+      var info = classFiles.info(supertype.name());
+      if (info == null || !visited.add(info.name)) continue;
+      var superSignature = classSignature(info);
+      var parameters = superSignature.typeParameters();
+      Map<String, TypeSignature> superScope;
+      if (supertype.arguments().size() == parameters.size()) {
+        superScope = new HashMap<>();
+        for (int i = 0; i < parameters.size(); i++)
+          superScope.put(parameters.get(i).name(), substitute(supertype.arguments().get(i), name -> scope.getOrDefault(name, OBJECT)));
+      } else superScope = erasures(parameters);
+      for (var entry : superScope.entrySet()) result.putIfAbsent(info.name + ":" + entry.getKey(), entry.getValue());
+      collectTypeArguments(superSignature, superScope, result, visited);
+    }
+  }
+
+  private static ClassSignature classSignature(ClassInfo info) {
+    if (info.signature != null) return TypeSignature.classSignature(info.signature);
+    var supertypes = new ArrayList<ClassType>();
+    if (info.superName != null) supertypes.add(new ClassType(info.superName, emptyList()));
+    for (var type : info.interfaces) supertypes.add(new ClassType(type, emptyList()));
+    return new ClassSignature(emptyList(), supertypes);
+  }
+
+  /**
+   * @return erasures of the bounds of type parameters, like raw types get with reflection
+   */
+  private static Map<String, TypeSignature> erasures(List<TypeParameter> parameters) {
+    var result = new HashMap<String, TypeSignature>();
+    for (var parameter : parameters) result.put(parameter.name(), erasure(parameter, parameters, parameters.size()));
+    return result;
+  }
+
+  private static TypeSignature erasure(TypeParameter parameter, List<TypeParameter> parameters, int depth) {
+    var bound = parameter.bound();
+    if (bound instanceof ClassType classType) return classType.isPlain() ? classType : new ClassType(classType.name(), emptyList());
+    if (bound instanceof TypeSignature.TypeVariable variable && depth > 0)
+      for (var other : parameters)
+        if (other.name().equals(variable.name())) return erasure(other, parameters, depth - 1);
+    return OBJECT;
+  }
+
+  /**
+   * Resolves a type variable used in a method the same way as reflection does: from the type parameters of the method,
+   * the type arguments of the context class, or the type parameters of the classes the owner is nested in
+   */
+  private TypeSignature resolve(String variable, List<TypeParameter> methodParameters, ClassInfo context, ClassInfo owner) {
+    for (var parameter : methodParameters)
+      if (parameter.name().equals(variable))
+        return parameter.bound() instanceof TypeSignature.TypeVariable bound ?
+          resolve(bound.name(), methodParameters, context, owner) : erasure(parameter, methodParameters, 0);
+    var argument = typeArguments(context).get(owner.name + ":" + variable);
+    if (argument != null) return argument;
+    for (var outer = classFiles.info(owner.declaringClass); outer != null; outer = classFiles.info(outer.declaringClass)) {
+      var erasure = erasures(classSignature(outer).typeParameters()).get(variable);
+      if (erasure != null) return erasure;
+    }
+    return OBJECT;
+  }
+
+  /**
+   * @return the type with its type variables replaced, or the same instance if it has none
+   */
+  static TypeSignature substitute(TypeSignature type, Function<String, TypeSignature> variables) {
+    if (type instanceof TypeSignature.TypeVariable variable) return variables.apply(variable.name());
+    if (type instanceof ArrayType array) {
+      var component = substitute(array.component(), variables);
+      return component == array.component() ? array : new ArrayType(component);
+    }
+    if (type instanceof Wildcard wildcard && wildcard.type() != null) {
+      var bound = substitute(wildcard.type(), variables);
+      return bound == wildcard.type() ? wildcard : new Wildcard(wildcard.bound(), bound);
+    }
+    if (type instanceof ClassType classType && !classType.isPlain()) {
+      List<TypeSignature> arguments = null;
+      for (int i = 0; i < classType.arguments().size(); i++) {
+        var argument = classType.arguments().get(i);
+        var substituted = substitute(argument, variables);
+        if (substituted != argument && arguments == null) arguments = new ArrayList<>(classType.arguments());
+        if (arguments != null) arguments.set(i, substituted);
+      }
+      return arguments == null ? classType : new ClassType(classType.name(), arguments);
+    }
+    return type;
+  }
+
+  private void property(StringBuilder out, TypeSignature type) {
+    if (type instanceof ClassType classType && !classType.isPlain() && !isMap(classType) && !isIterable(classType)) {
+      var simple = typeMapper.getSimpleTSType(classType.name(), classFiles);
+      if (simple != null) {
+        out.append(simple);
+        return;
+      }
+      out.append(tsName(classType.name())).append("<");
+      var arguments = classType.arguments();
+      for (int i = 0; i < arguments.size(); i++) {
+        if (i > 0) out.append(",");
+        element(out, arguments.get(i));
+      }
+      out.append(">");
+    } else element(out, type);
+  }
+
+  private void element(StringBuilder out, TypeSignature type) {
+    if (type instanceof ClassType classType) {
+      var arguments = classType.arguments();
+      if (arguments.size() == 2 && isMap(classType)) {
+        out.append("{[key: string]: ");
+        element(out, arguments.get(1));
+        out.append("}");
+      } else if (!arguments.isEmpty() && isIterable(classType)) {
+        element(out, arguments.get(0));
+        out.append("[]");
+      } else out.append(typeMapper.getTSType(classType.name(), classFiles));
+    } else if (type instanceof ArrayType array) {
+      element(out, array.component());
+      out.append("[]");
+    } else if (type instanceof Wildcard wildcard) {
+      element(out, wildcard.type() != null ? wildcard.type() : OBJECT);
+    } else out.append("any");
+  }
+
+  private boolean isMap(ClassType type) {
+    return classFiles.superTypes(type.name()).contains("java.util.Map");
+  }
+
+  private boolean isIterable(ClassType type) {
+    return classFiles.superTypes(type.name()).contains("java.lang.Iterable");
+  }
+}
@@ -0,0 +1,212 @@
+package jvm2dts;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Java type read from a descriptor or a generic {@code Signature} attribute of a class file,
+ * mirroring {@link java.lang.reflect.Type} for classes that are not loaded.
+ */
+sealed interface TypeSignature {
+  ClassType OBJECT = new ClassType("java.lang.Object", emptyList());
+
+  /**
+   * @return name in the format of {@link Class#getName()}, or null for type variables and wildcards
+   */
+  String className();
+
+  /**
+   * @return true if this type would be represented by a {@link Class} with reflection, i.e. it has no type arguments
+   */
+  boolean isPlain();
+
+  record ClassType(String name, List<TypeSignature> arguments) implements TypeSignature {
+    @Override public String className() { return name; }
+    @Override public boolean isPlain() { return arguments.isEmpty(); }
+    boolean isPrimitive() { return PRIMITIVES.contains(name); }
+  }
+
+  record ArrayType(TypeSignature component) implements TypeSignature {
+    @Override public String className() {
+      var componentName = component.className();
+      return componentName == null ? null : "[" + descriptorName(component);
+    }
+    @Override public boolean isPlain() { return component.isPlain(); }
+  }
+
+  record TypeVariable(String name) implements TypeSignature {
+    @Override public String className() { return null; }
+    @Override public boolean isPlain() { return false; }
+  }
+
+  /**
+   * @param bound '+' for extends, '-' for super or '*' for unbounded wildcards
+   */
+  record Wildcard(char bound, TypeSignature type) implements TypeSignature {
+    @Override public String className() { return null; }
+    @Override public boolean isPlain() { return false; }
+  }
+
+  /**
+   * @param bound first bound, which the type parameter is erased to, or {@link #OBJECT} if it has none
+   */
+  record TypeParameter(String name, TypeSignature bound) {}
+
+  /**
+   * Generic signature of a class
+   * @param supertypes superclass followed by the superinterfaces
+   */
+  record ClassSignature(List<TypeParameter> typeParameters, List<ClassType> supertypes) {}
+
+  List<String> PRIMITIVES = List.of("byte", "char", "double", "float", "int", "long", "short", "boolean", "void");
+  String PRIMITIVE_DESCRIPTORS = "BCDFIJSZV";
+
+  private static String descriptorName(TypeSignature type) {
+    if (type instanceof ClassType classType)
+      return classType.isPrimitive() ? String.valueOf(PRIMITIVE_DESCRIPTORS.charAt(PRIMITIVES.indexOf(classType.name))) : "L" + classType.name + ";";
+    return "[" + descriptorName(((ArrayType) type).component);
+  }
+
+  /**
+   * Parses the return type of a method descriptor or generic method signature.
+   */
+  static TypeSignature returnType(String methodSignature) {
+    var parser = new Parser(methodSignature);
+    parser.typeParameters();
+    parser.expect('(');
+    while (parser.peek() != ')') parser.type();
+    parser.expect(')');
+    return parser.type();
+  }
+
+  /**
+   * Parses the parameter types of a method descriptor or generic method signature.
+   */
+  static List<TypeSignature> parameterTypes(String methodSignature) {
+    var parser = new Parser(methodSignature);
+    parser.typeParameters();
+    parser.expect('(');
+    var result = new ArrayList<TypeSignature>();
+    while (parser.peek() != ')') result.add(parser.type());
+    return result;
+  }
+
+  /**
+   * Parses the type parameters of a generic method signature.
+   */
+  static List<TypeParameter> typeParameters(String methodSignature) {
+    return new Parser(methodSignature).typeParameters();
+  }
+
+  /**
+   * Parses the {@code Signature} attribute of a generic class.
+   */
+  static ClassSignature classSignature(String signature) {
+    var parser = new Parser(signature);
+    var typeParameters = parser.typeParameters();
+    var supertypes = new ArrayList<ClassType>();
+    while (parser.pos < signature.length()) {
+      parser.expect('L');
+      supertypes.add(parser.classType());
+    }
+    return new ClassSignature(typeParameters, supertypes);
+  }
+
+  /**
+   * Parses a field descriptor or generic field signature.
+   */
+  static TypeSignature parse(String signature) {
+    return new Parser(signature).type();
+  }
+
+  final class Parser {
+    private final String s;
+    private int pos;
+
+    Parser(String s) {
+      this.s = s;
+    }
+
+    char peek() {
+      return s.charAt(pos);
+    }
+
+    void expect(char c) {
+      if (s.charAt(pos++) != c) throw new IllegalArgumentException("Expected '" + c + "' at " + (pos - 1) + " in " + s);
+    }
+
+    List<TypeParameter> typeParameters() {
+      if (peek() != '<') return emptyList();
+      pos++;
+      var result = new ArrayList<TypeParameter>();
+      while (peek() != '>') {
+        var colon = s.indexOf(':', pos);
+        var name = s.substring(pos, colon);
+        pos = colon;
+        TypeSignature bound = null;
+        while (peek() == ':') {
+          pos++;
+          if (peek() != ':') {
+            var type = type();
+            if (bound == null) bound = type;
+          }
+        }
+        result.add(new TypeParameter(name, bound != null ? bound : OBJECT));
+      }
+      pos++;
+      return result;
+    }
+
+    TypeSignature type() {
+      var c = s.charAt(pos++);
+      switch (c) {
+        case 'L': return classType();
+        case '[': return new ArrayType(type());
+        case 'T': {
+          var end = s.indexOf(';', pos);
+          var name = s.substring(pos, end);
+          pos = end + 1;
+          return new TypeVariable(name);
+        }
+        default:
+          var index = PRIMITIVE_DESCRIPTORS.indexOf(c);
+          if (index < 0) throw new IllegalArgumentException("Unexpected '" + c + "' at " + (pos - 1) + " in " + s);
+          return new ClassType(PRIMITIVES.get(index), emptyList());
+      }
+    }
+
+    ClassType classType() {
+      var name = new StringBuilder();
+      List<TypeSignature> arguments = emptyList();
+      while (true) {
+        var c = s.charAt(pos++);
+        if (c == ';') return new ClassType(name.toString(), arguments);
+        else if (c == '/') name.append('.');
+        else if (c == '.') {
+          name.append('$');
+          arguments = emptyList();
+        }
+        else if (c == '<') arguments = typeArguments();
+        else name.append(c);
+      }
+    }
+
+    private List<TypeSignature> typeArguments() {
+      var arguments = new ArrayList<TypeSignature>();
+      while (peek() != '>') {
+        var c = peek();
+        if (c == '*') {
+          pos++;
+          arguments.add(new Wildcard(c, null));
+        } else if (c == '+' || c == '-') {
+          pos++;
+          arguments.add(new Wildcard(c, type()));
+        } else arguments.add(type());
+      }
+      pos++;
+      return arguments;
+    }
+  }
+}
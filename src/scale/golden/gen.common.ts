@@ -0,0 +1,14 @@
+// gen.common.Auditable
+export interface Auditable {createdAt: string; createdBy: any; id: string; updatedAt?: string; version: number;}
+// gen.common.Catalog
+export interface Catalog {children: Tree[]; index: {[key: string]: Money[]}; key: string; value: Money;}
+// gen.common.Identified
+export interface Identified {id: string; version: number;}
+// gen.common.Money
+export interface Money {amount: number; currency: string;}
+// gen.common.Page
+export interface Page {first?: any; groups: {[key: string]: any[]}; items: any[]; total: number;}
+// gen.common.Status
+export enum Status {ACTIVE = 'ACTIVE', SUSPENDED = 'SUSPENDED', DELETED = 'DELETED'}
+// gen.common.Tree
+export interface Tree {children: Tree[]; index: {[key: string]: any[]}; key: Comparable; value: any;}
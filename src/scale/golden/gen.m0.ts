@@ -0,0 +1,202 @@
+import {Catalog, Money, Page, Status, Tree} from './gen.common';
+
+// gen.m0.M0Box0
+export interface M0Box0 {amounts: number[]; array: any[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: Comparable}; covariant: any[]; index0: {[key: string]: any[][]}; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; tree: Tree<Comparable,any[]>; value: any;}
+// gen.m0.M0Box1
+export interface M0Box1 {amounts: number[]; array: any[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: Comparable}; covariant: any[]; index1: {[key: string]: any[][]}; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; tree: Tree<Comparable,any[]>; value: any;}
+// gen.m0.M0Box2
+export interface M0Box2 {amounts: number[]; array: any[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: Comparable}; covariant: any[]; index2: {[key: string]: any[][]}; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; tree: Tree<Comparable,any[]>; value: any;}
+// gen.m0.M0Box3
+export interface M0Box3 {amounts: number[]; array: any[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: Comparable}; covariant: any[]; index3: {[key: string]: any[][]}; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; tree: Tree<Comparable,any[]>; value: any;}
+// gen.m0.M0Box4
+export interface M0Box4 {amounts: number[]; array: any[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: Comparable}; covariant: any[]; index4: {[key: string]: any[][]}; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; tree: Tree<Comparable,any[]>; value: any;}
+// gen.m0.M0Box5
+export interface M0Box5 {amounts: number[]; array: any[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: Comparable}; covariant: any[]; index5: {[key: string]: any[][]}; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; tree: Tree<Comparable,any[]>; value: any;}
+// gen.m0.M0Box6
+export interface M0Box6 {amounts: number[]; array: any[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: Comparable}; covariant: any[]; index6: {[key: string]: any[][]}; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; tree: Tree<Comparable,any[]>; value: any;}
+// gen.m0.M0Box7
+export interface M0Box7 {amounts: number[]; array: any[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: Comparable}; covariant: any[]; index7: {[key: string]: any[][]}; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; tree: Tree<Comparable,any[]>; value: any;}
+// gen.m0.M0Box8
+export interface M0Box8 {amounts: number[]; array: any[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: Comparable}; covariant: any[]; index8: {[key: string]: any[][]}; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; tree: Tree<Comparable,any[]>; value: any;}
+// gen.m0.M0Box9
+export interface M0Box9 {amounts: number[]; array: any[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: Comparable}; covariant: any[]; index9: {[key: string]: any[][]}; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; tree: Tree<Comparable,any[]>; value: any;}
+// gen.m0.M0Code0
+export enum M0Code0 {CODE_0_000 = 'CODE_0_000', CODE_0_001 = 'CODE_0_001', CODE_0_002 = 'CODE_0_002', CODE_0_003 = 'CODE_0_003', CODE_0_004 = 'CODE_0_004', CODE_0_005 = 'CODE_0_005', CODE_0_006 = 'CODE_0_006', CODE_0_007 = 'CODE_0_007', CODE_0_008 = 'CODE_0_008', CODE_0_009 = 'CODE_0_009', CODE_0_010 = 'CODE_0_010', CODE_0_011 = 'CODE_0_011', CODE_0_012 = 'CODE_0_012', CODE_0_013 = 'CODE_0_013', CODE_0_014 = 'CODE_0_014', CODE_0_015 = 'CODE_0_015', CODE_0_016 = 'CODE_0_016', CODE_0_017 = 'CODE_0_017', CODE_0_018 = 'CODE_0_018', CODE_0_019 = 'CODE_0_019', CODE_0_020 = 'CODE_0_020', CODE_0_021 = 'CODE_0_021', CODE_0_022 = 'CODE_0_022', CODE_0_023 = 'CODE_0_023', CODE_0_024 = 'CODE_0_024', CODE_0_025 = 'CODE_0_025', CODE_0_026 = 'CODE_0_026', CODE_0_027 = 'CODE_0_027', CODE_0_028 = 'CODE_0_028', CODE_0_029 = 'CODE_0_029', CODE_0_030 = 'CODE_0_030', CODE_0_031 = 'CODE_0_031', CODE_0_032 = 'CODE_0_032', CODE_0_033 = 'CODE_0_033', CODE_0_034 = 'CODE_0_034', CODE_0_035 = 'CODE_0_035', CODE_0_036 = 'CODE_0_036', CODE_0_037 = 'CODE_0_037', CODE_0_038 = 'CODE_0_038', CODE_0_039 = 'CODE_0_039', CODE_0_040 = 'CODE_0_040', CODE_0_041 = 'CODE_0_041', CODE_0_042 = 'CODE_0_042', CODE_0_043 = 'CODE_0_043', CODE_0_044 = 'CODE_0_044', CODE_0_045 = 'CODE_0_045', CODE_0_046 = 'CODE_0_046', CODE_0_047 = 'CODE_0_047', CODE_0_048 = 'CODE_0_048', CODE_0_049 = 'CODE_0_049', CODE_0_050 = 'CODE_0_050', CODE_0_051 = 'CODE_0_051', CODE_0_052 = 'CODE_0_052', CODE_0_053 = 'CODE_0_053', CODE_0_054 = 'CODE_0_054', CODE_0_055 = 'CODE_0_055', CODE_0_056 = 'CODE_0_056', CODE_0_057 = 'CODE_0_057', CODE_0_058 = 'CODE_0_058', CODE_0_059 = 'CODE_0_059', CODE_0_060 = 'CODE_0_060', CODE_0_061 = 'CODE_0_061', CODE_0_062 = 'CODE_0_062', CODE_0_063 = 'CODE_0_063', CODE_0_064 = 'CODE_0_064', CODE_0_065 = 'CODE_0_065', CODE_0_066 = 'CODE_0_066', CODE_0_067 = 'CODE_0_067', CODE_0_068 = 'CODE_0_068', CODE_0_069 = 'CODE_0_069', CODE_0_070 = 'CODE_0_070', CODE_0_071 = 'CODE_0_071', CODE_0_072 = 'CODE_0_072', CODE_0_073 = 'CODE_0_073', CODE_0_074 = 'CODE_0_074', CODE_0_075 = 'CODE_0_075', CODE_0_076 = 'CODE_0_076', CODE_0_077 = 'CODE_0_077', CODE_0_078 = 'CODE_0_078', CODE_0_079 = 'CODE_0_079', CODE_0_080 = 'CODE_0_080', CODE_0_081 = 'CODE_0_081', CODE_0_082 = 'CODE_0_082', CODE_0_083 = 'CODE_0_083', CODE_0_084 = 'CODE_0_084', CODE_0_085 = 'CODE_0_085', CODE_0_086 = 'CODE_0_086', CODE_0_087 = 'CODE_0_087', CODE_0_088 = 'CODE_0_088', CODE_0_089 = 'CODE_0_089', CODE_0_090 = 'CODE_0_090', CODE_0_091 = 'CODE_0_091', CODE_0_092 = 'CODE_0_092', CODE_0_093 = 'CODE_0_093', CODE_0_094 = 'CODE_0_094', CODE_0_095 = 'CODE_0_095', CODE_0_096 = 'CODE_0_096', CODE_0_097 = 'CODE_0_097', CODE_0_098 = 'CODE_0_098', CODE_0_099 = 'CODE_0_099', CODE_0_100 = 'CODE_0_100', CODE_0_101 = 'CODE_0_101', CODE_0_102 = 'CODE_0_102', CODE_0_103 = 'CODE_0_103', CODE_0_104 = 'CODE_0_104', CODE_0_105 = 'CODE_0_105', CODE_0_106 = 'CODE_0_106', CODE_0_107 = 'CODE_0_107', CODE_0_108 = 'CODE_0_108', CODE_0_109 = 'CODE_0_109', CODE_0_110 = 'CODE_0_110', CODE_0_111 = 'CODE_0_111', CODE_0_112 = 'CODE_0_112', CODE_0_113 = 'CODE_0_113', CODE_0_114 = 'CODE_0_114', CODE_0_115 = 'CODE_0_115', CODE_0_116 = 'CODE_0_116', CODE_0_117 = 'CODE_0_117', CODE_0_118 = 'CODE_0_118', CODE_0_119 = 'CODE_0_119', CODE_0_120 = 'CODE_0_120', CODE_0_121 = 'CODE_0_121', CODE_0_122 = 'CODE_0_122', CODE_0_123 = 'CODE_0_123', CODE_0_124 = 'CODE_0_124', CODE_0_125 = 'CODE_0_125', CODE_0_126 = 'CODE_0_126', CODE_0_127 = 'CODE_0_127', CODE_0_128 = 'CODE_0_128', CODE_0_129 = 'CODE_0_129', CODE_0_130 = 'CODE_0_130', CODE_0_131 = 'CODE_0_131', CODE_0_132 = 'CODE_0_132', CODE_0_133 = 'CODE_0_133', CODE_0_134 = 'CODE_0_134', CODE_0_135 = 'CODE_0_135', CODE_0_136 = 'CODE_0_136', CODE_0_137 = 'CODE_0_137', CODE_0_138 = 'CODE_0_138', CODE_0_139 = 'CODE_0_139', CODE_0_140 = 'CODE_0_140', CODE_0_141 = 'CODE_0_141', CODE_0_142 = 'CODE_0_142', CODE_0_143 = 'CODE_0_143', CODE_0_144 = 'CODE_0_144', CODE_0_145 = 'CODE_0_145', CODE_0_146 = 'CODE_0_146', CODE_0_147 = 'CODE_0_147', CODE_0_148 = 'CODE_0_148', CODE_0_149 = 'CODE_0_149', CODE_0_150 = 'CODE_0_150', CODE_0_151 = 'CODE_0_151', CODE_0_152 = 'CODE_0_152', CODE_0_153 = 'CODE_0_153', CODE_0_154 = 'CODE_0_154', CODE_0_155 = 'CODE_0_155', CODE_0_156 = 'CODE_0_156', CODE_0_157 = 'CODE_0_157', CODE_0_158 = 'CODE_0_158', CODE_0_159 = 'CODE_0_159', CODE_0_160 = 'CODE_0_160', CODE_0_161 = 'CODE_0_161', CODE_0_162 = 'CODE_0_162', CODE_0_163 = 'CODE_0_163', CODE_0_164 = 'CODE_0_164', CODE_0_165 = 'CODE_0_165', CODE_0_166 = 'CODE_0_166', CODE_0_167 = 'CODE_0_167', CODE_0_168 = 'CODE_0_168', CODE_0_169 = 'CODE_0_169', CODE_0_170 = 'CODE_0_170', CODE_0_171 = 'CODE_0_171', CODE_0_172 = 'CODE_0_172', CODE_0_173 = 'CODE_0_173', CODE_0_174 = 'CODE_0_174', CODE_0_175 = 'CODE_0_175', CODE_0_176 = 'CODE_0_176', CODE_0_177 = 'CODE_0_177', CODE_0_178 = 'CODE_0_178', CODE_0_179 = 'CODE_0_179', CODE_0_180 = 'CODE_0_180', CODE_0_181 = 'CODE_0_181', CODE_0_182 = 'CODE_0_182', CODE_0_183 = 'CODE_0_183', CODE_0_184 = 'CODE_0_184', CODE_0_185 = 'CODE_0_185', CODE_0_186 = 'CODE_0_186', CODE_0_187 = 'CODE_0_187', CODE_0_188 = 'CODE_0_188', CODE_0_189 = 'CODE_0_189', CODE_0_190 = 'CODE_0_190', CODE_0_191 = 'CODE_0_191', CODE_0_192 = 'CODE_0_192', CODE_0_193 = 'CODE_0_193', CODE_0_194 = 'CODE_0_194', CODE_0_195 = 'CODE_0_195', CODE_0_196 = 'CODE_0_196', CODE_0_197 = 'CODE_0_197', CODE_0_198 = 'CODE_0_198', CODE_0_199 = 'CODE_0_199', CODE_0_200 = 'CODE_0_200', CODE_0_201 = 'CODE_0_201', CODE_0_202 = 'CODE_0_202', CODE_0_203 = 'CODE_0_203', CODE_0_204 = 'CODE_0_204', CODE_0_205 = 'CODE_0_205', CODE_0_206 = 'CODE_0_206', CODE_0_207 = 'CODE_0_207', CODE_0_208 = 'CODE_0_208', CODE_0_209 = 'CODE_0_209', CODE_0_210 = 'CODE_0_210', CODE_0_211 = 'CODE_0_211', CODE_0_212 = 'CODE_0_212', CODE_0_213 = 'CODE_0_213', CODE_0_214 = 'CODE_0_214', CODE_0_215 = 'CODE_0_215', CODE_0_216 = 'CODE_0_216', CODE_0_217 = 'CODE_0_217', CODE_0_218 = 'CODE_0_218', CODE_0_219 = 'CODE_0_219', CODE_0_220 = 'CODE_0_220', CODE_0_221 = 'CODE_0_221', CODE_0_222 = 'CODE_0_222', CODE_0_223 = 'CODE_0_223', CODE_0_224 = 'CODE_0_224', CODE_0_225 = 'CODE_0_225', CODE_0_226 = 'CODE_0_226', CODE_0_227 = 'CODE_0_227', CODE_0_228 = 'CODE_0_228', CODE_0_229 = 'CODE_0_229', CODE_0_230 = 'CODE_0_230', CODE_0_231 = 'CODE_0_231', CODE_0_232 = 'CODE_0_232', CODE_0_233 = 'CODE_0_233', CODE_0_234 = 'CODE_0_234', CODE_0_235 = 'CODE_0_235', CODE_0_236 = 'CODE_0_236', CODE_0_237 = 'CODE_0_237', CODE_0_238 = 'CODE_0_238', CODE_0_239 = 'CODE_0_239', CODE_0_240 = 'CODE_0_240', CODE_0_241 = 'CODE_0_241', CODE_0_242 = 'CODE_0_242', CODE_0_243 = 'CODE_0_243', CODE_0_244 = 'CODE_0_244', CODE_0_245 = 'CODE_0_245', CODE_0_246 = 'CODE_0_246', CODE_0_247 = 'CODE_0_247', CODE_0_248 = 'CODE_0_248', CODE_0_249 = 'CODE_0_249', CODE_0_250 = 'CODE_0_250', CODE_0_251 = 'CODE_0_251', CODE_0_252 = 'CODE_0_252', CODE_0_253 = 'CODE_0_253', CODE_0_254 = 'CODE_0_254', CODE_0_255 = 'CODE_0_255', CODE_0_256 = 'CODE_0_256', CODE_0_257 = 'CODE_0_257', CODE_0_258 = 'CODE_0_258', CODE_0_259 = 'CODE_0_259', CODE_0_260 = 'CODE_0_260', CODE_0_261 = 'CODE_0_261', CODE_0_262 = 'CODE_0_262', CODE_0_263 = 'CODE_0_263', CODE_0_264 = 'CODE_0_264', CODE_0_265 = 'CODE_0_265', CODE_0_266 = 'CODE_0_266', CODE_0_267 = 'CODE_0_267', CODE_0_268 = 'CODE_0_268', CODE_0_269 = 'CODE_0_269', CODE_0_270 = 'CODE_0_270', CODE_0_271 = 'CODE_0_271', CODE_0_272 = 'CODE_0_272', CODE_0_273 = 'CODE_0_273', CODE_0_274 = 'CODE_0_274', CODE_0_275 = 'CODE_0_275', CODE_0_276 = 'CODE_0_276', CODE_0_277 = 'CODE_0_277', CODE_0_278 = 'CODE_0_278', CODE_0_279 = 'CODE_0_279', CODE_0_280 = 'CODE_0_280', CODE_0_281 = 'CODE_0_281', CODE_0_282 = 'CODE_0_282', CODE_0_283 = 'CODE_0_283', CODE_0_284 = 'CODE_0_284', CODE_0_285 = 'CODE_0_285', CODE_0_286 = 'CODE_0_286', CODE_0_287 = 'CODE_0_287', CODE_0_288 = 'CODE_0_288', CODE_0_289 = 'CODE_0_289', CODE_0_290 = 'CODE_0_290', CODE_0_291 = 'CODE_0_291', CODE_0_292 = 'CODE_0_292', CODE_0_293 = 'CODE_0_293', CODE_0_294 = 'CODE_0_294', CODE_0_295 = 'CODE_0_295', CODE_0_296 = 'CODE_0_296', CODE_0_297 = 'CODE_0_297', CODE_0_298 = 'CODE_0_298', CODE_0_299 = 'CODE_0_299', CODE_0_300 = 'CODE_0_300', CODE_0_301 = 'CODE_0_301', CODE_0_302 = 'CODE_0_302', CODE_0_303 = 'CODE_0_303', CODE_0_304 = 'CODE_0_304', CODE_0_305 = 'CODE_0_305', CODE_0_306 = 'CODE_0_306', CODE_0_307 = 'CODE_0_307', CODE_0_308 = 'CODE_0_308', CODE_0_309 = 'CODE_0_309', CODE_0_310 = 'CODE_0_310', CODE_0_311 = 'CODE_0_311', CODE_0_312 = 'CODE_0_312', CODE_0_313 = 'CODE_0_313', CODE_0_314 = 'CODE_0_314', CODE_0_315 = 'CODE_0_315', CODE_0_316 = 'CODE_0_316', CODE_0_317 = 'CODE_0_317', CODE_0_318 = 'CODE_0_318', CODE_0_319 = 'CODE_0_319', CODE_0_320 = 'CODE_0_320', CODE_0_321 = 'CODE_0_321', CODE_0_322 = 'CODE_0_322', CODE_0_323 = 'CODE_0_323', CODE_0_324 = 'CODE_0_324', CODE_0_325 = 'CODE_0_325', CODE_0_326 = 'CODE_0_326', CODE_0_327 = 'CODE_0_327', CODE_0_328 = 'CODE_0_328', CODE_0_329 = 'CODE_0_329', CODE_0_330 = 'CODE_0_330', CODE_0_331 = 'CODE_0_331', CODE_0_332 = 'CODE_0_332', CODE_0_333 = 'CODE_0_333', CODE_0_334 = 'CODE_0_334', CODE_0_335 = 'CODE_0_335', CODE_0_336 = 'CODE_0_336', CODE_0_337 = 'CODE_0_337', CODE_0_338 = 'CODE_0_338', CODE_0_339 = 'CODE_0_339', CODE_0_340 = 'CODE_0_340', CODE_0_341 = 'CODE_0_341', CODE_0_342 = 'CODE_0_342', CODE_0_343 = 'CODE_0_343', CODE_0_344 = 'CODE_0_344', CODE_0_345 = 'CODE_0_345', CODE_0_346 = 'CODE_0_346', CODE_0_347 = 'CODE_0_347', CODE_0_348 = 'CODE_0_348', CODE_0_349 = 'CODE_0_349', CODE_0_350 = 'CODE_0_350', CODE_0_351 = 'CODE_0_351', CODE_0_352 = 'CODE_0_352', CODE_0_353 = 'CODE_0_353', CODE_0_354 = 'CODE_0_354', CODE_0_355 = 'CODE_0_355', CODE_0_356 = 'CODE_0_356', CODE_0_357 = 'CODE_0_357', CODE_0_358 = 'CODE_0_358', CODE_0_359 = 'CODE_0_359', CODE_0_360 = 'CODE_0_360', CODE_0_361 = 'CODE_0_361', CODE_0_362 = 'CODE_0_362', CODE_0_363 = 'CODE_0_363', CODE_0_364 = 'CODE_0_364', CODE_0_365 = 'CODE_0_365', CODE_0_366 = 'CODE_0_366', CODE_0_367 = 'CODE_0_367', CODE_0_368 = 'CODE_0_368', CODE_0_369 = 'CODE_0_369', CODE_0_370 = 'CODE_0_370', CODE_0_371 = 'CODE_0_371', CODE_0_372 = 'CODE_0_372', CODE_0_373 = 'CODE_0_373', CODE_0_374 = 'CODE_0_374', CODE_0_375 = 'CODE_0_375', CODE_0_376 = 'CODE_0_376', CODE_0_377 = 'CODE_0_377', CODE_0_378 = 'CODE_0_378', CODE_0_379 = 'CODE_0_379', CODE_0_380 = 'CODE_0_380', CODE_0_381 = 'CODE_0_381', CODE_0_382 = 'CODE_0_382', CODE_0_383 = 'CODE_0_383', CODE_0_384 = 'CODE_0_384', CODE_0_385 = 'CODE_0_385', CODE_0_386 = 'CODE_0_386', CODE_0_387 = 'CODE_0_387', CODE_0_388 = 'CODE_0_388', CODE_0_389 = 'CODE_0_389', CODE_0_390 = 'CODE_0_390', CODE_0_391 = 'CODE_0_391', CODE_0_392 = 'CODE_0_392', CODE_0_393 = 'CODE_0_393', CODE_0_394 = 'CODE_0_394', CODE_0_395 = 'CODE_0_395', CODE_0_396 = 'CODE_0_396', CODE_0_397 = 'CODE_0_397', CODE_0_398 = 'CODE_0_398', CODE_0_399 = 'CODE_0_399'}
+// gen.m0.M0Code1
+export enum M0Code1 {CODE_1_000 = 'CODE_1_000', CODE_1_001 = 'CODE_1_001', CODE_1_002 = 'CODE_1_002', CODE_1_003 = 'CODE_1_003', CODE_1_004 = 'CODE_1_004', CODE_1_005 = 'CODE_1_005', CODE_1_006 = 'CODE_1_006', CODE_1_007 = 'CODE_1_007', CODE_1_008 = 'CODE_1_008', CODE_1_009 = 'CODE_1_009', CODE_1_010 = 'CODE_1_010', CODE_1_011 = 'CODE_1_011', CODE_1_012 = 'CODE_1_012', CODE_1_013 = 'CODE_1_013', CODE_1_014 = 'CODE_1_014', CODE_1_015 = 'CODE_1_015', CODE_1_016 = 'CODE_1_016', CODE_1_017 = 'CODE_1_017', CODE_1_018 = 'CODE_1_018', CODE_1_019 = 'CODE_1_019', CODE_1_020 = 'CODE_1_020', CODE_1_021 = 'CODE_1_021', CODE_1_022 = 'CODE_1_022', CODE_1_023 = 'CODE_1_023', CODE_1_024 = 'CODE_1_024', CODE_1_025 = 'CODE_1_025', CODE_1_026 = 'CODE_1_026', CODE_1_027 = 'CODE_1_027', CODE_1_028 = 'CODE_1_028', CODE_1_029 = 'CODE_1_029', CODE_1_030 = 'CODE_1_030', CODE_1_031 = 'CODE_1_031', CODE_1_032 = 'CODE_1_032', CODE_1_033 = 'CODE_1_033', CODE_1_034 = 'CODE_1_034', CODE_1_035 = 'CODE_1_035', CODE_1_036 = 'CODE_1_036', CODE_1_037 = 'CODE_1_037', CODE_1_038 = 'CODE_1_038', CODE_1_039 = 'CODE_1_039', CODE_1_040 = 'CODE_1_040', CODE_1_041 = 'CODE_1_041', CODE_1_042 = 'CODE_1_042', CODE_1_043 = 'CODE_1_043', CODE_1_044 = 'CODE_1_044', CODE_1_045 = 'CODE_1_045', CODE_1_046 = 'CODE_1_046', CODE_1_047 = 'CODE_1_047', CODE_1_048 = 'CODE_1_048', CODE_1_049 = 'CODE_1_049', CODE_1_050 = 'CODE_1_050', CODE_1_051 = 'CODE_1_051', CODE_1_052 = 'CODE_1_052', CODE_1_053 = 'CODE_1_053', CODE_1_054 = 'CODE_1_054', CODE_1_055 = 'CODE_1_055', CODE_1_056 = 'CODE_1_056', CODE_1_057 = 'CODE_1_057', CODE_1_058 = 'CODE_1_058', CODE_1_059 = 'CODE_1_059', CODE_1_060 = 'CODE_1_060', CODE_1_061 = 'CODE_1_061', CODE_1_062 = 'CODE_1_062', CODE_1_063 = 'CODE_1_063', CODE_1_064 = 'CODE_1_064', CODE_1_065 = 'CODE_1_065', CODE_1_066 = 'CODE_1_066', CODE_1_067 = 'CODE_1_067', CODE_1_068 = 'CODE_1_068', CODE_1_069 = 'CODE_1_069', CODE_1_070 = 'CODE_1_070', CODE_1_071 = 'CODE_1_071', CODE_1_072 = 'CODE_1_072', CODE_1_073 = 'CODE_1_073', CODE_1_074 = 'CODE_1_074', CODE_1_075 = 'CODE_1_075', CODE_1_076 = 'CODE_1_076', CODE_1_077 = 'CODE_1_077', CODE_1_078 = 'CODE_1_078', CODE_1_079 = 'CODE_1_079', CODE_1_080 = 'CODE_1_080', CODE_1_081 = 'CODE_1_081', CODE_1_082 = 'CODE_1_082', CODE_1_083 = 'CODE_1_083', CODE_1_084 = 'CODE_1_084', CODE_1_085 = 'CODE_1_085', CODE_1_086 = 'CODE_1_086', CODE_1_087 = 'CODE_1_087', CODE_1_088 = 'CODE_1_088', CODE_1_089 = 'CODE_1_089', CODE_1_090 = 'CODE_1_090', CODE_1_091 = 'CODE_1_091', CODE_1_092 = 'CODE_1_092', CODE_1_093 = 'CODE_1_093', CODE_1_094 = 'CODE_1_094', CODE_1_095 = 'CODE_1_095', CODE_1_096 = 'CODE_1_096', CODE_1_097 = 'CODE_1_097', CODE_1_098 = 'CODE_1_098', CODE_1_099 = 'CODE_1_099', CODE_1_100 = 'CODE_1_100', CODE_1_101 = 'CODE_1_101', CODE_1_102 = 'CODE_1_102', CODE_1_103 = 'CODE_1_103', CODE_1_104 = 'CODE_1_104', CODE_1_105 = 'CODE_1_105', CODE_1_106 = 'CODE_1_106', CODE_1_107 = 'CODE_1_107', CODE_1_108 = 'CODE_1_108', CODE_1_109 = 'CODE_1_109', CODE_1_110 = 'CODE_1_110', CODE_1_111 = 'CODE_1_111', CODE_1_112 = 'CODE_1_112', CODE_1_113 = 'CODE_1_113', CODE_1_114 = 'CODE_1_114', CODE_1_115 = 'CODE_1_115', CODE_1_116 = 'CODE_1_116', CODE_1_117 = 'CODE_1_117', CODE_1_118 = 'CODE_1_118', CODE_1_119 = 'CODE_1_119', CODE_1_120 = 'CODE_1_120', CODE_1_121 = 'CODE_1_121', CODE_1_122 = 'CODE_1_122', CODE_1_123 = 'CODE_1_123', CODE_1_124 = 'CODE_1_124', CODE_1_125 = 'CODE_1_125', CODE_1_126 = 'CODE_1_126', CODE_1_127 = 'CODE_1_127', CODE_1_128 = 'CODE_1_128', CODE_1_129 = 'CODE_1_129', CODE_1_130 = 'CODE_1_130', CODE_1_131 = 'CODE_1_131', CODE_1_132 = 'CODE_1_132', CODE_1_133 = 'CODE_1_133', CODE_1_134 = 'CODE_1_134', CODE_1_135 = 'CODE_1_135', CODE_1_136 = 'CODE_1_136', CODE_1_137 = 'CODE_1_137', CODE_1_138 = 'CODE_1_138', CODE_1_139 = 'CODE_1_139', CODE_1_140 = 'CODE_1_140', CODE_1_141 = 'CODE_1_141', CODE_1_142 = 'CODE_1_142', CODE_1_143 = 'CODE_1_143', CODE_1_144 = 'CODE_1_144', CODE_1_145 = 'CODE_1_145', CODE_1_146 = 'CODE_1_146', CODE_1_147 = 'CODE_1_147', CODE_1_148 = 'CODE_1_148', CODE_1_149 = 'CODE_1_149', CODE_1_150 = 'CODE_1_150', CODE_1_151 = 'CODE_1_151', CODE_1_152 = 'CODE_1_152', CODE_1_153 = 'CODE_1_153', CODE_1_154 = 'CODE_1_154', CODE_1_155 = 'CODE_1_155', CODE_1_156 = 'CODE_1_156', CODE_1_157 = 'CODE_1_157', CODE_1_158 = 'CODE_1_158', CODE_1_159 = 'CODE_1_159', CODE_1_160 = 'CODE_1_160', CODE_1_161 = 'CODE_1_161', CODE_1_162 = 'CODE_1_162', CODE_1_163 = 'CODE_1_163', CODE_1_164 = 'CODE_1_164', CODE_1_165 = 'CODE_1_165', CODE_1_166 = 'CODE_1_166', CODE_1_167 = 'CODE_1_167', CODE_1_168 = 'CODE_1_168', CODE_1_169 = 'CODE_1_169', CODE_1_170 = 'CODE_1_170', CODE_1_171 = 'CODE_1_171', CODE_1_172 = 'CODE_1_172', CODE_1_173 = 'CODE_1_173', CODE_1_174 = 'CODE_1_174', CODE_1_175 = 'CODE_1_175', CODE_1_176 = 'CODE_1_176', CODE_1_177 = 'CODE_1_177', CODE_1_178 = 'CODE_1_178', CODE_1_179 = 'CODE_1_179', CODE_1_180 = 'CODE_1_180', CODE_1_181 = 'CODE_1_181', CODE_1_182 = 'CODE_1_182', CODE_1_183 = 'CODE_1_183', CODE_1_184 = 'CODE_1_184', CODE_1_185 = 'CODE_1_185', CODE_1_186 = 'CODE_1_186', CODE_1_187 = 'CODE_1_187', CODE_1_188 = 'CODE_1_188', CODE_1_189 = 'CODE_1_189', CODE_1_190 = 'CODE_1_190', CODE_1_191 = 'CODE_1_191', CODE_1_192 = 'CODE_1_192', CODE_1_193 = 'CODE_1_193', CODE_1_194 = 'CODE_1_194', CODE_1_195 = 'CODE_1_195', CODE_1_196 = 'CODE_1_196', CODE_1_197 = 'CODE_1_197', CODE_1_198 = 'CODE_1_198', CODE_1_199 = 'CODE_1_199', CODE_1_200 = 'CODE_1_200', CODE_1_201 = 'CODE_1_201', CODE_1_202 = 'CODE_1_202', CODE_1_203 = 'CODE_1_203', CODE_1_204 = 'CODE_1_204', CODE_1_205 = 'CODE_1_205', CODE_1_206 = 'CODE_1_206', CODE_1_207 = 'CODE_1_207', CODE_1_208 = 'CODE_1_208', CODE_1_209 = 'CODE_1_209', CODE_1_210 = 'CODE_1_210', CODE_1_211 = 'CODE_1_211', CODE_1_212 = 'CODE_1_212', CODE_1_213 = 'CODE_1_213', CODE_1_214 = 'CODE_1_214', CODE_1_215 = 'CODE_1_215', CODE_1_216 = 'CODE_1_216', CODE_1_217 = 'CODE_1_217', CODE_1_218 = 'CODE_1_218', CODE_1_219 = 'CODE_1_219', CODE_1_220 = 'CODE_1_220', CODE_1_221 = 'CODE_1_221', CODE_1_222 = 'CODE_1_222', CODE_1_223 = 'CODE_1_223', CODE_1_224 = 'CODE_1_224', CODE_1_225 = 'CODE_1_225', CODE_1_226 = 'CODE_1_226', CODE_1_227 = 'CODE_1_227', CODE_1_228 = 'CODE_1_228', CODE_1_229 = 'CODE_1_229', CODE_1_230 = 'CODE_1_230', CODE_1_231 = 'CODE_1_231', CODE_1_232 = 'CODE_1_232', CODE_1_233 = 'CODE_1_233', CODE_1_234 = 'CODE_1_234', CODE_1_235 = 'CODE_1_235', CODE_1_236 = 'CODE_1_236', CODE_1_237 = 'CODE_1_237', CODE_1_238 = 'CODE_1_238', CODE_1_239 = 'CODE_1_239', CODE_1_240 = 'CODE_1_240', CODE_1_241 = 'CODE_1_241', CODE_1_242 = 'CODE_1_242', CODE_1_243 = 'CODE_1_243', CODE_1_244 = 'CODE_1_244', CODE_1_245 = 'CODE_1_245', CODE_1_246 = 'CODE_1_246', CODE_1_247 = 'CODE_1_247', CODE_1_248 = 'CODE_1_248', CODE_1_249 = 'CODE_1_249', CODE_1_250 = 'CODE_1_250', CODE_1_251 = 'CODE_1_251', CODE_1_252 = 'CODE_1_252', CODE_1_253 = 'CODE_1_253', CODE_1_254 = 'CODE_1_254', CODE_1_255 = 'CODE_1_255', CODE_1_256 = 'CODE_1_256', CODE_1_257 = 'CODE_1_257', CODE_1_258 = 'CODE_1_258', CODE_1_259 = 'CODE_1_259', CODE_1_260 = 'CODE_1_260', CODE_1_261 = 'CODE_1_261', CODE_1_262 = 'CODE_1_262', CODE_1_263 = 'CODE_1_263', CODE_1_264 = 'CODE_1_264', CODE_1_265 = 'CODE_1_265', CODE_1_266 = 'CODE_1_266', CODE_1_267 = 'CODE_1_267', CODE_1_268 = 'CODE_1_268', CODE_1_269 = 'CODE_1_269', CODE_1_270 = 'CODE_1_270', CODE_1_271 = 'CODE_1_271', CODE_1_272 = 'CODE_1_272', CODE_1_273 = 'CODE_1_273', CODE_1_274 = 'CODE_1_274', CODE_1_275 = 'CODE_1_275', CODE_1_276 = 'CODE_1_276', CODE_1_277 = 'CODE_1_277', CODE_1_278 = 'CODE_1_278', CODE_1_279 = 'CODE_1_279', CODE_1_280 = 'CODE_1_280', CODE_1_281 = 'CODE_1_281', CODE_1_282 = 'CODE_1_282', CODE_1_283 = 'CODE_1_283', CODE_1_284 = 'CODE_1_284', CODE_1_285 = 'CODE_1_285', CODE_1_286 = 'CODE_1_286', CODE_1_287 = 'CODE_1_287', CODE_1_288 = 'CODE_1_288', CODE_1_289 = 'CODE_1_289', CODE_1_290 = 'CODE_1_290', CODE_1_291 = 'CODE_1_291', CODE_1_292 = 'CODE_1_292', CODE_1_293 = 'CODE_1_293', CODE_1_294 = 'CODE_1_294', CODE_1_295 = 'CODE_1_295', CODE_1_296 = 'CODE_1_296', CODE_1_297 = 'CODE_1_297', CODE_1_298 = 'CODE_1_298', CODE_1_299 = 'CODE_1_299', CODE_1_300 = 'CODE_1_300', CODE_1_301 = 'CODE_1_301', CODE_1_302 = 'CODE_1_302', CODE_1_303 = 'CODE_1_303', CODE_1_304 = 'CODE_1_304', CODE_1_305 = 'CODE_1_305', CODE_1_306 = 'CODE_1_306', CODE_1_307 = 'CODE_1_307', CODE_1_308 = 'CODE_1_308', CODE_1_309 = 'CODE_1_309', CODE_1_310 = 'CODE_1_310', CODE_1_311 = 'CODE_1_311', CODE_1_312 = 'CODE_1_312', CODE_1_313 = 'CODE_1_313', CODE_1_314 = 'CODE_1_314', CODE_1_315 = 'CODE_1_315', CODE_1_316 = 'CODE_1_316', CODE_1_317 = 'CODE_1_317', CODE_1_318 = 'CODE_1_318', CODE_1_319 = 'CODE_1_319', CODE_1_320 = 'CODE_1_320', CODE_1_321 = 'CODE_1_321', CODE_1_322 = 'CODE_1_322', CODE_1_323 = 'CODE_1_323', CODE_1_324 = 'CODE_1_324', CODE_1_325 = 'CODE_1_325', CODE_1_326 = 'CODE_1_326', CODE_1_327 = 'CODE_1_327', CODE_1_328 = 'CODE_1_328', CODE_1_329 = 'CODE_1_329', CODE_1_330 = 'CODE_1_330', CODE_1_331 = 'CODE_1_331', CODE_1_332 = 'CODE_1_332', CODE_1_333 = 'CODE_1_333', CODE_1_334 = 'CODE_1_334', CODE_1_335 = 'CODE_1_335', CODE_1_336 = 'CODE_1_336', CODE_1_337 = 'CODE_1_337', CODE_1_338 = 'CODE_1_338', CODE_1_339 = 'CODE_1_339', CODE_1_340 = 'CODE_1_340', CODE_1_341 = 'CODE_1_341', CODE_1_342 = 'CODE_1_342', CODE_1_343 = 'CODE_1_343', CODE_1_344 = 'CODE_1_344', CODE_1_345 = 'CODE_1_345', CODE_1_346 = 'CODE_1_346', CODE_1_347 = 'CODE_1_347', CODE_1_348 = 'CODE_1_348', CODE_1_349 = 'CODE_1_349', CODE_1_350 = 'CODE_1_350', CODE_1_351 = 'CODE_1_351', CODE_1_352 = 'CODE_1_352', CODE_1_353 = 'CODE_1_353', CODE_1_354 = 'CODE_1_354', CODE_1_355 = 'CODE_1_355', CODE_1_356 = 'CODE_1_356', CODE_1_357 = 'CODE_1_357', CODE_1_358 = 'CODE_1_358', CODE_1_359 = 'CODE_1_359', CODE_1_360 = 'CODE_1_360', CODE_1_361 = 'CODE_1_361', CODE_1_362 = 'CODE_1_362', CODE_1_363 = 'CODE_1_363', CODE_1_364 = 'CODE_1_364', CODE_1_365 = 'CODE_1_365', CODE_1_366 = 'CODE_1_366', CODE_1_367 = 'CODE_1_367', CODE_1_368 = 'CODE_1_368', CODE_1_369 = 'CODE_1_369', CODE_1_370 = 'CODE_1_370', CODE_1_371 = 'CODE_1_371', CODE_1_372 = 'CODE_1_372', CODE_1_373 = 'CODE_1_373', CODE_1_374 = 'CODE_1_374', CODE_1_375 = 'CODE_1_375', CODE_1_376 = 'CODE_1_376', CODE_1_377 = 'CODE_1_377', CODE_1_378 = 'CODE_1_378', CODE_1_379 = 'CODE_1_379', CODE_1_380 = 'CODE_1_380', CODE_1_381 = 'CODE_1_381', CODE_1_382 = 'CODE_1_382', CODE_1_383 = 'CODE_1_383', CODE_1_384 = 'CODE_1_384', CODE_1_385 = 'CODE_1_385', CODE_1_386 = 'CODE_1_386', CODE_1_387 = 'CODE_1_387', CODE_1_388 = 'CODE_1_388', CODE_1_389 = 'CODE_1_389', CODE_1_390 = 'CODE_1_390', CODE_1_391 = 'CODE_1_391', CODE_1_392 = 'CODE_1_392', CODE_1_393 = 'CODE_1_393', CODE_1_394 = 'CODE_1_394', CODE_1_395 = 'CODE_1_395', CODE_1_396 = 'CODE_1_396', CODE_1_397 = 'CODE_1_397', CODE_1_398 = 'CODE_1_398', CODE_1_399 = 'CODE_1_399'}
+// gen.m0.M0Code2
+export enum M0Code2 {CODE_2_000 = 'CODE_2_000', CODE_2_001 = 'CODE_2_001', CODE_2_002 = 'CODE_2_002', CODE_2_003 = 'CODE_2_003', CODE_2_004 = 'CODE_2_004', CODE_2_005 = 'CODE_2_005', CODE_2_006 = 'CODE_2_006', CODE_2_007 = 'CODE_2_007', CODE_2_008 = 'CODE_2_008', CODE_2_009 = 'CODE_2_009', CODE_2_010 = 'CODE_2_010', CODE_2_011 = 'CODE_2_011', CODE_2_012 = 'CODE_2_012', CODE_2_013 = 'CODE_2_013', CODE_2_014 = 'CODE_2_014', CODE_2_015 = 'CODE_2_015', CODE_2_016 = 'CODE_2_016', CODE_2_017 = 'CODE_2_017', CODE_2_018 = 'CODE_2_018', CODE_2_019 = 'CODE_2_019', CODE_2_020 = 'CODE_2_020', CODE_2_021 = 'CODE_2_021', CODE_2_022 = 'CODE_2_022', CODE_2_023 = 'CODE_2_023', CODE_2_024 = 'CODE_2_024', CODE_2_025 = 'CODE_2_025', CODE_2_026 = 'CODE_2_026', CODE_2_027 = 'CODE_2_027', CODE_2_028 = 'CODE_2_028', CODE_2_029 = 'CODE_2_029', CODE_2_030 = 'CODE_2_030', CODE_2_031 = 'CODE_2_031', CODE_2_032 = 'CODE_2_032', CODE_2_033 = 'CODE_2_033', CODE_2_034 = 'CODE_2_034', CODE_2_035 = 'CODE_2_035', CODE_2_036 = 'CODE_2_036', CODE_2_037 = 'CODE_2_037', CODE_2_038 = 'CODE_2_038', CODE_2_039 = 'CODE_2_039', CODE_2_040 = 'CODE_2_040', CODE_2_041 = 'CODE_2_041', CODE_2_042 = 'CODE_2_042', CODE_2_043 = 'CODE_2_043', CODE_2_044 = 'CODE_2_044', CODE_2_045 = 'CODE_2_045', CODE_2_046 = 'CODE_2_046', CODE_2_047 = 'CODE_2_047', CODE_2_048 = 'CODE_2_048', CODE_2_049 = 'CODE_2_049', CODE_2_050 = 'CODE_2_050', CODE_2_051 = 'CODE_2_051', CODE_2_052 = 'CODE_2_052', CODE_2_053 = 'CODE_2_053', CODE_2_054 = 'CODE_2_054', CODE_2_055 = 'CODE_2_055', CODE_2_056 = 'CODE_2_056', CODE_2_057 = 'CODE_2_057', CODE_2_058 = 'CODE_2_058', CODE_2_059 = 'CODE_2_059', CODE_2_060 = 'CODE_2_060', CODE_2_061 = 'CODE_2_061', CODE_2_062 = 'CODE_2_062', CODE_2_063 = 'CODE_2_063', CODE_2_064 = 'CODE_2_064', CODE_2_065 = 'CODE_2_065', CODE_2_066 = 'CODE_2_066', CODE_2_067 = 'CODE_2_067', CODE_2_068 = 'CODE_2_068', CODE_2_069 = 'CODE_2_069', CODE_2_070 = 'CODE_2_070', CODE_2_071 = 'CODE_2_071', CODE_2_072 = 'CODE_2_072', CODE_2_073 = 'CODE_2_073', CODE_2_074 = 'CODE_2_074', CODE_2_075 = 'CODE_2_075', CODE_2_076 = 'CODE_2_076', CODE_2_077 = 'CODE_2_077', CODE_2_078 = 'CODE_2_078', CODE_2_079 = 'CODE_2_079', CODE_2_080 = 'CODE_2_080', CODE_2_081 = 'CODE_2_081', CODE_2_082 = 'CODE_2_082', CODE_2_083 = 'CODE_2_083', CODE_2_084 = 'CODE_2_084', CODE_2_085 = 'CODE_2_085', CODE_2_086 = 'CODE_2_086', CODE_2_087 = 'CODE_2_087', CODE_2_088 = 'CODE_2_088', CODE_2_089 = 'CODE_2_089', CODE_2_090 = 'CODE_2_090', CODE_2_091 = 'CODE_2_091', CODE_2_092 = 'CODE_2_092', CODE_2_093 = 'CODE_2_093', CODE_2_094 = 'CODE_2_094', CODE_2_095 = 'CODE_2_095', CODE_2_096 = 'CODE_2_096', CODE_2_097 = 'CODE_2_097', CODE_2_098 = 'CODE_2_098', CODE_2_099 = 'CODE_2_099', CODE_2_100 = 'CODE_2_100', CODE_2_101 = 'CODE_2_101', CODE_2_102 = 'CODE_2_102', CODE_2_103 = 'CODE_2_103', CODE_2_104 = 'CODE_2_104', CODE_2_105 = 'CODE_2_105', CODE_2_106 = 'CODE_2_106', CODE_2_107 = 'CODE_2_107', CODE_2_108 = 'CODE_2_108', CODE_2_109 = 'CODE_2_109', CODE_2_110 = 'CODE_2_110', CODE_2_111 = 'CODE_2_111', CODE_2_112 = 'CODE_2_112', CODE_2_113 = 'CODE_2_113', CODE_2_114 = 'CODE_2_114', CODE_2_115 = 'CODE_2_115', CODE_2_116 = 'CODE_2_116', CODE_2_117 = 'CODE_2_117', CODE_2_118 = 'CODE_2_118', CODE_2_119 = 'CODE_2_119', CODE_2_120 = 'CODE_2_120', CODE_2_121 = 'CODE_2_121', CODE_2_122 = 'CODE_2_122', CODE_2_123 = 'CODE_2_123', CODE_2_124 = 'CODE_2_124', CODE_2_125 = 'CODE_2_125', CODE_2_126 = 'CODE_2_126', CODE_2_127 = 'CODE_2_127', CODE_2_128 = 'CODE_2_128', CODE_2_129 = 'CODE_2_129', CODE_2_130 = 'CODE_2_130', CODE_2_131 = 'CODE_2_131', CODE_2_132 = 'CODE_2_132', CODE_2_133 = 'CODE_2_133', CODE_2_134 = 'CODE_2_134', CODE_2_135 = 'CODE_2_135', CODE_2_136 = 'CODE_2_136', CODE_2_137 = 'CODE_2_137', CODE_2_138 = 'CODE_2_138', CODE_2_139 = 'CODE_2_139', CODE_2_140 = 'CODE_2_140', CODE_2_141 = 'CODE_2_141', CODE_2_142 = 'CODE_2_142', CODE_2_143 = 'CODE_2_143', CODE_2_144 = 'CODE_2_144', CODE_2_145 = 'CODE_2_145', CODE_2_146 = 'CODE_2_146', CODE_2_147 = 'CODE_2_147', CODE_2_148 = 'CODE_2_148', CODE_2_149 = 'CODE_2_149', CODE_2_150 = 'CODE_2_150', CODE_2_151 = 'CODE_2_151', CODE_2_152 = 'CODE_2_152', CODE_2_153 = 'CODE_2_153', CODE_2_154 = 'CODE_2_154', CODE_2_155 = 'CODE_2_155', CODE_2_156 = 'CODE_2_156', CODE_2_157 = 'CODE_2_157', CODE_2_158 = 'CODE_2_158', CODE_2_159 = 'CODE_2_159', CODE_2_160 = 'CODE_2_160', CODE_2_161 = 'CODE_2_161', CODE_2_162 = 'CODE_2_162', CODE_2_163 = 'CODE_2_163', CODE_2_164 = 'CODE_2_164', CODE_2_165 = 'CODE_2_165', CODE_2_166 = 'CODE_2_166', CODE_2_167 = 'CODE_2_167', CODE_2_168 = 'CODE_2_168', CODE_2_169 = 'CODE_2_169', CODE_2_170 = 'CODE_2_170', CODE_2_171 = 'CODE_2_171', CODE_2_172 = 'CODE_2_172', CODE_2_173 = 'CODE_2_173', CODE_2_174 = 'CODE_2_174', CODE_2_175 = 'CODE_2_175', CODE_2_176 = 'CODE_2_176', CODE_2_177 = 'CODE_2_177', CODE_2_178 = 'CODE_2_178', CODE_2_179 = 'CODE_2_179', CODE_2_180 = 'CODE_2_180', CODE_2_181 = 'CODE_2_181', CODE_2_182 = 'CODE_2_182', CODE_2_183 = 'CODE_2_183', CODE_2_184 = 'CODE_2_184', CODE_2_185 = 'CODE_2_185', CODE_2_186 = 'CODE_2_186', CODE_2_187 = 'CODE_2_187', CODE_2_188 = 'CODE_2_188', CODE_2_189 = 'CODE_2_189', CODE_2_190 = 'CODE_2_190', CODE_2_191 = 'CODE_2_191', CODE_2_192 = 'CODE_2_192', CODE_2_193 = 'CODE_2_193', CODE_2_194 = 'CODE_2_194', CODE_2_195 = 'CODE_2_195', CODE_2_196 = 'CODE_2_196', CODE_2_197 = 'CODE_2_197', CODE_2_198 = 'CODE_2_198', CODE_2_199 = 'CODE_2_199', CODE_2_200 = 'CODE_2_200', CODE_2_201 = 'CODE_2_201', CODE_2_202 = 'CODE_2_202', CODE_2_203 = 'CODE_2_203', CODE_2_204 = 'CODE_2_204', CODE_2_205 = 'CODE_2_205', CODE_2_206 = 'CODE_2_206', CODE_2_207 = 'CODE_2_207', CODE_2_208 = 'CODE_2_208', CODE_2_209 = 'CODE_2_209', CODE_2_210 = 'CODE_2_210', CODE_2_211 = 'CODE_2_211', CODE_2_212 = 'CODE_2_212', CODE_2_213 = 'CODE_2_213', CODE_2_214 = 'CODE_2_214', CODE_2_215 = 'CODE_2_215', CODE_2_216 = 'CODE_2_216', CODE_2_217 = 'CODE_2_217', CODE_2_218 = 'CODE_2_218', CODE_2_219 = 'CODE_2_219', CODE_2_220 = 'CODE_2_220', CODE_2_221 = 'CODE_2_221', CODE_2_222 = 'CODE_2_222', CODE_2_223 = 'CODE_2_223', CODE_2_224 = 'CODE_2_224', CODE_2_225 = 'CODE_2_225', CODE_2_226 = 'CODE_2_226', CODE_2_227 = 'CODE_2_227', CODE_2_228 = 'CODE_2_228', CODE_2_229 = 'CODE_2_229', CODE_2_230 = 'CODE_2_230', CODE_2_231 = 'CODE_2_231', CODE_2_232 = 'CODE_2_232', CODE_2_233 = 'CODE_2_233', CODE_2_234 = 'CODE_2_234', CODE_2_235 = 'CODE_2_235', CODE_2_236 = 'CODE_2_236', CODE_2_237 = 'CODE_2_237', CODE_2_238 = 'CODE_2_238', CODE_2_239 = 'CODE_2_239', CODE_2_240 = 'CODE_2_240', CODE_2_241 = 'CODE_2_241', CODE_2_242 = 'CODE_2_242', CODE_2_243 = 'CODE_2_243', CODE_2_244 = 'CODE_2_244', CODE_2_245 = 'CODE_2_245', CODE_2_246 = 'CODE_2_246', CODE_2_247 = 'CODE_2_247', CODE_2_248 = 'CODE_2_248', CODE_2_249 = 'CODE_2_249', CODE_2_250 = 'CODE_2_250', CODE_2_251 = 'CODE_2_251', CODE_2_252 = 'CODE_2_252', CODE_2_253 = 'CODE_2_253', CODE_2_254 = 'CODE_2_254', CODE_2_255 = 'CODE_2_255', CODE_2_256 = 'CODE_2_256', CODE_2_257 = 'CODE_2_257', CODE_2_258 = 'CODE_2_258', CODE_2_259 = 'CODE_2_259', CODE_2_260 = 'CODE_2_260', CODE_2_261 = 'CODE_2_261', CODE_2_262 = 'CODE_2_262', CODE_2_263 = 'CODE_2_263', CODE_2_264 = 'CODE_2_264', CODE_2_265 = 'CODE_2_265', CODE_2_266 = 'CODE_2_266', CODE_2_267 = 'CODE_2_267', CODE_2_268 = 'CODE_2_268', CODE_2_269 = 'CODE_2_269', CODE_2_270 = 'CODE_2_270', CODE_2_271 = 'CODE_2_271', CODE_2_272 = 'CODE_2_272', CODE_2_273 = 'CODE_2_273', CODE_2_274 = 'CODE_2_274', CODE_2_275 = 'CODE_2_275', CODE_2_276 = 'CODE_2_276', CODE_2_277 = 'CODE_2_277', CODE_2_278 = 'CODE_2_278', CODE_2_279 = 'CODE_2_279', CODE_2_280 = 'CODE_2_280', CODE_2_281 = 'CODE_2_281', CODE_2_282 = 'CODE_2_282', CODE_2_283 = 'CODE_2_283', CODE_2_284 = 'CODE_2_284', CODE_2_285 = 'CODE_2_285', CODE_2_286 = 'CODE_2_286', CODE_2_287 = 'CODE_2_287', CODE_2_288 = 'CODE_2_288', CODE_2_289 = 'CODE_2_289', CODE_2_290 = 'CODE_2_290', CODE_2_291 = 'CODE_2_291', CODE_2_292 = 'CODE_2_292', CODE_2_293 = 'CODE_2_293', CODE_2_294 = 'CODE_2_294', CODE_2_295 = 'CODE_2_295', CODE_2_296 = 'CODE_2_296', CODE_2_297 = 'CODE_2_297', CODE_2_298 = 'CODE_2_298', CODE_2_299 = 'CODE_2_299', CODE_2_300 = 'CODE_2_300', CODE_2_301 = 'CODE_2_301', CODE_2_302 = 'CODE_2_302', CODE_2_303 = 'CODE_2_303', CODE_2_304 = 'CODE_2_304', CODE_2_305 = 'CODE_2_305', CODE_2_306 = 'CODE_2_306', CODE_2_307 = 'CODE_2_307', CODE_2_308 = 'CODE_2_308', CODE_2_309 = 'CODE_2_309', CODE_2_310 = 'CODE_2_310', CODE_2_311 = 'CODE_2_311', CODE_2_312 = 'CODE_2_312', CODE_2_313 = 'CODE_2_313', CODE_2_314 = 'CODE_2_314', CODE_2_315 = 'CODE_2_315', CODE_2_316 = 'CODE_2_316', CODE_2_317 = 'CODE_2_317', CODE_2_318 = 'CODE_2_318', CODE_2_319 = 'CODE_2_319', CODE_2_320 = 'CODE_2_320', CODE_2_321 = 'CODE_2_321', CODE_2_322 = 'CODE_2_322', CODE_2_323 = 'CODE_2_323', CODE_2_324 = 'CODE_2_324', CODE_2_325 = 'CODE_2_325', CODE_2_326 = 'CODE_2_326', CODE_2_327 = 'CODE_2_327', CODE_2_328 = 'CODE_2_328', CODE_2_329 = 'CODE_2_329', CODE_2_330 = 'CODE_2_330', CODE_2_331 = 'CODE_2_331', CODE_2_332 = 'CODE_2_332', CODE_2_333 = 'CODE_2_333', CODE_2_334 = 'CODE_2_334', CODE_2_335 = 'CODE_2_335', CODE_2_336 = 'CODE_2_336', CODE_2_337 = 'CODE_2_337', CODE_2_338 = 'CODE_2_338', CODE_2_339 = 'CODE_2_339', CODE_2_340 = 'CODE_2_340', CODE_2_341 = 'CODE_2_341', CODE_2_342 = 'CODE_2_342', CODE_2_343 = 'CODE_2_343', CODE_2_344 = 'CODE_2_344', CODE_2_345 = 'CODE_2_345', CODE_2_346 = 'CODE_2_346', CODE_2_347 = 'CODE_2_347', CODE_2_348 = 'CODE_2_348', CODE_2_349 = 'CODE_2_349', CODE_2_350 = 'CODE_2_350', CODE_2_351 = 'CODE_2_351', CODE_2_352 = 'CODE_2_352', CODE_2_353 = 'CODE_2_353', CODE_2_354 = 'CODE_2_354', CODE_2_355 = 'CODE_2_355', CODE_2_356 = 'CODE_2_356', CODE_2_357 = 'CODE_2_357', CODE_2_358 = 'CODE_2_358', CODE_2_359 = 'CODE_2_359', CODE_2_360 = 'CODE_2_360', CODE_2_361 = 'CODE_2_361', CODE_2_362 = 'CODE_2_362', CODE_2_363 = 'CODE_2_363', CODE_2_364 = 'CODE_2_364', CODE_2_365 = 'CODE_2_365', CODE_2_366 = 'CODE_2_366', CODE_2_367 = 'CODE_2_367', CODE_2_368 = 'CODE_2_368', CODE_2_369 = 'CODE_2_369', CODE_2_370 = 'CODE_2_370', CODE_2_371 = 'CODE_2_371', CODE_2_372 = 'CODE_2_372', CODE_2_373 = 'CODE_2_373', CODE_2_374 = 'CODE_2_374', CODE_2_375 = 'CODE_2_375', CODE_2_376 = 'CODE_2_376', CODE_2_377 = 'CODE_2_377', CODE_2_378 = 'CODE_2_378', CODE_2_379 = 'CODE_2_379', CODE_2_380 = 'CODE_2_380', CODE_2_381 = 'CODE_2_381', CODE_2_382 = 'CODE_2_382', CODE_2_383 = 'CODE_2_383', CODE_2_384 = 'CODE_2_384', CODE_2_385 = 'CODE_2_385', CODE_2_386 = 'CODE_2_386', CODE_2_387 = 'CODE_2_387', CODE_2_388 = 'CODE_2_388', CODE_2_389 = 'CODE_2_389', CODE_2_390 = 'CODE_2_390', CODE_2_391 = 'CODE_2_391', CODE_2_392 = 'CODE_2_392', CODE_2_393 = 'CODE_2_393', CODE_2_394 = 'CODE_2_394', CODE_2_395 = 'CODE_2_395', CODE_2_396 = 'CODE_2_396', CODE_2_397 = 'CODE_2_397', CODE_2_398 = 'CODE_2_398', CODE_2_399 = 'CODE_2_399'}
+// gen.m0.M0Code3
+export enum M0Code3 {CODE_3_000 = 'CODE_3_000', CODE_3_001 = 'CODE_3_001', CODE_3_002 = 'CODE_3_002', CODE_3_003 = 'CODE_3_003', CODE_3_004 = 'CODE_3_004', CODE_3_005 = 'CODE_3_005', CODE_3_006 = 'CODE_3_006', CODE_3_007 = 'CODE_3_007', CODE_3_008 = 'CODE_3_008', CODE_3_009 = 'CODE_3_009', CODE_3_010 = 'CODE_3_010', CODE_3_011 = 'CODE_3_011', CODE_3_012 = 'CODE_3_012', CODE_3_013 = 'CODE_3_013', CODE_3_014 = 'CODE_3_014', CODE_3_015 = 'CODE_3_015', CODE_3_016 = 'CODE_3_016', CODE_3_017 = 'CODE_3_017', CODE_3_018 = 'CODE_3_018', CODE_3_019 = 'CODE_3_019', CODE_3_020 = 'CODE_3_020', CODE_3_021 = 'CODE_3_021', CODE_3_022 = 'CODE_3_022', CODE_3_023 = 'CODE_3_023', CODE_3_024 = 'CODE_3_024', CODE_3_025 = 'CODE_3_025', CODE_3_026 = 'CODE_3_026', CODE_3_027 = 'CODE_3_027', CODE_3_028 = 'CODE_3_028', CODE_3_029 = 'CODE_3_029', CODE_3_030 = 'CODE_3_030', CODE_3_031 = 'CODE_3_031', CODE_3_032 = 'CODE_3_032', CODE_3_033 = 'CODE_3_033', CODE_3_034 = 'CODE_3_034', CODE_3_035 = 'CODE_3_035', CODE_3_036 = 'CODE_3_036', CODE_3_037 = 'CODE_3_037', CODE_3_038 = 'CODE_3_038', CODE_3_039 = 'CODE_3_039', CODE_3_040 = 'CODE_3_040', CODE_3_041 = 'CODE_3_041', CODE_3_042 = 'CODE_3_042', CODE_3_043 = 'CODE_3_043', CODE_3_044 = 'CODE_3_044', CODE_3_045 = 'CODE_3_045', CODE_3_046 = 'CODE_3_046', CODE_3_047 = 'CODE_3_047', CODE_3_048 = 'CODE_3_048', CODE_3_049 = 'CODE_3_049', CODE_3_050 = 'CODE_3_050', CODE_3_051 = 'CODE_3_051', CODE_3_052 = 'CODE_3_052', CODE_3_053 = 'CODE_3_053', CODE_3_054 = 'CODE_3_054', CODE_3_055 = 'CODE_3_055', CODE_3_056 = 'CODE_3_056', CODE_3_057 = 'CODE_3_057', CODE_3_058 = 'CODE_3_058', CODE_3_059 = 'CODE_3_059', CODE_3_060 = 'CODE_3_060', CODE_3_061 = 'CODE_3_061', CODE_3_062 = 'CODE_3_062', CODE_3_063 = 'CODE_3_063', CODE_3_064 = 'CODE_3_064', CODE_3_065 = 'CODE_3_065', CODE_3_066 = 'CODE_3_066', CODE_3_067 = 'CODE_3_067', CODE_3_068 = 'CODE_3_068', CODE_3_069 = 'CODE_3_069', CODE_3_070 = 'CODE_3_070', CODE_3_071 = 'CODE_3_071', CODE_3_072 = 'CODE_3_072', CODE_3_073 = 'CODE_3_073', CODE_3_074 = 'CODE_3_074', CODE_3_075 = 'CODE_3_075', CODE_3_076 = 'CODE_3_076', CODE_3_077 = 'CODE_3_077', CODE_3_078 = 'CODE_3_078', CODE_3_079 = 'CODE_3_079', CODE_3_080 = 'CODE_3_080', CODE_3_081 = 'CODE_3_081', CODE_3_082 = 'CODE_3_082', CODE_3_083 = 'CODE_3_083', CODE_3_084 = 'CODE_3_084', CODE_3_085 = 'CODE_3_085', CODE_3_086 = 'CODE_3_086', CODE_3_087 = 'CODE_3_087', CODE_3_088 = 'CODE_3_088', CODE_3_089 = 'CODE_3_089', CODE_3_090 = 'CODE_3_090', CODE_3_091 = 'CODE_3_091', CODE_3_092 = 'CODE_3_092', CODE_3_093 = 'CODE_3_093', CODE_3_094 = 'CODE_3_094', CODE_3_095 = 'CODE_3_095', CODE_3_096 = 'CODE_3_096', CODE_3_097 = 'CODE_3_097', CODE_3_098 = 'CODE_3_098', CODE_3_099 = 'CODE_3_099', CODE_3_100 = 'CODE_3_100', CODE_3_101 = 'CODE_3_101', CODE_3_102 = 'CODE_3_102', CODE_3_103 = 'CODE_3_103', CODE_3_104 = 'CODE_3_104', CODE_3_105 = 'CODE_3_105', CODE_3_106 = 'CODE_3_106', CODE_3_107 = 'CODE_3_107', CODE_3_108 = 'CODE_3_108', CODE_3_109 = 'CODE_3_109', CODE_3_110 = 'CODE_3_110', CODE_3_111 = 'CODE_3_111', CODE_3_112 = 'CODE_3_112', CODE_3_113 = 'CODE_3_113', CODE_3_114 = 'CODE_3_114', CODE_3_115 = 'CODE_3_115', CODE_3_116 = 'CODE_3_116', CODE_3_117 = 'CODE_3_117', CODE_3_118 = 'CODE_3_118', CODE_3_119 = 'CODE_3_119', CODE_3_120 = 'CODE_3_120', CODE_3_121 = 'CODE_3_121', CODE_3_122 = 'CODE_3_122', CODE_3_123 = 'CODE_3_123', CODE_3_124 = 'CODE_3_124', CODE_3_125 = 'CODE_3_125', CODE_3_126 = 'CODE_3_126', CODE_3_127 = 'CODE_3_127', CODE_3_128 = 'CODE_3_128', CODE_3_129 = 'CODE_3_129', CODE_3_130 = 'CODE_3_130', CODE_3_131 = 'CODE_3_131', CODE_3_132 = 'CODE_3_132', CODE_3_133 = 'CODE_3_133', CODE_3_134 = 'CODE_3_134', CODE_3_135 = 'CODE_3_135', CODE_3_136 = 'CODE_3_136', CODE_3_137 = 'CODE_3_137', CODE_3_138 = 'CODE_3_138', CODE_3_139 = 'CODE_3_139', CODE_3_140 = 'CODE_3_140', CODE_3_141 = 'CODE_3_141', CODE_3_142 = 'CODE_3_142', CODE_3_143 = 'CODE_3_143', CODE_3_144 = 'CODE_3_144', CODE_3_145 = 'CODE_3_145', CODE_3_146 = 'CODE_3_146', CODE_3_147 = 'CODE_3_147', CODE_3_148 = 'CODE_3_148', CODE_3_149 = 'CODE_3_149', CODE_3_150 = 'CODE_3_150', CODE_3_151 = 'CODE_3_151', CODE_3_152 = 'CODE_3_152', CODE_3_153 = 'CODE_3_153', CODE_3_154 = 'CODE_3_154', CODE_3_155 = 'CODE_3_155', CODE_3_156 = 'CODE_3_156', CODE_3_157 = 'CODE_3_157', CODE_3_158 = 'CODE_3_158', CODE_3_159 = 'CODE_3_159', CODE_3_160 = 'CODE_3_160', CODE_3_161 = 'CODE_3_161', CODE_3_162 = 'CODE_3_162', CODE_3_163 = 'CODE_3_163', CODE_3_164 = 'CODE_3_164', CODE_3_165 = 'CODE_3_165', CODE_3_166 = 'CODE_3_166', CODE_3_167 = 'CODE_3_167', CODE_3_168 = 'CODE_3_168', CODE_3_169 = 'CODE_3_169', CODE_3_170 = 'CODE_3_170', CODE_3_171 = 'CODE_3_171', CODE_3_172 = 'CODE_3_172', CODE_3_173 = 'CODE_3_173', CODE_3_174 = 'CODE_3_174', CODE_3_175 = 'CODE_3_175', CODE_3_176 = 'CODE_3_176', CODE_3_177 = 'CODE_3_177', CODE_3_178 = 'CODE_3_178', CODE_3_179 = 'CODE_3_179', CODE_3_180 = 'CODE_3_180', CODE_3_181 = 'CODE_3_181', CODE_3_182 = 'CODE_3_182', CODE_3_183 = 'CODE_3_183', CODE_3_184 = 'CODE_3_184', CODE_3_185 = 'CODE_3_185', CODE_3_186 = 'CODE_3_186', CODE_3_187 = 'CODE_3_187', CODE_3_188 = 'CODE_3_188', CODE_3_189 = 'CODE_3_189', CODE_3_190 = 'CODE_3_190', CODE_3_191 = 'CODE_3_191', CODE_3_192 = 'CODE_3_192', CODE_3_193 = 'CODE_3_193', CODE_3_194 = 'CODE_3_194', CODE_3_195 = 'CODE_3_195', CODE_3_196 = 'CODE_3_196', CODE_3_197 = 'CODE_3_197', CODE_3_198 = 'CODE_3_198', CODE_3_199 = 'CODE_3_199', CODE_3_200 = 'CODE_3_200', CODE_3_201 = 'CODE_3_201', CODE_3_202 = 'CODE_3_202', CODE_3_203 = 'CODE_3_203', CODE_3_204 = 'CODE_3_204', CODE_3_205 = 'CODE_3_205', CODE_3_206 = 'CODE_3_206', CODE_3_207 = 'CODE_3_207', CODE_3_208 = 'CODE_3_208', CODE_3_209 = 'CODE_3_209', CODE_3_210 = 'CODE_3_210', CODE_3_211 = 'CODE_3_211', CODE_3_212 = 'CODE_3_212', CODE_3_213 = 'CODE_3_213', CODE_3_214 = 'CODE_3_214', CODE_3_215 = 'CODE_3_215', CODE_3_216 = 'CODE_3_216', CODE_3_217 = 'CODE_3_217', CODE_3_218 = 'CODE_3_218', CODE_3_219 = 'CODE_3_219', CODE_3_220 = 'CODE_3_220', CODE_3_221 = 'CODE_3_221', CODE_3_222 = 'CODE_3_222', CODE_3_223 = 'CODE_3_223', CODE_3_224 = 'CODE_3_224', CODE_3_225 = 'CODE_3_225', CODE_3_226 = 'CODE_3_226', CODE_3_227 = 'CODE_3_227', CODE_3_228 = 'CODE_3_228', CODE_3_229 = 'CODE_3_229', CODE_3_230 = 'CODE_3_230', CODE_3_231 = 'CODE_3_231', CODE_3_232 = 'CODE_3_232', CODE_3_233 = 'CODE_3_233', CODE_3_234 = 'CODE_3_234', CODE_3_235 = 'CODE_3_235', CODE_3_236 = 'CODE_3_236', CODE_3_237 = 'CODE_3_237', CODE_3_238 = 'CODE_3_238', CODE_3_239 = 'CODE_3_239', CODE_3_240 = 'CODE_3_240', CODE_3_241 = 'CODE_3_241', CODE_3_242 = 'CODE_3_242', CODE_3_243 = 'CODE_3_243', CODE_3_244 = 'CODE_3_244', CODE_3_245 = 'CODE_3_245', CODE_3_246 = 'CODE_3_246', CODE_3_247 = 'CODE_3_247', CODE_3_248 = 'CODE_3_248', CODE_3_249 = 'CODE_3_249', CODE_3_250 = 'CODE_3_250', CODE_3_251 = 'CODE_3_251', CODE_3_252 = 'CODE_3_252', CODE_3_253 = 'CODE_3_253', CODE_3_254 = 'CODE_3_254', CODE_3_255 = 'CODE_3_255', CODE_3_256 = 'CODE_3_256', CODE_3_257 = 'CODE_3_257', CODE_3_258 = 'CODE_3_258', CODE_3_259 = 'CODE_3_259', CODE_3_260 = 'CODE_3_260', CODE_3_261 = 'CODE_3_261', CODE_3_262 = 'CODE_3_262', CODE_3_263 = 'CODE_3_263', CODE_3_264 = 'CODE_3_264', CODE_3_265 = 'CODE_3_265', CODE_3_266 = 'CODE_3_266', CODE_3_267 = 'CODE_3_267', CODE_3_268 = 'CODE_3_268', CODE_3_269 = 'CODE_3_269', CODE_3_270 = 'CODE_3_270', CODE_3_271 = 'CODE_3_271', CODE_3_272 = 'CODE_3_272', CODE_3_273 = 'CODE_3_273', CODE_3_274 = 'CODE_3_274', CODE_3_275 = 'CODE_3_275', CODE_3_276 = 'CODE_3_276', CODE_3_277 = 'CODE_3_277', CODE_3_278 = 'CODE_3_278', CODE_3_279 = 'CODE_3_279', CODE_3_280 = 'CODE_3_280', CODE_3_281 = 'CODE_3_281', CODE_3_282 = 'CODE_3_282', CODE_3_283 = 'CODE_3_283', CODE_3_284 = 'CODE_3_284', CODE_3_285 = 'CODE_3_285', CODE_3_286 = 'CODE_3_286', CODE_3_287 = 'CODE_3_287', CODE_3_288 = 'CODE_3_288', CODE_3_289 = 'CODE_3_289', CODE_3_290 = 'CODE_3_290', CODE_3_291 = 'CODE_3_291', CODE_3_292 = 'CODE_3_292', CODE_3_293 = 'CODE_3_293', CODE_3_294 = 'CODE_3_294', CODE_3_295 = 'CODE_3_295', CODE_3_296 = 'CODE_3_296', CODE_3_297 = 'CODE_3_297', CODE_3_298 = 'CODE_3_298', CODE_3_299 = 'CODE_3_299', CODE_3_300 = 'CODE_3_300', CODE_3_301 = 'CODE_3_301', CODE_3_302 = 'CODE_3_302', CODE_3_303 = 'CODE_3_303', CODE_3_304 = 'CODE_3_304', CODE_3_305 = 'CODE_3_305', CODE_3_306 = 'CODE_3_306', CODE_3_307 = 'CODE_3_307', CODE_3_308 = 'CODE_3_308', CODE_3_309 = 'CODE_3_309', CODE_3_310 = 'CODE_3_310', CODE_3_311 = 'CODE_3_311', CODE_3_312 = 'CODE_3_312', CODE_3_313 = 'CODE_3_313', CODE_3_314 = 'CODE_3_314', CODE_3_315 = 'CODE_3_315', CODE_3_316 = 'CODE_3_316', CODE_3_317 = 'CODE_3_317', CODE_3_318 = 'CODE_3_318', CODE_3_319 = 'CODE_3_319', CODE_3_320 = 'CODE_3_320', CODE_3_321 = 'CODE_3_321', CODE_3_322 = 'CODE_3_322', CODE_3_323 = 'CODE_3_323', CODE_3_324 = 'CODE_3_324', CODE_3_325 = 'CODE_3_325', CODE_3_326 = 'CODE_3_326', CODE_3_327 = 'CODE_3_327', CODE_3_328 = 'CODE_3_328', CODE_3_329 = 'CODE_3_329', CODE_3_330 = 'CODE_3_330', CODE_3_331 = 'CODE_3_331', CODE_3_332 = 'CODE_3_332', CODE_3_333 = 'CODE_3_333', CODE_3_334 = 'CODE_3_334', CODE_3_335 = 'CODE_3_335', CODE_3_336 = 'CODE_3_336', CODE_3_337 = 'CODE_3_337', CODE_3_338 = 'CODE_3_338', CODE_3_339 = 'CODE_3_339', CODE_3_340 = 'CODE_3_340', CODE_3_341 = 'CODE_3_341', CODE_3_342 = 'CODE_3_342', CODE_3_343 = 'CODE_3_343', CODE_3_344 = 'CODE_3_344', CODE_3_345 = 'CODE_3_345', CODE_3_346 = 'CODE_3_346', CODE_3_347 = 'CODE_3_347', CODE_3_348 = 'CODE_3_348', CODE_3_349 = 'CODE_3_349', CODE_3_350 = 'CODE_3_350', CODE_3_351 = 'CODE_3_351', CODE_3_352 = 'CODE_3_352', CODE_3_353 = 'CODE_3_353', CODE_3_354 = 'CODE_3_354', CODE_3_355 = 'CODE_3_355', CODE_3_356 = 'CODE_3_356', CODE_3_357 = 'CODE_3_357', CODE_3_358 = 'CODE_3_358', CODE_3_359 = 'CODE_3_359', CODE_3_360 = 'CODE_3_360', CODE_3_361 = 'CODE_3_361', CODE_3_362 = 'CODE_3_362', CODE_3_363 = 'CODE_3_363', CODE_3_364 = 'CODE_3_364', CODE_3_365 = 'CODE_3_365', CODE_3_366 = 'CODE_3_366', CODE_3_367 = 'CODE_3_367', CODE_3_368 = 'CODE_3_368', CODE_3_369 = 'CODE_3_369', CODE_3_370 = 'CODE_3_370', CODE_3_371 = 'CODE_3_371', CODE_3_372 = 'CODE_3_372', CODE_3_373 = 'CODE_3_373', CODE_3_374 = 'CODE_3_374', CODE_3_375 = 'CODE_3_375', CODE_3_376 = 'CODE_3_376', CODE_3_377 = 'CODE_3_377', CODE_3_378 = 'CODE_3_378', CODE_3_379 = 'CODE_3_379', CODE_3_380 = 'CODE_3_380', CODE_3_381 = 'CODE_3_381', CODE_3_382 = 'CODE_3_382', CODE_3_383 = 'CODE_3_383', CODE_3_384 = 'CODE_3_384', CODE_3_385 = 'CODE_3_385', CODE_3_386 = 'CODE_3_386', CODE_3_387 = 'CODE_3_387', CODE_3_388 = 'CODE_3_388', CODE_3_389 = 'CODE_3_389', CODE_3_390 = 'CODE_3_390', CODE_3_391 = 'CODE_3_391', CODE_3_392 = 'CODE_3_392', CODE_3_393 = 'CODE_3_393', CODE_3_394 = 'CODE_3_394', CODE_3_395 = 'CODE_3_395', CODE_3_396 = 'CODE_3_396', CODE_3_397 = 'CODE_3_397', CODE_3_398 = 'CODE_3_398', CODE_3_399 = 'CODE_3_399'}
+// gen.m0.M0Code4
+export enum M0Code4 {CODE_4_000 = 'CODE_4_000', CODE_4_001 = 'CODE_4_001', CODE_4_002 = 'CODE_4_002', CODE_4_003 = 'CODE_4_003', CODE_4_004 = 'CODE_4_004', CODE_4_005 = 'CODE_4_005', CODE_4_006 = 'CODE_4_006', CODE_4_007 = 'CODE_4_007', CODE_4_008 = 'CODE_4_008', CODE_4_009 = 'CODE_4_009', CODE_4_010 = 'CODE_4_010', CODE_4_011 = 'CODE_4_011', CODE_4_012 = 'CODE_4_012', CODE_4_013 = 'CODE_4_013', CODE_4_014 = 'CODE_4_014', CODE_4_015 = 'CODE_4_015', CODE_4_016 = 'CODE_4_016', CODE_4_017 = 'CODE_4_017', CODE_4_018 = 'CODE_4_018', CODE_4_019 = 'CODE_4_019', CODE_4_020 = 'CODE_4_020', CODE_4_021 = 'CODE_4_021', CODE_4_022 = 'CODE_4_022', CODE_4_023 = 'CODE_4_023', CODE_4_024 = 'CODE_4_024', CODE_4_025 = 'CODE_4_025', CODE_4_026 = 'CODE_4_026', CODE_4_027 = 'CODE_4_027', CODE_4_028 = 'CODE_4_028', CODE_4_029 = 'CODE_4_029', CODE_4_030 = 'CODE_4_030', CODE_4_031 = 'CODE_4_031', CODE_4_032 = 'CODE_4_032', CODE_4_033 = 'CODE_4_033', CODE_4_034 = 'CODE_4_034', CODE_4_035 = 'CODE_4_035', CODE_4_036 = 'CODE_4_036', CODE_4_037 = 'CODE_4_037', CODE_4_038 = 'CODE_4_038', CODE_4_039 = 'CODE_4_039', CODE_4_040 = 'CODE_4_040', CODE_4_041 = 'CODE_4_041', CODE_4_042 = 'CODE_4_042', CODE_4_043 = 'CODE_4_043', CODE_4_044 = 'CODE_4_044', CODE_4_045 = 'CODE_4_045', CODE_4_046 = 'CODE_4_046', CODE_4_047 = 'CODE_4_047', CODE_4_048 = 'CODE_4_048', CODE_4_049 = 'CODE_4_049', CODE_4_050 = 'CODE_4_050', CODE_4_051 = 'CODE_4_051', CODE_4_052 = 'CODE_4_052', CODE_4_053 = 'CODE_4_053', CODE_4_054 = 'CODE_4_054', CODE_4_055 = 'CODE_4_055', CODE_4_056 = 'CODE_4_056', CODE_4_057 = 'CODE_4_057', CODE_4_058 = 'CODE_4_058', CODE_4_059 = 'CODE_4_059', CODE_4_060 = 'CODE_4_060', CODE_4_061 = 'CODE_4_061', CODE_4_062 = 'CODE_4_062', CODE_4_063 = 'CODE_4_063', CODE_4_064 = 'CODE_4_064', CODE_4_065 = 'CODE_4_065', CODE_4_066 = 'CODE_4_066', CODE_4_067 = 'CODE_4_067', CODE_4_068 = 'CODE_4_068', CODE_4_069 = 'CODE_4_069', CODE_4_070 = 'CODE_4_070', CODE_4_071 = 'CODE_4_071', CODE_4_072 = 'CODE_4_072', CODE_4_073 = 'CODE_4_073', CODE_4_074 = 'CODE_4_074', CODE_4_075 = 'CODE_4_075', CODE_4_076 = 'CODE_4_076', CODE_4_077 = 'CODE_4_077', CODE_4_078 = 'CODE_4_078', CODE_4_079 = 'CODE_4_079', CODE_4_080 = 'CODE_4_080', CODE_4_081 = 'CODE_4_081', CODE_4_082 = 'CODE_4_082', CODE_4_083 = 'CODE_4_083', CODE_4_084 = 'CODE_4_084', CODE_4_085 = 'CODE_4_085', CODE_4_086 = 'CODE_4_086', CODE_4_087 = 'CODE_4_087', CODE_4_088 = 'CODE_4_088', CODE_4_089 = 'CODE_4_089', CODE_4_090 = 'CODE_4_090', CODE_4_091 = 'CODE_4_091', CODE_4_092 = 'CODE_4_092', CODE_4_093 = 'CODE_4_093', CODE_4_094 = 'CODE_4_094', CODE_4_095 = 'CODE_4_095', CODE_4_096 = 'CODE_4_096', CODE_4_097 = 'CODE_4_097', CODE_4_098 = 'CODE_4_098', CODE_4_099 = 'CODE_4_099', CODE_4_100 = 'CODE_4_100', CODE_4_101 = 'CODE_4_101', CODE_4_102 = 'CODE_4_102', CODE_4_103 = 'CODE_4_103', CODE_4_104 = 'CODE_4_104', CODE_4_105 = 'CODE_4_105', CODE_4_106 = 'CODE_4_106', CODE_4_107 = 'CODE_4_107', CODE_4_108 = 'CODE_4_108', CODE_4_109 = 'CODE_4_109', CODE_4_110 = 'CODE_4_110', CODE_4_111 = 'CODE_4_111', CODE_4_112 = 'CODE_4_112', CODE_4_113 = 'CODE_4_113', CODE_4_114 = 'CODE_4_114', CODE_4_115 = 'CODE_4_115', CODE_4_116 = 'CODE_4_116', CODE_4_117 = 'CODE_4_117', CODE_4_118 = 'CODE_4_118', CODE_4_119 = 'CODE_4_119', CODE_4_120 = 'CODE_4_120', CODE_4_121 = 'CODE_4_121', CODE_4_122 = 'CODE_4_122', CODE_4_123 = 'CODE_4_123', CODE_4_124 = 'CODE_4_124', CODE_4_125 = 'CODE_4_125', CODE_4_126 = 'CODE_4_126', CODE_4_127 = 'CODE_4_127', CODE_4_128 = 'CODE_4_128', CODE_4_129 = 'CODE_4_129', CODE_4_130 = 'CODE_4_130', CODE_4_131 = 'CODE_4_131', CODE_4_132 = 'CODE_4_132', CODE_4_133 = 'CODE_4_133', CODE_4_134 = 'CODE_4_134', CODE_4_135 = 'CODE_4_135', CODE_4_136 = 'CODE_4_136', CODE_4_137 = 'CODE_4_137', CODE_4_138 = 'CODE_4_138', CODE_4_139 = 'CODE_4_139', CODE_4_140 = 'CODE_4_140', CODE_4_141 = 'CODE_4_141', CODE_4_142 = 'CODE_4_142', CODE_4_143 = 'CODE_4_143', CODE_4_144 = 'CODE_4_144', CODE_4_145 = 'CODE_4_145', CODE_4_146 = 'CODE_4_146', CODE_4_147 = 'CODE_4_147', CODE_4_148 = 'CODE_4_148', CODE_4_149 = 'CODE_4_149', CODE_4_150 = 'CODE_4_150', CODE_4_151 = 'CODE_4_151', CODE_4_152 = 'CODE_4_152', CODE_4_153 = 'CODE_4_153', CODE_4_154 = 'CODE_4_154', CODE_4_155 = 'CODE_4_155', CODE_4_156 = 'CODE_4_156', CODE_4_157 = 'CODE_4_157', CODE_4_158 = 'CODE_4_158', CODE_4_159 = 'CODE_4_159', CODE_4_160 = 'CODE_4_160', CODE_4_161 = 'CODE_4_161', CODE_4_162 = 'CODE_4_162', CODE_4_163 = 'CODE_4_163', CODE_4_164 = 'CODE_4_164', CODE_4_165 = 'CODE_4_165', CODE_4_166 = 'CODE_4_166', CODE_4_167 = 'CODE_4_167', CODE_4_168 = 'CODE_4_168', CODE_4_169 = 'CODE_4_169', CODE_4_170 = 'CODE_4_170', CODE_4_171 = 'CODE_4_171', CODE_4_172 = 'CODE_4_172', CODE_4_173 = 'CODE_4_173', CODE_4_174 = 'CODE_4_174', CODE_4_175 = 'CODE_4_175', CODE_4_176 = 'CODE_4_176', CODE_4_177 = 'CODE_4_177', CODE_4_178 = 'CODE_4_178', CODE_4_179 = 'CODE_4_179', CODE_4_180 = 'CODE_4_180', CODE_4_181 = 'CODE_4_181', CODE_4_182 = 'CODE_4_182', CODE_4_183 = 'CODE_4_183', CODE_4_184 = 'CODE_4_184', CODE_4_185 = 'CODE_4_185', CODE_4_186 = 'CODE_4_186', CODE_4_187 = 'CODE_4_187', CODE_4_188 = 'CODE_4_188', CODE_4_189 = 'CODE_4_189', CODE_4_190 = 'CODE_4_190', CODE_4_191 = 'CODE_4_191', CODE_4_192 = 'CODE_4_192', CODE_4_193 = 'CODE_4_193', CODE_4_194 = 'CODE_4_194', CODE_4_195 = 'CODE_4_195', CODE_4_196 = 'CODE_4_196', CODE_4_197 = 'CODE_4_197', CODE_4_198 = 'CODE_4_198', CODE_4_199 = 'CODE_4_199', CODE_4_200 = 'CODE_4_200', CODE_4_201 = 'CODE_4_201', CODE_4_202 = 'CODE_4_202', CODE_4_203 = 'CODE_4_203', CODE_4_204 = 'CODE_4_204', CODE_4_205 = 'CODE_4_205', CODE_4_206 = 'CODE_4_206', CODE_4_207 = 'CODE_4_207', CODE_4_208 = 'CODE_4_208', CODE_4_209 = 'CODE_4_209', CODE_4_210 = 'CODE_4_210', CODE_4_211 = 'CODE_4_211', CODE_4_212 = 'CODE_4_212', CODE_4_213 = 'CODE_4_213', CODE_4_214 = 'CODE_4_214', CODE_4_215 = 'CODE_4_215', CODE_4_216 = 'CODE_4_216', CODE_4_217 = 'CODE_4_217', CODE_4_218 = 'CODE_4_218', CODE_4_219 = 'CODE_4_219', CODE_4_220 = 'CODE_4_220', CODE_4_221 = 'CODE_4_221', CODE_4_222 = 'CODE_4_222', CODE_4_223 = 'CODE_4_223', CODE_4_224 = 'CODE_4_224', CODE_4_225 = 'CODE_4_225', CODE_4_226 = 'CODE_4_226', CODE_4_227 = 'CODE_4_227', CODE_4_228 = 'CODE_4_228', CODE_4_229 = 'CODE_4_229', CODE_4_230 = 'CODE_4_230', CODE_4_231 = 'CODE_4_231', CODE_4_232 = 'CODE_4_232', CODE_4_233 = 'CODE_4_233', CODE_4_234 = 'CODE_4_234', CODE_4_235 = 'CODE_4_235', CODE_4_236 = 'CODE_4_236', CODE_4_237 = 'CODE_4_237', CODE_4_238 = 'CODE_4_238', CODE_4_239 = 'CODE_4_239', CODE_4_240 = 'CODE_4_240', CODE_4_241 = 'CODE_4_241', CODE_4_242 = 'CODE_4_242', CODE_4_243 = 'CODE_4_243', CODE_4_244 = 'CODE_4_244', CODE_4_245 = 'CODE_4_245', CODE_4_246 = 'CODE_4_246', CODE_4_247 = 'CODE_4_247', CODE_4_248 = 'CODE_4_248', CODE_4_249 = 'CODE_4_249', CODE_4_250 = 'CODE_4_250', CODE_4_251 = 'CODE_4_251', CODE_4_252 = 'CODE_4_252', CODE_4_253 = 'CODE_4_253', CODE_4_254 = 'CODE_4_254', CODE_4_255 = 'CODE_4_255', CODE_4_256 = 'CODE_4_256', CODE_4_257 = 'CODE_4_257', CODE_4_258 = 'CODE_4_258', CODE_4_259 = 'CODE_4_259', CODE_4_260 = 'CODE_4_260', CODE_4_261 = 'CODE_4_261', CODE_4_262 = 'CODE_4_262', CODE_4_263 = 'CODE_4_263', CODE_4_264 = 'CODE_4_264', CODE_4_265 = 'CODE_4_265', CODE_4_266 = 'CODE_4_266', CODE_4_267 = 'CODE_4_267', CODE_4_268 = 'CODE_4_268', CODE_4_269 = 'CODE_4_269', CODE_4_270 = 'CODE_4_270', CODE_4_271 = 'CODE_4_271', CODE_4_272 = 'CODE_4_272', CODE_4_273 = 'CODE_4_273', CODE_4_274 = 'CODE_4_274', CODE_4_275 = 'CODE_4_275', CODE_4_276 = 'CODE_4_276', CODE_4_277 = 'CODE_4_277', CODE_4_278 = 'CODE_4_278', CODE_4_279 = 'CODE_4_279', CODE_4_280 = 'CODE_4_280', CODE_4_281 = 'CODE_4_281', CODE_4_282 = 'CODE_4_282', CODE_4_283 = 'CODE_4_283', CODE_4_284 = 'CODE_4_284', CODE_4_285 = 'CODE_4_285', CODE_4_286 = 'CODE_4_286', CODE_4_287 = 'CODE_4_287', CODE_4_288 = 'CODE_4_288', CODE_4_289 = 'CODE_4_289', CODE_4_290 = 'CODE_4_290', CODE_4_291 = 'CODE_4_291', CODE_4_292 = 'CODE_4_292', CODE_4_293 = 'CODE_4_293', CODE_4_294 = 'CODE_4_294', CODE_4_295 = 'CODE_4_295', CODE_4_296 = 'CODE_4_296', CODE_4_297 = 'CODE_4_297', CODE_4_298 = 'CODE_4_298', CODE_4_299 = 'CODE_4_299', CODE_4_300 = 'CODE_4_300', CODE_4_301 = 'CODE_4_301', CODE_4_302 = 'CODE_4_302', CODE_4_303 = 'CODE_4_303', CODE_4_304 = 'CODE_4_304', CODE_4_305 = 'CODE_4_305', CODE_4_306 = 'CODE_4_306', CODE_4_307 = 'CODE_4_307', CODE_4_308 = 'CODE_4_308', CODE_4_309 = 'CODE_4_309', CODE_4_310 = 'CODE_4_310', CODE_4_311 = 'CODE_4_311', CODE_4_312 = 'CODE_4_312', CODE_4_313 = 'CODE_4_313', CODE_4_314 = 'CODE_4_314', CODE_4_315 = 'CODE_4_315', CODE_4_316 = 'CODE_4_316', CODE_4_317 = 'CODE_4_317', CODE_4_318 = 'CODE_4_318', CODE_4_319 = 'CODE_4_319', CODE_4_320 = 'CODE_4_320', CODE_4_321 = 'CODE_4_321', CODE_4_322 = 'CODE_4_322', CODE_4_323 = 'CODE_4_323', CODE_4_324 = 'CODE_4_324', CODE_4_325 = 'CODE_4_325', CODE_4_326 = 'CODE_4_326', CODE_4_327 = 'CODE_4_327', CODE_4_328 = 'CODE_4_328', CODE_4_329 = 'CODE_4_329', CODE_4_330 = 'CODE_4_330', CODE_4_331 = 'CODE_4_331', CODE_4_332 = 'CODE_4_332', CODE_4_333 = 'CODE_4_333', CODE_4_334 = 'CODE_4_334', CODE_4_335 = 'CODE_4_335', CODE_4_336 = 'CODE_4_336', CODE_4_337 = 'CODE_4_337', CODE_4_338 = 'CODE_4_338', CODE_4_339 = 'CODE_4_339', CODE_4_340 = 'CODE_4_340', CODE_4_341 = 'CODE_4_341', CODE_4_342 = 'CODE_4_342', CODE_4_343 = 'CODE_4_343', CODE_4_344 = 'CODE_4_344', CODE_4_345 = 'CODE_4_345', CODE_4_346 = 'CODE_4_346', CODE_4_347 = 'CODE_4_347', CODE_4_348 = 'CODE_4_348', CODE_4_349 = 'CODE_4_349', CODE_4_350 = 'CODE_4_350', CODE_4_351 = 'CODE_4_351', CODE_4_352 = 'CODE_4_352', CODE_4_353 = 'CODE_4_353', CODE_4_354 = 'CODE_4_354', CODE_4_355 = 'CODE_4_355', CODE_4_356 = 'CODE_4_356', CODE_4_357 = 'CODE_4_357', CODE_4_358 = 'CODE_4_358', CODE_4_359 = 'CODE_4_359', CODE_4_360 = 'CODE_4_360', CODE_4_361 = 'CODE_4_361', CODE_4_362 = 'CODE_4_362', CODE_4_363 = 'CODE_4_363', CODE_4_364 = 'CODE_4_364', CODE_4_365 = 'CODE_4_365', CODE_4_366 = 'CODE_4_366', CODE_4_367 = 'CODE_4_367', CODE_4_368 = 'CODE_4_368', CODE_4_369 = 'CODE_4_369', CODE_4_370 = 'CODE_4_370', CODE_4_371 = 'CODE_4_371', CODE_4_372 = 'CODE_4_372', CODE_4_373 = 'CODE_4_373', CODE_4_374 = 'CODE_4_374', CODE_4_375 = 'CODE_4_375', CODE_4_376 = 'CODE_4_376', CODE_4_377 = 'CODE_4_377', CODE_4_378 = 'CODE_4_378', CODE_4_379 = 'CODE_4_379', CODE_4_380 = 'CODE_4_380', CODE_4_381 = 'CODE_4_381', CODE_4_382 = 'CODE_4_382', CODE_4_383 = 'CODE_4_383', CODE_4_384 = 'CODE_4_384', CODE_4_385 = 'CODE_4_385', CODE_4_386 = 'CODE_4_386', CODE_4_387 = 'CODE_4_387', CODE_4_388 = 'CODE_4_388', CODE_4_389 = 'CODE_4_389', CODE_4_390 = 'CODE_4_390', CODE_4_391 = 'CODE_4_391', CODE_4_392 = 'CODE_4_392', CODE_4_393 = 'CODE_4_393', CODE_4_394 = 'CODE_4_394', CODE_4_395 = 'CODE_4_395', CODE_4_396 = 'CODE_4_396', CODE_4_397 = 'CODE_4_397', CODE_4_398 = 'CODE_4_398', CODE_4_399 = 'CODE_4_399'}
+// gen.m0.M0Filled0
+export interface M0Filled0 {amounts: number[]; array: M0Wide0[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide0[]; first?: M0Level0; groups: {[key: string]: M0Level0[]}; index0: {[key: string]: M0Wide0[][]}; items: M0Level0[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide0[]>; value: M0Wide0;}
+// gen.m0.M0Filled1
+export interface M0Filled1 {amounts: number[]; array: M0Wide1[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide1[]; first?: M0Level1; groups: {[key: string]: M0Level1[]}; index1: {[key: string]: M0Wide1[][]}; items: M0Level1[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide1[]>; value: M0Wide1;}
+// gen.m0.M0Filled10
+export interface M0Filled10 {amounts: number[]; array: M0Wide10[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide10[]; first?: M0Level10; groups: {[key: string]: M0Level10[]}; index0: {[key: string]: M0Wide10[][]}; items: M0Level10[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide10[]>; value: M0Wide10;}
+// gen.m0.M0Filled11
+export interface M0Filled11 {amounts: number[]; array: M0Wide11[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide11[]; first?: M0Level11; groups: {[key: string]: M0Level11[]}; index1: {[key: string]: M0Wide11[][]}; items: M0Level11[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide11[]>; value: M0Wide11;}
+// gen.m0.M0Filled12
+export interface M0Filled12 {amounts: number[]; array: M0Wide12[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide12[]; first?: M0Level12; groups: {[key: string]: M0Level12[]}; index2: {[key: string]: M0Wide12[][]}; items: M0Level12[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide12[]>; value: M0Wide12;}
+// gen.m0.M0Filled13
+export interface M0Filled13 {amounts: number[]; array: M0Wide13[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide13[]; first?: M0Level13; groups: {[key: string]: M0Level13[]}; index3: {[key: string]: M0Wide13[][]}; items: M0Level13[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide13[]>; value: M0Wide13;}
+// gen.m0.M0Filled14
+export interface M0Filled14 {amounts: number[]; array: M0Wide14[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide14[]; first?: M0Level14; groups: {[key: string]: M0Level14[]}; index4: {[key: string]: M0Wide14[][]}; items: M0Level14[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide14[]>; value: M0Wide14;}
+// gen.m0.M0Filled2
+export interface M0Filled2 {amounts: number[]; array: M0Wide2[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide2[]; first?: M0Level2; groups: {[key: string]: M0Level2[]}; index2: {[key: string]: M0Wide2[][]}; items: M0Level2[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide2[]>; value: M0Wide2;}
+// gen.m0.M0Filled3
+export interface M0Filled3 {amounts: number[]; array: M0Wide3[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide3[]; first?: M0Level3; groups: {[key: string]: M0Level3[]}; index3: {[key: string]: M0Wide3[][]}; items: M0Level3[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide3[]>; value: M0Wide3;}
+// gen.m0.M0Filled4
+export interface M0Filled4 {amounts: number[]; array: M0Wide4[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide4[]; first?: M0Level4; groups: {[key: string]: M0Level4[]}; index4: {[key: string]: M0Wide4[][]}; items: M0Level4[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide4[]>; value: M0Wide4;}
+// gen.m0.M0Filled5
+export interface M0Filled5 {amounts: number[]; array: M0Wide5[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide5[]; first?: M0Level5; groups: {[key: string]: M0Level5[]}; index5: {[key: string]: M0Wide5[][]}; items: M0Level5[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide5[]>; value: M0Wide5;}
+// gen.m0.M0Filled6
+export interface M0Filled6 {amounts: number[]; array: M0Wide6[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide6[]; first?: M0Level6; groups: {[key: string]: M0Level6[]}; index6: {[key: string]: M0Wide6[][]}; items: M0Level6[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide6[]>; value: M0Wide6;}
+// gen.m0.M0Filled7
+export interface M0Filled7 {amounts: number[]; array: M0Wide7[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide7[]; first?: M0Level7; groups: {[key: string]: M0Level7[]}; index7: {[key: string]: M0Wide7[][]}; items: M0Level7[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide7[]>; value: M0Wide7;}
+// gen.m0.M0Filled8
+export interface M0Filled8 {amounts: number[]; array: M0Wide8[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide8[]; first?: M0Level8; groups: {[key: string]: M0Level8[]}; index8: {[key: string]: M0Wide8[][]}; items: M0Level8[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide8[]>; value: M0Wide8;}
+// gen.m0.M0Filled9
+export interface M0Filled9 {amounts: number[]; array: M0Wide9[]; catalogs: {[key: string]: Catalog}; contravariant: {[key: string]: string}; covariant: M0Wide9[]; first?: M0Level9; groups: {[key: string]: M0Level9[]}; index9: {[key: string]: M0Wide9[][]}; items: M0Level9[]; nested: {[key: string]: Optional}[]; pages: {[key: string]: Page}; total: number; tree: Tree<string,M0Wide9[]>; value: M0Wide9;}
+// gen.m0.M0Level0
+export interface M0Level0 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level1
+export interface M0Level1 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level10
+export interface M0Level10 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level11
+export interface M0Level11 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level12
+export interface M0Level12 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level13
+export interface M0Level13 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level14
+export interface M0Level14 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level15
+export interface M0Level15 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level16
+export interface M0Level16 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level17
+export interface M0Level17 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level17Active: boolean; level17Name: string; level17Records: {[key: string]: M0Wide17}; level17Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level18
+export interface M0Level18 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level17Active: boolean; level17Name: string; level17Records: {[key: string]: M0Wide17}; level17Status: Status; level18Active: boolean; level18Name: string; level18Scores: number[]; level18Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level19
+export interface M0Level19 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level17Active: boolean; level17Name: string; level17Records: {[key: string]: M0Wide17}; level17Status: Status; level18Active: boolean; level18Name: string; level18Scores: number[]; level18Status: Status; level19Active: boolean; level19Name: string; level19Price?: Money; level19Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level2
+export interface M0Level2 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level20
+export interface M0Level20 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level17Active: boolean; level17Name: string; level17Records: {[key: string]: M0Wide17}; level17Status: Status; level18Active: boolean; level18Name: string; level18Scores: number[]; level18Status: Status; level19Active: boolean; level19Name: string; level19Price?: Money; level19Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level20Active: boolean; level20Name: string; level20Siblings: M0Level0[]; level20Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level21
+export interface M0Level21 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level17Active: boolean; level17Name: string; level17Records: {[key: string]: M0Wide17}; level17Status: Status; level18Active: boolean; level18Name: string; level18Scores: number[]; level18Status: Status; level19Active: boolean; level19Name: string; level19Price?: Money; level19Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level20Active: boolean; level20Name: string; level20Siblings: M0Level0[]; level20Status: Status; level21Active: boolean; level21Name: string; level21Records: {[key: string]: M0Wide1}; level21Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level22
+export interface M0Level22 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level17Active: boolean; level17Name: string; level17Records: {[key: string]: M0Wide17}; level17Status: Status; level18Active: boolean; level18Name: string; level18Scores: number[]; level18Status: Status; level19Active: boolean; level19Name: string; level19Price?: Money; level19Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level20Active: boolean; level20Name: string; level20Siblings: M0Level0[]; level20Status: Status; level21Active: boolean; level21Name: string; level21Records: {[key: string]: M0Wide1}; level21Status: Status; level22Active: boolean; level22Name: string; level22Scores: number[]; level22Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level23
+export interface M0Level23 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level17Active: boolean; level17Name: string; level17Records: {[key: string]: M0Wide17}; level17Status: Status; level18Active: boolean; level18Name: string; level18Scores: number[]; level18Status: Status; level19Active: boolean; level19Name: string; level19Price?: Money; level19Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level20Active: boolean; level20Name: string; level20Siblings: M0Level0[]; level20Status: Status; level21Active: boolean; level21Name: string; level21Records: {[key: string]: M0Wide1}; level21Status: Status; level22Active: boolean; level22Name: string; level22Scores: number[]; level22Status: Status; level23Active: boolean; level23Name: string; level23Price?: Money; level23Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level24
+export interface M0Level24 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level17Active: boolean; level17Name: string; level17Records: {[key: string]: M0Wide17}; level17Status: Status; level18Active: boolean; level18Name: string; level18Scores: number[]; level18Status: Status; level19Active: boolean; level19Name: string; level19Price?: Money; level19Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level20Active: boolean; level20Name: string; level20Siblings: M0Level0[]; level20Status: Status; level21Active: boolean; level21Name: string; level21Records: {[key: string]: M0Wide1}; level21Status: Status; level22Active: boolean; level22Name: string; level22Scores: number[]; level22Status: Status; level23Active: boolean; level23Name: string; level23Price?: Money; level23Status: Status; level24Active: boolean; level24Name: string; level24Siblings: M0Level0[]; level24Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level25
+export interface M0Level25 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level17Active: boolean; level17Name: string; level17Records: {[key: string]: M0Wide17}; level17Status: Status; level18Active: boolean; level18Name: string; level18Scores: number[]; level18Status: Status; level19Active: boolean; level19Name: string; level19Price?: Money; level19Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level20Active: boolean; level20Name: string; level20Siblings: M0Level0[]; level20Status: Status; level21Active: boolean; level21Name: string; level21Records: {[key: string]: M0Wide1}; level21Status: Status; level22Active: boolean; level22Name: string; level22Scores: number[]; level22Status: Status; level23Active: boolean; level23Name: string; level23Price?: Money; level23Status: Status; level24Active: boolean; level24Name: string; level24Siblings: M0Level0[]; level24Status: Status; level25Active: boolean; level25Name: string; level25Records: {[key: string]: M0Wide5}; level25Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level26
+export interface M0Level26 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level17Active: boolean; level17Name: string; level17Records: {[key: string]: M0Wide17}; level17Status: Status; level18Active: boolean; level18Name: string; level18Scores: number[]; level18Status: Status; level19Active: boolean; level19Name: string; level19Price?: Money; level19Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level20Active: boolean; level20Name: string; level20Siblings: M0Level0[]; level20Status: Status; level21Active: boolean; level21Name: string; level21Records: {[key: string]: M0Wide1}; level21Status: Status; level22Active: boolean; level22Name: string; level22Scores: number[]; level22Status: Status; level23Active: boolean; level23Name: string; level23Price?: Money; level23Status: Status; level24Active: boolean; level24Name: string; level24Siblings: M0Level0[]; level24Status: Status; level25Active: boolean; level25Name: string; level25Records: {[key: string]: M0Wide5}; level25Status: Status; level26Active: boolean; level26Name: string; level26Scores: number[]; level26Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level27
+export interface M0Level27 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level17Active: boolean; level17Name: string; level17Records: {[key: string]: M0Wide17}; level17Status: Status; level18Active: boolean; level18Name: string; level18Scores: number[]; level18Status: Status; level19Active: boolean; level19Name: string; level19Price?: Money; level19Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level20Active: boolean; level20Name: string; level20Siblings: M0Level0[]; level20Status: Status; level21Active: boolean; level21Name: string; level21Records: {[key: string]: M0Wide1}; level21Status: Status; level22Active: boolean; level22Name: string; level22Scores: number[]; level22Status: Status; level23Active: boolean; level23Name: string; level23Price?: Money; level23Status: Status; level24Active: boolean; level24Name: string; level24Siblings: M0Level0[]; level24Status: Status; level25Active: boolean; level25Name: string; level25Records: {[key: string]: M0Wide5}; level25Status: Status; level26Active: boolean; level26Name: string; level26Scores: number[]; level26Status: Status; level27Active: boolean; level27Name: string; level27Price?: Money; level27Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level28
+export interface M0Level28 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level17Active: boolean; level17Name: string; level17Records: {[key: string]: M0Wide17}; level17Status: Status; level18Active: boolean; level18Name: string; level18Scores: number[]; level18Status: Status; level19Active: boolean; level19Name: string; level19Price?: Money; level19Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level20Active: boolean; level20Name: string; level20Siblings: M0Level0[]; level20Status: Status; level21Active: boolean; level21Name: string; level21Records: {[key: string]: M0Wide1}; level21Status: Status; level22Active: boolean; level22Name: string; level22Scores: number[]; level22Status: Status; level23Active: boolean; level23Name: string; level23Price?: Money; level23Status: Status; level24Active: boolean; level24Name: string; level24Siblings: M0Level0[]; level24Status: Status; level25Active: boolean; level25Name: string; level25Records: {[key: string]: M0Wide5}; level25Status: Status; level26Active: boolean; level26Name: string; level26Scores: number[]; level26Status: Status; level27Active: boolean; level27Name: string; level27Price?: Money; level27Status: Status; level28Active: boolean; level28Name: string; level28Siblings: M0Level0[]; level28Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level29
+export interface M0Level29 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level10Active: boolean; level10Name: string; level10Scores: number[]; level10Status: Status; level11Active: boolean; level11Name: string; level11Price?: Money; level11Status: Status; level12Active: boolean; level12Name: string; level12Siblings: M0Level0[]; level12Status: Status; level13Active: boolean; level13Name: string; level13Records: {[key: string]: M0Wide13}; level13Status: Status; level14Active: boolean; level14Name: string; level14Scores: number[]; level14Status: Status; level15Active: boolean; level15Name: string; level15Price?: Money; level15Status: Status; level16Active: boolean; level16Name: string; level16Siblings: M0Level0[]; level16Status: Status; level17Active: boolean; level17Name: string; level17Records: {[key: string]: M0Wide17}; level17Status: Status; level18Active: boolean; level18Name: string; level18Scores: number[]; level18Status: Status; level19Active: boolean; level19Name: string; level19Price?: Money; level19Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level20Active: boolean; level20Name: string; level20Siblings: M0Level0[]; level20Status: Status; level21Active: boolean; level21Name: string; level21Records: {[key: string]: M0Wide1}; level21Status: Status; level22Active: boolean; level22Name: string; level22Scores: number[]; level22Status: Status; level23Active: boolean; level23Name: string; level23Price?: Money; level23Status: Status; level24Active: boolean; level24Name: string; level24Siblings: M0Level0[]; level24Status: Status; level25Active: boolean; level25Name: string; level25Records: {[key: string]: M0Wide5}; level25Status: Status; level26Active: boolean; level26Name: string; level26Scores: number[]; level26Status: Status; level27Active: boolean; level27Name: string; level27Price?: Money; level27Status: Status; level28Active: boolean; level28Name: string; level28Siblings: M0Level0[]; level28Status: Status; level29Active: boolean; level29Name: string; level29Records: {[key: string]: M0Wide9}; level29Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level3
+export interface M0Level3 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level4
+export interface M0Level4 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level5
+export interface M0Level5 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level6
+export interface M0Level6 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level7
+export interface M0Level7 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level8
+export interface M0Level8 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0Level9
+export interface M0Level9 {createdAt: string; createdBy: string; id: string; level0Active: boolean; level0Name: string; level0Siblings: M0Level0[]; level0Status: Status; level1Active: boolean; level1Name: string; level1Records: {[key: string]: M0Wide1}; level1Status: Status; level2Active: boolean; level2Name: string; level2Scores: number[]; level2Status: Status; level3Active: boolean; level3Name: string; level3Price?: Money; level3Status: Status; level4Active: boolean; level4Name: string; level4Siblings: M0Level0[]; level4Status: Status; level5Active: boolean; level5Name: string; level5Records: {[key: string]: M0Wide5}; level5Status: Status; level6Active: boolean; level6Name: string; level6Scores: number[]; level6Status: Status; level7Active: boolean; level7Name: string; level7Price?: Money; level7Status: Status; level8Active: boolean; level8Name: string; level8Siblings: M0Level0[]; level8Status: Status; level9Active: boolean; level9Name: string; level9Records: {[key: string]: M0Wide9}; level9Status: Status; updatedAt: string; version: number;}
+// gen.m0.M0View0
+export interface M0View0 {byCode: {[key: string]: M0Wide0[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled0[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View1; tree?: Tree<string,M0Level0>;}
+// gen.m0.M0View1
+export interface M0View1 {byCode: {[key: string]: M0Wide1[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled1[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View2; tree?: Tree<string,M0Level1>;}
+// gen.m0.M0View10
+export interface M0View10 {byCode: {[key: string]: M0Wide10[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled10[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View11; tree?: Tree<string,M0Level10>;}
+// gen.m0.M0View11
+export interface M0View11 {byCode: {[key: string]: M0Wide11[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled11[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View12; tree?: Tree<string,M0Level11>;}
+// gen.m0.M0View12
+export interface M0View12 {byCode: {[key: string]: M0Wide12[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled12[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View13; tree?: Tree<string,M0Level12>;}
+// gen.m0.M0View13
+export interface M0View13 {byCode: {[key: string]: M0Wide13[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled13[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View14; tree?: Tree<string,M0Level13>;}
+// gen.m0.M0View14
+export interface M0View14 {byCode: {[key: string]: M0Wide14[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled14[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View15; tree?: Tree<string,M0Level14>;}
+// gen.m0.M0View15
+export interface M0View15 {byCode: {[key: string]: M0Wide15[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled0[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View16; tree?: Tree<string,M0Level15>;}
+// gen.m0.M0View16
+export interface M0View16 {byCode: {[key: string]: M0Wide16[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled1[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View17; tree?: Tree<string,M0Level16>;}
+// gen.m0.M0View17
+export interface M0View17 {byCode: {[key: string]: M0Wide17[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled2[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View18; tree?: Tree<string,M0Level17>;}
+// gen.m0.M0View18
+export interface M0View18 {byCode: {[key: string]: M0Wide18[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled3[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View19; tree?: Tree<string,M0Level18>;}
+// gen.m0.M0View19
+export interface M0View19 {byCode: {[key: string]: M0Wide19[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled4[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View0; tree?: Tree<string,M0Level19>;}
+// gen.m0.M0View2
+export interface M0View2 {byCode: {[key: string]: M0Wide2[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled2[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View3; tree?: Tree<string,M0Level2>;}
+// gen.m0.M0View3
+export interface M0View3 {byCode: {[key: string]: M0Wide3[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled3[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View4; tree?: Tree<string,M0Level3>;}
+// gen.m0.M0View4
+export interface M0View4 {byCode: {[key: string]: M0Wide4[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled4[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View5; tree?: Tree<string,M0Level4>;}
+// gen.m0.M0View5
+export interface M0View5 {byCode: {[key: string]: M0Wide5[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled5[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View6; tree?: Tree<string,M0Level5>;}
+// gen.m0.M0View6
+export interface M0View6 {byCode: {[key: string]: M0Wide6[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled6[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View7; tree?: Tree<string,M0Level6>;}
+// gen.m0.M0View7
+export interface M0View7 {byCode: {[key: string]: M0Wide7[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled7[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View8; tree?: Tree<string,M0Level7>;}
+// gen.m0.M0View8
+export interface M0View8 {byCode: {[key: string]: M0Wide8[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled8[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View9; tree?: Tree<string,M0Level8>;}
+// gen.m0.M0View9
+export interface M0View9 {byCode: {[key: string]: M0Wide9[]}; catalog?: Catalog; cube: number[][][]; filled: M0Filled9[]; metrics: {[key: string]: {[key: string]: {[key: string]: number}}}; next?: M0View10; tree?: Tree<string,M0Level9>;}
+// gen.m0.M0Wide0
+export interface M0Wide0 {field0: string; field1: number; field2: number; field3: number; field4: boolean; field5: string; field6: string; field7: string; field8: number; field9: Status; field10: Money; field11: string[]; field12: {[key: string]: number}; field13?: string; field14: string[]; field15: number[]; field16: string; field17: number; field18: number; field19: number; field20: boolean; field21: string; field22: string; field23: string; field24: number; field25: Status; field26: Money; field27: string[]; field28: {[key: string]: number}; field29?: string; field30: string[]; field31: number[]; field32: string; field33: number; field34: number; field35: number; field36: boolean; field37: string; field38: string; field39: string; field40: number; field41: Status; field42: Money; field43: string[]; field44: {[key: string]: number}; field45?: string; field46: string[]; field47: M0Level0;}
+// gen.m0.M0Wide1
+export interface M0Wide1 {field0: number; field1: number; field2: number; field3: boolean; field4: string; field5: string; field6: string; field7: number; field8: Status; field9: Money; field10: string[]; field11: {[key: string]: number}; field12?: string; field13: string[]; field14: number[]; field15: string; field16: number; field17: number; field18: number; field19: boolean; field20: string; field21: string; field22: string; field23: number; field24: Status; field25: Money; field26: string[]; field27: {[key: string]: number}; field28?: string; field29: string[]; field30: number[]; field31: string; field32: number; field33: number; field34: number; field35: boolean; field36: string; field37: string; field38: string; field39: number; field40: Status; field41: Money; field42: string[]; field43: {[key: string]: number}; field44?: string; field45: string[]; field46: number[]; field47: M0Level1;}
+// gen.m0.M0Wide10
+export interface M0Wide10 {field0: Money; field1: string[]; field2: {[key: string]: number}; field3?: string; field4: string[]; field5: number[]; field6: string; field7: number; field8: number; field9: number; field10: boolean; field11: string; field12: string; field13: string; field14: number; field15: Status; field16: Money; field17: string[]; field18: {[key: string]: number}; field19?: string; field20: string[]; field21: number[]; field22: string; field23: number; field24: number; field25: number; field26: boolean; field27: string; field28: string; field29: string; field30: number; field31: Status; field32: Money; field33: string[]; field34: {[key: string]: number}; field35?: string; field36: string[]; field37: number[]; field38: string; field39: number; field40: number; field41: number; field42: boolean; field43: string; field44: string; field45: string; field46: number; field47: M0Level10;}
+// gen.m0.M0Wide11
+export interface M0Wide11 {field0: string[]; field1: {[key: string]: number}; field2?: string; field3: string[]; field4: number[]; field5: string; field6: number; field7: number; field8: number; field9: boolean; field10: string; field11: string; field12: string; field13: number; field14: Status; field15: Money; field16: string[]; field17: {[key: string]: number}; field18?: string; field19: string[]; field20: number[]; field21: string; field22: number; field23: number; field24: number; field25: boolean; field26: string; field27: string; field28: string; field29: number; field30: Status; field31: Money; field32: string[]; field33: {[key: string]: number}; field34?: string; field35: string[]; field36: number[]; field37: string; field38: number; field39: number; field40: number; field41: boolean; field42: string; field43: string; field44: string; field45: number; field46: Status; field47: M0Level11;}
+// gen.m0.M0Wide12
+export interface M0Wide12 {field0: {[key: string]: number}; field1?: string; field2: string[]; field3: number[]; field4: string; field5: number; field6: number; field7: number; field8: boolean; field9: string; field10: string; field11: string; field12: number; field13: Status; field14: Money; field15: string[]; field16: {[key: string]: number}; field17?: string; field18: string[]; field19: number[]; field20: string; field21: number; field22: number; field23: number; field24: boolean; field25: string; field26: string; field27: string; field28: number; field29: Status; field30: Money; field31: string[]; field32: {[key: string]: number}; field33?: string; field34: string[]; field35: number[]; field36: string; field37: number; field38: number; field39: number; field40: boolean; field41: string; field42: string; field43: string; field44: number; field45: Status; field46: Money; field47: M0Level12;}
+// gen.m0.M0Wide13
+export interface M0Wide13 {field0?: string; field1: string[]; field2: number[]; field3: string; field4: number; field5: number; field6: number; field7: boolean; field8: string; field9: string; field10: string; field11: number; field12: Status; field13: Money; field14: string[]; field15: {[key: string]: number}; field16?: string; field17: string[]; field18: number[]; field19: string; field20: number; field21: number; field22: number; field23: boolean; field24: string; field25: string; field26: string; field27: number; field28: Status; field29: Money; field30: string[]; field31: {[key: string]: number}; field32?: string; field33: string[]; field34: number[]; field35: string; field36: number; field37: number; field38: number; field39: boolean; field40: string; field41: string; field42: string; field43: number; field44: Status; field45: Money; field46: string[]; field47: M0Level13;}
+// gen.m0.M0Wide14
+export interface M0Wide14 {field0: string[]; field1: number[]; field2: string; field3: number; field4: number; field5: number; field6: boolean; field7: string; field8: string; field9: string; field10: number; field11: Status; field12: Money; field13: string[]; field14: {[key: string]: number}; field15?: string; field16: string[]; field17: number[]; field18: string; field19: number; field20: number; field21: number; field22: boolean; field23: string; field24: string; field25: string; field26: number; field27: Status; field28: Money; field29: string[]; field30: {[key: string]: number}; field31?: string; field32: string[]; field33: number[]; field34: string; field35: number; field36: number; field37: number; field38: boolean; field39: string; field40: string; field41: string; field42: number; field43: Status; field44: Money; field45: string[]; field46: {[key: string]: number}; field47: M0Level14;}
+// gen.m0.M0Wide15
+export interface M0Wide15 {field0: number[]; field1: string; field2: number; field3: number; field4: number; field5: boolean; field6: string; field7: string; field8: string; field9: number; field10: Status; field11: Money; field12: string[]; field13: {[key: string]: number}; field14?: string; field15: string[]; field16: number[]; field17: string; field18: number; field19: number; field20: number; field21: boolean; field22: string; field23: string; field24: string; field25: number; field26: Status; field27: Money; field28: string[]; field29: {[key: string]: number}; field30?: string; field31: string[]; field32: number[]; field33: string; field34: number; field35: number; field36: number; field37: boolean; field38: string; field39: string; field40: string; field41: number; field42: Status; field43: Money; field44: string[]; field45: {[key: string]: number}; field46?: string; field47: M0Level15;}
+// gen.m0.M0Wide16
+export interface M0Wide16 {field0: string; field1: number; field2: number; field3: number; field4: boolean; field5: string; field6: string; field7: string; field8: number; field9: Status; field10: Money; field11: string[]; field12: {[key: string]: number}; field13?: string; field14: string[]; field15: number[]; field16: string; field17: number; field18: number; field19: number; field20: boolean; field21: string; field22: string; field23: string; field24: number; field25: Status; field26: Money; field27: string[]; field28: {[key: string]: number}; field29?: string; field30: string[]; field31: number[]; field32: string; field33: number; field34: number; field35: number; field36: boolean; field37: string; field38: string; field39: string; field40: number; field41: Status; field42: Money; field43: string[]; field44: {[key: string]: number}; field45?: string; field46: string[]; field47: M0Level16;}
+// gen.m0.M0Wide17
+export interface M0Wide17 {field0: number; field1: number; field2: number; field3: boolean; field4: string; field5: string; field6: string; field7: number; field8: Status; field9: Money; field10: string[]; field11: {[key: string]: number}; field12?: string; field13: string[]; field14: number[]; field15: string; field16: number; field17: number; field18: number; field19: boolean; field20: string; field21: string; field22: string; field23: number; field24: Status; field25: Money; field26: string[]; field27: {[key: string]: number}; field28?: string; field29: string[]; field30: number[]; field31: string; field32: number; field33: number; field34: number; field35: boolean; field36: string; field37: string; field38: string; field39: number; field40: Status; field41: Money; field42: string[]; field43: {[key: string]: number}; field44?: string; field45: string[]; field46: number[]; field47: M0Level17;}
+// gen.m0.M0Wide18
+export interface M0Wide18 {field0: number; field1: number; field2: boolean; field3: string; field4: string; field5: string; field6: number; field7: Status; field8: Money; field9: string[]; field10: {[key: string]: number}; field11?: string; field12: string[]; field13: number[]; field14: string; field15: number; field16: number; field17: number; field18: boolean; field19: string; field20: string; field21: string; field22: number; field23: Status; field24: Money; field25: string[]; field26: {[key: string]: number}; field27?: string; field28: string[]; field29: number[]; field30: string; field31: number; field32: number; field33: number; field34: boolean; field35: string; field36: string; field37: string; field38: number; field39: Status; field40: Money; field41: string[]; field42: {[key: string]: number}; field43?: string; field44: string[]; field45: number[]; field46: string; field47: M0Level18;}
+// gen.m0.M0Wide19
+export interface M0Wide19 {field0: number; field1: boolean; field2: string; field3: string; field4: string; field5: number; field6: Status; field7: Money; field8: string[]; field9: {[key: string]: number}; field10?: string; field11: string[]; field12: number[]; field13: string; field14: number; field15: number; field16: number; field17: boolean; field18: string; field19: string; field20: string; field21: number; field22: Status; field23: Money; field24: string[]; field25: {[key: string]: number}; field26?: string; field27: string[]; field28: number[]; field29: string; field30: number; field31: number; field32: number; field33: boolean; field34: string; field35: string; field36: string; field37: number; field38: Status; field39: Money; field40: string[]; field41: {[key: string]: number}; field42?: string; field43: string[]; field44: number[]; field45: string; field46: number; field47: M0Level19;}
+// gen.m0.M0Wide2
+export interface M0Wide2 {field0: number; field1: number; field2: boolean; field3: string; field4: string; field5: string; field6: number; field7: Status; field8: Money; field9: string[]; field10: {[key: string]: number}; field11?: string; field12: string[]; field13: number[]; field14: string; field15: number; field16: number; field17: number; field18: boolean; field19: string; field20: string; field21: string; field22: number; field23: Status; field24: Money; field25: string[]; field26: {[key: string]: number}; field27?: string; field28: string[]; field29: number[]; field30: string; field31: number; field32: number; field33: number; field34: boolean; field35: string; field36: string; field37: string; field38: number; field39: Status; field40: Money; field41: string[]; field42: {[key: string]: number}; field43?: string; field44: string[]; field45: number[]; field46: string; field47: M0Level2;}
+// gen.m0.M0Wide3
+export interface M0Wide3 {field0: number; field1: boolean; field2: string; field3: string; field4: string; field5: number; field6: Status; field7: Money; field8: string[]; field9: {[key: string]: number}; field10?: string; field11: string[]; field12: number[]; field13: string; field14: number; field15: number; field16: number; field17: boolean; field18: string; field19: string; field20: string; field21: number; field22: Status; field23: Money; field24: string[]; field25: {[key: string]: number}; field26?: string; field27: string[]; field28: number[]; field29: string; field30: number; field31: number; field32: number; field33: boolean; field34: string; field35: string; field36: string; field37: number; field38: Status; field39: Money; field40: string[]; field41: {[key: string]: number}; field42?: string; field43: string[]; field44: number[]; field45: string; field46: number; field47: M0Level3;}
+// gen.m0.M0Wide4
+export interface M0Wide4 {field0: boolean; field1: string; field2: string; field3: string; field4: number; field5: Status; field6: Money; field7: string[]; field8: {[key: string]: number}; field9?: string; field10: string[]; field11: number[]; field12: string; field13: number; field14: number; field15: number; field16: boolean; field17: string; field18: string; field19: string; field20: number; field21: Status; field22: Money; field23: string[]; field24: {[key: string]: number}; field25?: string; field26: string[]; field27: number[]; field28: string; field29: number; field30: number; field31: number; field32: boolean; field33: string; field34: string; field35: string; field36: number; field37: Status; field38: Money; field39: string[]; field40: {[key: string]: number}; field41?: string; field42: string[]; field43: number[]; field44: string; field45: number; field46: number; field47: M0Level4;}
+// gen.m0.M0Wide5
+export interface M0Wide5 {field0: string; field1: string; field2: string; field3: number; field4: Status; field5: Money; field6: string[]; field7: {[key: string]: number}; field8?: string; field9: string[]; field10: number[]; field11: string; field12: number; field13: number; field14: number; field15: boolean; field16: string; field17: string; field18: string; field19: number; field20: Status; field21: Money; field22: string[]; field23: {[key: string]: number}; field24?: string; field25: string[]; field26: number[]; field27: string; field28: number; field29: number; field30: number; field31: boolean; field32: string; field33: string; field34: string; field35: number; field36: Status; field37: Money; field38: string[]; field39: {[key: string]: number}; field40?: string; field41: string[]; field42: number[]; field43: string; field44: number; field45: number; field46: number; field47: M0Level5;}
+// gen.m0.M0Wide6
+export interface M0Wide6 {field0: string; field1: string; field2: number; field3: Status; field4: Money; field5: string[]; field6: {[key: string]: number}; field7?: string; field8: string[]; field9: number[]; field10: string; field11: number; field12: number; field13: number; field14: boolean; field15: string; field16: string; field17: string; field18: number; field19: Status; field20: Money; field21: string[]; field22: {[key: string]: number}; field23?: string; field24: string[]; field25: number[]; field26: string; field27: number; field28: number; field29: number; field30: boolean; field31: string; field32: string; field33: string; field34: number; field35: Status; field36: Money; field37: string[]; field38: {[key: string]: number}; field39?: string; field40: string[]; field41: number[]; field42: string; field43: number; field44: number; field45: number; field46: boolean; field47: M0Level6;}
+// gen.m0.M0Wide7
+export interface M0Wide7 {field0: string; field1: number; field2: Status; field3: Money; field4: string[]; field5: {[key: string]: number}; field6?: string; field7: string[]; field8: number[]; field9: string; field10: number; field11: number; field12: number; field13: boolean; field14: string; field15: string; field16: string; field17: number; field18: Status; field19: Money; field20: string[]; field21: {[key: string]: number}; field22?: string; field23: string[]; field24: number[]; field25: string; field26: number; field27: number; field28: number; field29: boolean; field30: string; field31: string; field32: string; field33: number; field34: Status; field35: Money; field36: string[]; field37: {[key: string]: number}; field38?: string; field39: string[]; field40: number[]; field41: string; field42: number; field43: number; field44: number; field45: boolean; field46: string; field47: M0Level7;}
+// gen.m0.M0Wide8
+export interface M0Wide8 {field0: number; field1: Status; field2: Money; field3: string[]; field4: {[key: string]: number}; field5?: string; field6: string[]; field7: number[]; field8: string; field9: number; field10: number; field11: number; field12: boolean; field13: string; field14: string; field15: string; field16: number; field17: Status; field18: Money; field19: string[]; field20: {[key: string]: number}; field21?: string; field22: string[]; field23: number[]; field24: string; field25: number; field26: number; field27: number; field28: boolean; field29: string; field30: string; field31: string; field32: number; field33: Status; field34: Money; field35: string[]; field36: {[key: string]: number}; field37?: string; field38: string[]; field39: number[]; field40: string; field41: number; field42: number; field43: number; field44: boolean; field45: string; field46: string; field47: M0Level8;}
+// gen.m0.M0Wide9
+export interface M0Wide9 {field0: Status; field1: Money; field2: string[]; field3: {[key: string]: number}; field4?: string; field5: string[]; field6: number[]; field7: string; field8: number; field9: number; field10: number; field11: boolean; field12: string; field13: string; field14: string; field15: number; field16: Status; field17: Money; field18: string[]; field19: {[key: string]: number}; field20?: string; field21: string[]; field22: number[]; field23: string; field24: number; field25: number; field26: number; field27: boolean; field28: string; field29: string; field30: string; field31: number; field32: Status; field33: Money; field34: string[]; field35: {[key: string]: number}; field36?: string; field37: string[]; field38: number[]; field39: string; field40: number; field41: number; field42: number; field43: boolean; field44: string; field45: string; field46: string; field47: M0Level9;}
@@ -0,0 +1,204 @@
+package jvm2dts;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Synthetic model classes for scale tests, compiled in-process with javax.tools: a common package
+ * and any number of modules of {@link #MODULE_SIZE} classes each, every module in its own package, with
+ * <ul>
+ *   <li>an inheritance chain of {@link #LEVELS} classes, rooted in generic base classes of the common package</li>
+ *   <li>records with {@link #RECORD_COMPONENTS} components of all kinds of types</li>
+ *   <li>enums with {@link #ENUM_CONSTANTS} constants</li>
+ *   <li>generic classes with nested, wildcard and array types of their type variables, and subclasses that bind them</li>
+ *   <li>interfaces with deeply nested collection types</li>
+ * </ul>
+ * Modules are the same apart from the <code>M&lt;module&gt;</code> prefix of their class names, which keeps simple names unique,
+ * so the output of every module can be checked against the output of the first one.
+ * Some generic shapes render types that the output does not declare, see {@link ScaleTest#KNOWN_UNDECLARED}.
+ * Sources are generated deterministically, so the output only changes when jvm2dts does.
+ */
+class Corpus {
+  static final String COMMON = "gen.common";
+  static final int MODULE_SIZE = 100;
+  static final int LEVELS = 30;
+  static final int RECORDS = 20;
+  static final int RECORD_COMPONENTS = 48;
+  static final int ENUMS = 5;
+  static final int ENUM_CONSTANTS = 400;
+  static final int GENERICS = 10;
+  static final int BOUND_GENERICS = 15;
+  static final int VIEWS = MODULE_SIZE - LEVELS - RECORDS - ENUMS - GENERICS - BOUND_GENERICS;
+  /** Modules compiled by one javac task, tasks run in parallel */
+  static final int MODULES_PER_TASK = 20;
+
+  private static final String[] RECORD_TYPES = {
+    "String", "int", "long", "double", "boolean", "java.util.UUID", "java.time.Instant", "java.time.LocalDate",
+    "java.math.BigDecimal", "gen.common.Status", "gen.common.Money", "java.util.List<String>",
+    "java.util.Map<String, Integer>", "java.util.Optional<java.time.LocalDate>", "java.util.Set<java.util.UUID>", "byte[]"
+  };
+
+  /**
+   * @return number of classes in the common package and the modules
+   */
+  static int classCount(int modules) {
+    return common().size() + modules * MODULE_SIZE;
+  }
+
+  /**
+   * Compiles the corpus into the directory
+   */
+  static void compile(Path classesDir, int modules) throws Exception {
+    Files.createDirectories(classesDir);
+    compile(classesDir, common());
+    var tasks = new ArrayList<Callable<Void>>();
+    for (int first = 0; first < modules; first += MODULES_PER_TASK) {
+      var from = first;
+      var to = Math.min(modules, first + MODULES_PER_TASK);
+      tasks.add(() -> {
+        var sources = new LinkedHashMap<String, String>();
+        for (int m = from; m < to; m++) sources.putAll(module(m));
+        compile(classesDir, sources);
+        return null;
+      });
+    }
+    var executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    try {
+      for (var result : executor.invokeAll(tasks)) result.get();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static void compile(Path classesDir, Map<String, String> sources) throws IOException {
+    var compiler = ToolProvider.getSystemJavaCompiler();
+    var diagnostics = new DiagnosticCollector<JavaFileObject>();
+    var files = sources.entrySet().stream().map(e -> new Source(e.getKey(), e.getValue())).collect(toList());
+    var options = List.of("-d", classesDir.toString(), "-classpath", classesDir.toString(), "-proc:none", "-nowarn");
+    try (var fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+      if (!compiler.getTask(null, fileManager, diagnostics, options, null, files).call())
+        throw new IllegalStateException("Failed to compile generated classes: " + diagnostics.getDiagnostics());
+    }
+  }
+
+  /**
+   * @return sources by class name of the package that all modules extend and refer to
+   */
+  static Map<String, String> common() {
+    var sources = new LinkedHashMap<String, String>();
+    sources.put(COMMON + ".Nullable", "package gen.common; @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME) " +
+      "public @interface Nullable {}");
+    sources.put(COMMON + ".Status", "package gen.common; public enum Status { ACTIVE, SUSPENDED, DELETED }");
+    sources.put(COMMON + ".Money", "package gen.common; public record Money(java.math.BigDecimal amount, String currency) {}");
+    sources.put(COMMON + ".Identified", "package gen.common; public abstract class Identified { " +
+      "public java.util.UUID getId() { return null; } public long getVersion() { return 0; } }");
+    sources.put(COMMON + ".Auditable", "package gen.common; public abstract class Auditable<U> extends Identified { " +
+      "public U getCreatedBy() { return null; } public java.time.Instant getCreatedAt() { return null; } " +
+      "public @Nullable java.time.Instant getUpdatedAt() { return null; } }");
+    sources.put(COMMON + ".Page", "package gen.common; public interface Page<T> { java.util.List<T> getItems(); long getTotal(); " +
+      "java.util.Optional<T> getFirst(); java.util.Map<String, java.util.List<T>> getGroups(); }");
+    sources.put(COMMON + ".Tree", "package gen.common; public class Tree<K extends Comparable<K>, V> { " +
+      "public K getKey() { return null; } public V getValue() { return null; } " +
+      "public java.util.List<Tree<K, V>> getChildren() { return null; } public java.util.Map<K, java.util.Set<V>> getIndex() { return null; } }");
+    sources.put(COMMON + ".Catalog", "package gen.common; public class Catalog extends Tree<String, Money> {}");
+    return sources;
+  }
+
+  /**
+   * @return sources by class name of the module, in package <code>gen.m&lt;module&gt;</code>
+   */
+  static Map<String, String> module(int m) {
+    var pkg = "gen.m" + m;
+    var prefix = "M" + m;
+    var header = "package " + pkg + "; import gen.common.*; import java.util.*; ";
+    var sources = new LinkedHashMap<String, String>();
+
+    for (int i = 0; i < LEVELS; i++) {
+      var parent = i == 0 ? "Auditable<String>" : prefix + "Level" + (i - 1);
+      var third = switch (i % 4) {
+        case 0 -> "List<" + prefix + "Level0> getLevel" + i + "Siblings()";
+        case 1 -> "Map<String, " + prefix + "Wide" + (i % RECORDS) + "> getLevel" + i + "Records()";
+        case 2 -> "int[] getLevel" + i + "Scores()";
+        default -> "@Nullable Optional<Money> getLevel" + i + "Price()";
+      };
+      sources.put(pkg + "." + prefix + "Level" + i, header + "public class " + prefix + "Level" + i + " extends " + parent + " { " +
+        getter("String getLevel" + i + "Name()") + getter("Status getLevel" + i + "Status()") +
+        getter("boolean isLevel" + i + "Active()") + getter(third) + "}");
+    }
+
+    for (int i = 0; i < RECORDS; i++) {
+      var components = new StringJoiner(", ");
+      for (int c = 0; c < RECORD_COMPONENTS; c++) {
+        var type = c == RECORD_COMPONENTS - 1 ? prefix + "Level" + i : RECORD_TYPES[(c + i) % RECORD_TYPES.length];
+        components.add(type + " field" + c);
+      }
+      sources.put(pkg + "." + prefix + "Wide" + i, header + "public record " + prefix + "Wide" + i + "(" + components + ") {}");
+    }
+
+    for (int i = 0; i < ENUMS; i++) {
+      var constants = new StringJoiner(", ");
+      for (int c = 0; c < ENUM_CONSTANTS; c++) constants.add(String.format("CODE_%d_%03d", i, c));
+      sources.put(pkg + "." + prefix + "Code" + i, header + "public enum " + prefix + "Code" + i + " { " + constants + " }");
+    }
+
+    for (int i = 0; i < GENERICS; i++) {
+      sources.put(pkg + "." + prefix + "Box" + i, header + "public class " + prefix + "Box" + i + "<T, R extends Comparable<R>, N extends Number & Comparable<N>> { " +
+        getter("T getValue()") + getter("List<Map<String, Optional<T>>> getNested()") + getter("Map<R, List<Set<T>>> getIndex" + i + "()") +
+        getter("T[] getArray()") + getter("List<? extends T> getCovariant()") + getter("Map<String, ? super R> getContravariant()") +
+        getter("Map<String, Page<T>> getPages()") + getter("Tree<R, List<T>> getTree()") + getter("Map<R, Catalog> getCatalogs()") +
+        getter("List<N> getAmounts()") + "}");
+    }
+
+    for (int i = 0; i < BOUND_GENERICS; i++) {
+      var name = prefix + "Filled" + i;
+      var item = prefix + "Level" + i;
+      sources.put(pkg + "." + name, header + "public class " + name + " extends " + prefix + "Box" + (i % GENERICS) +
+        "<" + prefix + "Wide" + (i % RECORDS) + ", String, Long> implements Page<" + item + "> { " +
+        getter("List<" + item + "> getItems()") + getter("long getTotal()") + getter("Optional<" + item + "> getFirst()") +
+        getter("Map<String, List<" + item + ">> getGroups()") + "}");
+    }
+
+    for (int i = 0; i < VIEWS; i++) {
+      sources.put(pkg + "." + prefix + "View" + i, header + "public interface " + prefix + "View" + i + " { " +
+        "Map<" + prefix + "Code" + (i % ENUMS) + ", List<" + prefix + "Wide" + (i % RECORDS) + ">> getByCode(); " +
+        "List<List<List<Long>>> getCube(); " +
+        "Optional<Tree<String, " + prefix + "Level" + (i % LEVELS) + ">> getTree(); " +
+        "Optional<Catalog> getCatalog(); " +
+        prefix + "Filled" + (i % BOUND_GENERICS) + "[] getFilled(); " +
+        "Map<String, Map<String, Map<String, Double>>> getMetrics(); " +
+        "@Nullable " + prefix + "View" + ((i + 1) % VIEWS) + " getNext(); }");
+    }
+    return sources;
+  }
+
+  private static String getter(String signature) {
+    var type = signature.substring(0, signature.lastIndexOf(' '));
+    var value = switch (type) {
+      case "int", "long" -> "0";
+      case "boolean" -> "false";
+      default -> "null";
+    };
+    return "public " + signature + " { return " + value + "; } ";
+  }
+
+  private static class Source extends SimpleJavaFileObject {
+    private final String code;
+
+    Source(String className, String code) {
+      super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+      this.code = code;
+    }
+
+    @Override public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return code;
+    }
+  }
+}
@@ -0,0 +1,220 @@
+package jvm2dts;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link Main} over a {@link Corpus} of <code>jvm2dts.scale.classes</code> classes with both converters,
+ * checks that the output refers only to declared types and is the same as the golden files, and fails if throughput
+ * or peak heap of the conversion get worse than in the baseline by more than <code>jvm2dts.scale.margin</code>.
+ * The baseline depends on the hardware, so it is kept on the machine that runs the suite, outside of the source tree,
+ * in <code>~/.jvm2dts/scale-baseline.properties</code> unless <code>jvm2dts.scale.baseline</code> is given,
+ * and measurements for a new number of classes are recorded there on their first run.
+ * <pre>
+ * ./gradlew scaleTest -Pjvm2dts.scale.classes=100000
+ * ./gradlew scaleTest -Pjvm2dts.scale.baseline=/var/ci/scale-baseline.properties
+ * ./gradlew scaleTest -Pjvm2dts.scale.update=true   # after an intended change of output or performance
+ * </pre>
+ */
+class ScaleTest {
+  static final int CLASSES = Integer.getInteger("jvm2dts.scale.classes", 10_000);
+  /** Allowed relative loss of throughput and growth of peak heap */
+  static final double MARGIN = Double.parseDouble(System.getProperty("jvm2dts.scale.margin", "0.2"));
+  /** Runs per converter, the best of which is compared, as the first ones include class loading and JIT compilation of jvm2dts */
+  static final int RUNS = Integer.getInteger("jvm2dts.scale.runs", 3);
+  /** Directory with the golden output of the common package and the first module */
+  static final Path DIR = Paths.get(System.getProperty("jvm2dts.scale.dir", "src/scale"));
+  /** File with measurements of earlier runs on this machine to compare with */
+  static final Path BASELINE = Paths.get(System.getProperty("jvm2dts.scale.baseline",
+    Paths.get(System.getProperty("user.home"), ".jvm2dts", "scale-baseline.properties").toString()));
+  /** Rewrites the golden files, and the measurements for this number of classes in the baseline, instead of checking them */
+  static final boolean UPDATE = Boolean.getBoolean("jvm2dts.scale.update");
+  /** File to record the measurements of this run in, if set */
+  static final String RESULTS = System.getProperty("jvm2dts.scale.results");
+  private static final Set<String> BUILTIN_TYPES = Set.of("string", "number", "boolean", "any");
+  /**
+   * Known limitations of the converters that the corpus covers anyway: type variables are erased to their first bound,
+   * e.g. Comparable, and Optional is only unwrapped at the top of a property type, so both are referred to but not declared
+   */
+  static final Set<String> KNOWN_UNDECLARED = Set.of("Comparable", "Optional");
+  /** Generic classes that are referred to with type arguments while their declarations have no type parameters, also a known limitation */
+  static final Set<String> KNOWN_TYPE_ARGUMENTS = Set.of("Tree");
+  private static final Pattern TYPE_ARGUMENTS = Pattern.compile("([\\w$]+)<");
+
+  @TempDir Path dir;
+
+  @Test
+  void convertsCorpusWithinBaseline() throws Exception {
+    var modules = Math.max(1, CLASSES / Corpus.MODULE_SIZE);
+    var classCount = Corpus.classCount(modules);
+    var classes = dir.resolve("classes");
+    Corpus.compile(classes, modules);
+
+    var baseline = load(BASELINE);
+    var results = new Properties();
+    for (var converter : List.of("reflection", "bytecode")) {
+      var bestThroughput = 0.0;
+      var bestPeakHeap = Long.MAX_VALUE;
+      for (int run = 0; run < RUNS; run++) {
+        var out = dir.resolve(converter + run);
+        var heap = ManagementFactory.getMemoryPoolMXBeans().stream().filter(pool -> pool.getType() == MemoryType.HEAP).collect(toList());
+        System.gc();
+        heap.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        var start = System.nanoTime();
+        Main.main(converter.equals("bytecode") ?
+          new String[] {"-classesDir", classes.toString(), "-outDir", out.toString(), "-threads", "0", "-bytecode"} :
+          new String[] {"-classesDir", classes.toString(), "-outDir", out.toString(), "-threads", "0"});
+        var seconds = (System.nanoTime() - start) / 1e9;
+        var peakHeap = heap.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+        bestThroughput = Math.max(bestThroughput, classCount / seconds);
+        bestPeakHeap = Math.min(bestPeakHeap, peakHeap);
+        if (run == 0) {
+          checkGolden(out, modules);
+          checkReferences(out);
+        }
+        delete(out);
+      }
+
+      var key = classCount + "." + converter;
+      var throughput = Math.round(bestThroughput);
+      var peakHeapMB = (bestPeakHeap + (1 << 20) - 1) >> 20;
+      System.out.println("// " + key + ": " + throughput + " classes/s, peak heap " + peakHeapMB + " MB");
+      results.setProperty(key + ".classesPerSecond", String.valueOf(throughput));
+      results.setProperty(key + ".peakHeapMB", String.valueOf(peakHeapMB));
+
+      var baseThroughput = baseline.getProperty(key + ".classesPerSecond");
+      var basePeakHeap = baseline.getProperty(key + ".peakHeapMB");
+      if (UPDATE || baseThroughput == null || basePeakHeap == null) continue;
+      assertThat(throughput).as(key + " classes/s, baseline " + baseThroughput)
+        .isGreaterThanOrEqualTo(Math.round(Long.parseLong(baseThroughput) * (1 - MARGIN)));
+      assertThat(peakHeapMB).as(key + " peak heap MB, baseline " + basePeakHeap)
+        .isLessThanOrEqualTo(Math.round(Long.parseLong(basePeakHeap) * (1 + MARGIN)));
+    }
+
+    if (RESULTS != null) store(results, Paths.get(RESULTS));
+    var missing = results.stringPropertyNames().stream().anyMatch(key -> !baseline.containsKey(key));
+    if (UPDATE || missing) {
+      baseline.putAll(results);
+      store(baseline, BASELINE);
+      System.out.println("// Recorded the baseline in " + BASELINE);
+    }
+  }
+
+  /**
+   * Compares the output of the common package and every module, which differs from the first one only by the module prefix
+   */
+  private void checkGolden(Path out, int modules) throws IOException {
+    var golden = DIR.resolve("golden");
+    if (UPDATE) {
+      Files.createDirectories(golden);
+      Files.copy(out.resolve(Corpus.COMMON + ShardedOutput.EXTENSION), golden.resolve(Corpus.COMMON + ShardedOutput.EXTENSION), REPLACE_EXISTING);
+      Files.copy(out.resolve("gen.m0" + ShardedOutput.EXTENSION), golden.resolve("gen.m0" + ShardedOutput.EXTENSION), REPLACE_EXISTING);
+    }
+
+    try (var files = Files.list(out)) {
+      assertThat(files.count()).isEqualTo(modules + 1L);
+    }
+    assertThat(Files.readString(out.resolve(Corpus.COMMON + ShardedOutput.EXTENSION)))
+      .isEqualTo(Files.readString(golden.resolve(Corpus.COMMON + ShardedOutput.EXTENSION)));
+    var module = Files.readString(golden.resolve("gen.m0" + ShardedOutput.EXTENSION));
+    for (int m = 0; m < modules; m++) {
+      var file = "gen.m" + m + ShardedOutput.EXTENSION;
+      assertThat(Files.readString(out.resolve(file))).as(file).isEqualTo(module.replace("gen.m0.", "gen.m" + m + ".").replaceAll("\\bM0(?=[A-Z])", "M" + m));
+    }
+  }
+
+  /**
+   * Checks that every type referred to in the output is built in, declared in the same file, or imported from a file that declares it,
+   * and that only types declared with type parameters are given type arguments
+   */
+  private static void checkReferences(Path out) throws IOException {
+    var declared = new HashMap<String, Set<String>>();
+    var imported = new HashMap<String, Map<String, String>>();
+    var declarations = new HashMap<String, List<String>>();
+    var generic = new HashSet<String>();
+    try (var files = Files.list(out)) {
+      for (var file : files.collect(toList())) {
+        var shard = file.getFileName().toString();
+        shard = shard.substring(0, shard.length() - ShardedOutput.EXTENSION.length());
+        var names = declared.computeIfAbsent(shard, s -> new HashSet<>());
+        var imports = imported.computeIfAbsent(shard, s -> new HashMap<>());
+        var exports = declarations.computeIfAbsent(shard, s -> new ArrayList<>());
+        for (var line : Files.readAllLines(file)) {
+          if (line.startsWith("import {")) {
+            var from = line.substring(line.indexOf("'./") + 3, line.lastIndexOf('\''));
+            for (var name : line.substring("import {".length(), line.indexOf('}')).split(", ")) imports.put(name, from);
+          } else if (line.startsWith("export ")) {
+            var declaration = line.substring("export ".length());
+            var name = ShardedOutput.declaredName(declaration);
+            names.add(name);
+            if (declaration.startsWith(name + "<", declaration.indexOf(' ') + 1)) generic.add(name);
+            exports.add(declaration);
+          }
+        }
+      }
+    }
+
+    for (var shard : declarations.keySet()) {
+      for (var imports : imported.get(shard).entrySet())
+        assertThat(declared.getOrDefault(imports.getValue(), Set.of())).as(imports.getKey() + " imported by " + shard + " from " + imports.getValue())
+          .contains(imports.getKey());
+      for (var declaration : declarations.get(shard)) {
+        var undeclared = new TreeSet<>(ShardedOutput.referencedTypes(declaration));
+        undeclared.removeAll(BUILTIN_TYPES);
+        undeclared.removeAll(KNOWN_UNDECLARED);
+        undeclared.removeAll(declared.get(shard));
+        undeclared.removeAll(imported.get(shard).keySet());
+        assertThat(undeclared).as("undeclared types in " + shard + ": " + declaration).isEmpty();
+        var withArguments = new TreeSet<String>();
+        for (var matcher = TYPE_ARGUMENTS.matcher(declaration.substring(declaration.indexOf('{'))); matcher.find(); ) withArguments.add(matcher.group(1));
+        withArguments.removeAll(generic);
+        withArguments.removeAll(KNOWN_TYPE_ARGUMENTS);
+        assertThat(withArguments).as("type arguments of types without type parameters in " + shard + ": " + declaration).isEmpty();
+      }
+    }
+  }
+
+  private static void delete(Path dir) throws IOException {
+    try (var paths = Files.walk(dir)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  private static Properties load(Path file) throws IOException {
+    var properties = new Properties();
+    if (Files.exists(file)) try (Reader in = Files.newBufferedReader(file)) {
+      properties.load(in);
+    }
+    return properties;
+  }
+
+  /**
+   * Writes the properties sorted and without a timestamp, so that the file only changes with the measurements
+   */
+  private static void store(Properties properties, Path file) throws IOException {
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    try (Writer out = Files.newBufferedWriter(file)) {
+      out.write("# Best of " + RUNS + " runs of " + ScaleTest.class.getSimpleName() + " per class count and converter, " +
+        "on " + Runtime.getRuntime().availableProcessors() + " processors with " + (Runtime.getRuntime().maxMemory() >> 20) + " MB max heap\n");
+      for (var e : new TreeMap<>(properties).entrySet()) out.write(e.getKey() + "=" + e.getValue() + "\n");
+    }
+  }
+}
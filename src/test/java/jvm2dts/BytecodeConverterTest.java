@@ -0,0 +1,133 @@
+package jvm2dts;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.util.*;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BytecodeConverterTest {
+  private final TypeMapper typeMapper = new TypeMapper(emptyMap());
+  private final Converter reflectionConverter = new Converter(typeMapper);
+  private final BytecodeConverter converter = new BytecodeConverter(typeMapper, new ClassFiles(List.of()));
+
+  @Test
+  void sameOutputAsReflection() {
+    for (var clazz : List.of(Model.class, Model.Details.class, Model.Role.class, Primitives.class, WrapperTypes.class, NonNullableTypes.class, NullableOptional.class, JsonPropertyObject.class,
+      RealClass.class, Record.class, Empty.class, OnlyPrivate.class, Collections.class, Role.class, RoleWithValues.class, EnumConverterTest.Role.class,
+      Generics.class, Page.class, RolePage.class, ListOfStrings.class, EnumWithBodies.class, EnumWithToStringInBody.class, Annotation.class, new Object() {}.getClass())) {
+      assertThat(converter.convert(clazz.getName())).isEqualTo(reflectionConverter.convert(clazz));
+    }
+  }
+
+  @Test
+  void enumWithComputedToStringFallsBackToNames() {
+    assertThat(converter.convert(ComputedEnum.class.getName())).isEqualTo("enum ComputedEnum {A = 'A', B = 'B'}");
+  }
+
+  @Test
+  void enumWithComputedToStringInBodyFallsBackToNames() {
+    assertThat(converter.convert(ComputedInBodyEnum.class.getName())).isEqualTo("enum ComputedInBodyEnum {A = 'A', B = 'B'}");
+  }
+
+  @Test
+  void doesNotInitializeClasses() {
+    converter.convert("jvm2dts.BytecodeConverterTest$NotInitialized");
+    assertThat(initialized).isFalse();
+  }
+
+  static boolean initialized;
+
+  @SuppressWarnings("unused")
+  static class NotInitialized {
+    static { initialized = true; }
+    public String getName() { return ""; }
+  }
+
+  @Retention(RUNTIME) @Inherited
+  @interface Annotation {}
+}
+
+@SuppressWarnings("unused")
+@BytecodeConverterTest.Annotation
+class Generics<T extends Number> {
+  public T getValue() { return null; }
+  public List<T> getValues() { return null; }
+  public T[] getArray() { return null; }
+  public Map<String, List<Long>> getMapOfLists() { return null; }
+  public Map<String, T> getMapOfT() { return null; }
+  public List<? extends T> getWildcards() { return null; }
+  public List<Long>[] getGenericArray() { return null; }
+  public Integer[][] getMatrix() { return null; }
+  public int[][] getPrimitiveMatrix() { return null; }
+  public Optional<int[]> getOptionalArray() { return Optional.empty(); }
+  public SingleGeneric<List<String>> getNested() { return null; }
+  public boolean isActive() { return true; }
+  public char getChar() { return 'c'; }
+
+  static class Nested {
+    public String getName() { return ""; }
+  }
+}
+
+class InheritsAnnotation extends Generics<Long> {}
+
+@SuppressWarnings("unused")
+class ListOfStrings extends ArrayList<String> {
+  public String getFirst() { return get(0); }
+}
+
+@SuppressWarnings("unused")
+enum EnumWithBodies {
+  A("a") {
+    @Override void run() {}
+  },
+  B("b") {
+    @Override void run() {}
+  };
+
+  private final String value;
+
+  EnumWithBodies(String value) {
+    this.value = value;
+  }
+
+  abstract void run();
+
+  @Override public String toString() {
+    return value;
+  }
+}
+
+@SuppressWarnings("unused")
+enum ComputedEnum {
+  A, B;
+
+  @Override public String toString() {
+    return name().toLowerCase();
+  }
+}
+
+@SuppressWarnings("unused")
+enum EnumWithToStringInBody {
+  A,
+  B {
+    @Override public String toString() {
+      return "bee";
+    }
+  }
+}
+
+@SuppressWarnings("unused")
+enum ComputedInBodyEnum {
+  A,
+  B {
+    @Override public String toString() {
+      return name().toLowerCase();
+    }
+  }
+}
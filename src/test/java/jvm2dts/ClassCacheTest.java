@@ -0,0 +1,73 @@
+package jvm2dts;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static jvm2dts.TestClassFiles.classFile;
+import static jvm2dts.TestClassFiles.copyClasses;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassCacheTest {
+  @TempDir Path dir;
+
+  @Test
+  void reusesEntriesOfUnchangedClasses() throws IOException {
+    copyClasses(dir, Model.class, Base.class, AnyId.class);
+    var cacheFile = dir.resolve("cache");
+
+    var cache = new ClassCache(cacheFile, new ClassFiles(List.of(dir)), "options");
+    assertThat(cache.get(Model.class.getName())).isNull();
+    cache.put(Model.class.getName(), relatedClasses(Model.class), true, false, "interface Model {}");
+    cache.save();
+
+    var entry = new ClassCache(cacheFile, new ClassFiles(List.of(dir)), "options").get(Model.class.getName());
+    assertThat(entry.declaration()).isEqualTo("interface Model {}");
+    assertThat(entry.data()).isTrue();
+    assertThat(entry.annotated()).isFalse();
+    assertThat(entry.dependencies().keySet()).containsOnly(AnyId.class.getName(), Base.class.getName());
+  }
+
+  @Test
+  void invalidatesEntriesWhenOptionsChange() throws IOException {
+    copyClasses(dir, Model.class);
+    var cacheFile = dir.resolve("cache");
+
+    var cache = new ClassCache(cacheFile, new ClassFiles(List.of(dir)), "options");
+    cache.put(Model.class.getName(), relatedClasses(Model.class), true, true, "interface Model {}");
+    cache.save();
+
+    assertThat(new ClassCache(cacheFile, new ClassFiles(List.of(dir)), "other options").get(Model.class.getName())).isNull();
+  }
+
+  @Test
+  void invalidatesEntriesWhenClassOrSuperTypeChanges() throws IOException {
+    copyClasses(dir, Model.class, Base.class, AnyId.class, RealClass.class);
+    var cacheFile = dir.resolve("cache");
+
+    var cache = new ClassCache(cacheFile, new ClassFiles(List.of(dir)), "options");
+    cache.put(Model.class.getName(), relatedClasses(Model.class), true, true, "interface Model {}");
+    cache.put(RealClass.class.getName(), relatedClasses(RealClass.class), true, true, "interface RealClass {}");
+    cache.save();
+
+    Files.write(classFile(dir, Base.class), new byte[] {0}, APPEND);
+    cache = new ClassCache(cacheFile, new ClassFiles(List.of(dir)), "options");
+    assertThat(cache.get(Model.class.getName())).isNull();
+    assertThat(cache.get(RealClass.class.getName())).isNull();
+
+    cache.put(Model.class.getName(), relatedClasses(Model.class), true, true, "interface Model {}");
+    cache.save();
+    assertThat(new ClassCache(cacheFile, new ClassFiles(List.of(dir)), "options").get(Model.class.getName())).isNotNull();
+  }
+
+  private Set<String> relatedClasses(Class<?> clazz) {
+    var classFiles = new ClassFiles(List.of(dir));
+    return classFiles.relatedClasses(classFiles.info(clazz.getName()));
+  }
+}
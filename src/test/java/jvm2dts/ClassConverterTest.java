@@ -59,6 +59,20 @@ class ClassConverterTest {
       "}");
   }
 
+  @Test
+  void nullableIsMatchedBySimpleName() {
+    assertThat(converter.convert(NonNullableTypes.class)).isEqualTo("interface NonNullableTypes {" +
+      "both?: string; " +
+      "name: string; " +
+      "nickname?: string;" +
+      "}");
+  }
+
+  @Test
+  void nullableOptionalIsOptionalOnce() {
+    assertThat(converter.convert(NullableOptional.class)).isEqualTo("interface NullableOptional {value?: string;}");
+  }
+
   @Test
   void jsonProperty() {
     assertThat(converter.convert(JsonPropertyObject.class)).isEqualTo("interface JsonPropertyObject {" +
@@ -91,8 +105,20 @@ class ClassConverterTest {
     assertThat(converter.convert(OnlyPrivate.class)).isNull();
   }
 
+  @Test
+  void inheritedGettersAreAnalyzedOnce() throws NoSuchMethodException {
+    var model = converter.convert(Model.class);
+    converter.convert(RealClass.class);
+    assertThat(converter.getters).containsKey(Base.class.getMethod("getId"));
+    assertThat(converter.getters.keySet().stream().filter(m -> m.getDeclaringClass() == Base.class).count()).isEqualTo(1L);
+    assertThat(converter.convert(Model.class)).isEqualTo(model);
+  }
+
   @Retention(RUNTIME)
   @interface Nullable {}
+
+  @Retention(RUNTIME)
+  @interface NonNullable {}
 }
 
 @SuppressWarnings("unused")
@@ -118,6 +144,18 @@ interface WrapperTypes {
   Optional<String> getOptional();
 }
 
+@SuppressWarnings("unused")
+interface NonNullableTypes {
+  @ClassConverterTest.NonNullable String getName();
+  @ClassConverterTest.Nullable String getNickname();
+  @Nullable @ClassConverterTest.Nullable String getBoth();
+}
+
+@SuppressWarnings("unused")
+interface NullableOptional {
+  @Nullable Optional<String> getValue();
+}
+
 @SuppressWarnings("unused")
 interface JsonPropertyObject {
   @JsonProperty("namedProperty") Boolean getNotWhatIWant();
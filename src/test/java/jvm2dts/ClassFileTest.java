@@ -0,0 +1,65 @@
+package jvm2dts;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import static jvm2dts.TestClassFiles.classBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassFileTest {
+  @Test
+  void readsClassInPlaceFromDirectBuffer() throws IOException {
+    var info = ClassInfo.read(directSlice(classBytes(Annotated.class)));
+
+    assertThat(info.name).isEqualTo(Annotated.class.getName());
+    assertThat(info.declaringClass).isEqualTo(ClassFileTest.class.getName());
+    assertThat(info.interfaces).containsExactly(Comparable.class.getName());
+    var getter = info.declaredMethod("getNames", "()");
+    assertThat(getter.signature).isEqualTo("()Ljava/util/Map<Ljava/lang/String;Ljava/util/List<Ljava/lang/Long;>;>;");
+    assertThat(getter.annotations).containsExactly(new ClassInfo.AnnotationInfo("Lcom/fasterxml/jackson/annotation/JsonProperty;", Map.of("value", "n\u00e4me")));
+    assertThat(getter.annotationDescriptors).containsExactly("Lcom/fasterxml/jackson/annotation/JsonProperty;", "Lorg/jetbrains/annotations/Nullable;");
+  }
+
+  @Test
+  void readsEnumValuesFromBytecode() throws IOException {
+    var info = ClassInfo.read(ByteBuffer.wrap(classBytes(Wide.class)));
+
+    assertThat(info.enumConstants).containsExactly("A", "B");
+    assertThat(info.enumValues).containsExactly("\u00e4", "b");
+  }
+
+  private static ByteBuffer directSlice(byte[] bytes) {
+    var buffer = ByteBuffer.allocateDirect(bytes.length + 3);
+    buffer.position(3);
+    buffer.put(bytes);
+    return buffer.position(3);
+  }
+
+  @SuppressWarnings("unused")
+  static abstract class Annotated implements Comparable<Annotated> {
+    @JsonProperty("n\u00e4me") @Nullable
+    public abstract Map<String, List<Long>> getNames();
+  }
+
+  /** Constructor with long and double arguments taking two local variable slots each */
+  @SuppressWarnings("unused")
+  enum Wide {
+    A(1L, "\u00e4", 2.0), B(3L, "b", 4.0);
+
+    private final String value;
+
+    Wide(long before, String value, double after) {
+      this.value = value;
+    }
+
+    @Override public String toString() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package jvm2dts;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+
+import static java.util.Collections.emptyMap;
+import static java.util.zip.ZipEntry.DEFLATED;
+import static java.util.zip.ZipEntry.STORED;
+import static jvm2dts.TestClassFiles.classBytes;
+import static jvm2dts.TestClassFiles.copyClasses;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassFilesTest {
+  @TempDir Path dir;
+
+  @Test
+  void readsStoredAndDeflatedJarEntries() throws IOException {
+    var jar = dir.resolve("model.jar");
+    writeJar(jar, STORED, Model.class, Base.class);
+    var deflatedJar = dir.resolve("deflated.jar");
+    writeJar(deflatedJar, DEFLATED, RealClass.class);
+
+    var classFiles = new ClassFiles(List.of(jar, deflatedJar));
+    assertThat(classFiles.classNames()).containsExactly(Model.class.getName(), Base.class.getName(), RealClass.class.getName());
+    assertThat(classFiles.read(Model.class.getName())).isEqualTo(classBytes(Model.class));
+    assertThat(classFiles.read(RealClass.class.getName())).isEqualTo(classBytes(RealClass.class));
+    assertThat(classFiles.attributes(Base.class.getName()).size()).isEqualTo(classBytes(Base.class).length);
+    assertThat(classFiles.attributes(ClassFilesTest.class.getName())).isNull();
+  }
+
+  @Test
+  void combinesDirectoriesAndJars() throws IOException {
+    var classesDir = dir.resolve("classes");
+    copyClasses(classesDir, Model.class);
+    var jar = dir.resolve("model.jar");
+    writeJar(jar, DEFLATED, Model.class, RealClass.class);
+
+    var classFiles = new ClassFiles(List.of(classesDir, jar));
+    assertThat(classFiles.classNames()).containsExactly(Model.class.getName(), RealClass.class.getName());
+    assertThat(classFiles.info(RealClass.class.getName()).interfaces).containsExactly(Base.class.getName());
+  }
+
+  @Test
+  void reflectionConverterReadsClassFilesFromRoots() throws IOException {
+    var jar = dir.resolve("model.jar");
+    writeJar(jar, STORED, Model.class);
+    var typeMapper = new TypeMapper(emptyMap());
+    assertThat(new Converter(typeMapper, new ClassFiles(List.of(jar))).convert(Model.class))
+      .isEqualTo(new Converter(typeMapper).convert(Model.class));
+  }
+
+  @Test
+  void sharesClassPathClassesBetweenInstances() throws IOException {
+    var jar = dir.resolve("model.jar");
+    writeJar(jar, STORED, Model.class);
+    var classFiles = new ClassFiles(List.of(jar));
+    var other = new ClassFiles(List.of(dir));
+    assertThat(classFiles.info("java.util.ArrayList")).isSameAs(other.info("java.util.ArrayList"));
+    assertThat(classFiles.info(Model.class.getName())).isNotSameAs(other.info(Model.class.getName()));
+  }
+
+  @Test
+  void forgetsClassPathClassesWhenLastInstanceIsClosed() throws IOException {
+    try (var loader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+      var classFiles = new ClassFiles(List.of(dir), loader);
+      var other = new ClassFiles(List.of(dir), loader);
+      var info = classFiles.info("java.util.ArrayList");
+      classFiles.close();
+      classFiles.close();
+      assertThat(other.info("java.util.ArrayList")).isSameAs(info);
+      try (var reopened = new ClassFiles(List.of(dir), loader)) {
+        assertThat(reopened.info("java.util.ArrayList")).isSameAs(info);
+      }
+
+      other.close();
+      assertThat(new ClassFiles(List.of(dir), loader).info("java.util.ArrayList")).isNotSameAs(info);
+    }
+  }
+
+  @Test
+  void listsClassNamesInOrderAcrossRoots() throws IOException {
+    var classesDir = dir.resolve("classes");
+    for (var name : List.of("p/Foo.class", "p/Foo$Bar.class", "p/foo/X.class", "p/Ba/X.class", "p/Bar.class", "p/Bar/Y.class", "A.class", "META-INF/B.class")) {
+      var file = classesDir.resolve(name);
+      Files.createDirectories(file.getParent());
+      Files.createFile(file);
+    }
+    var jar = dir.resolve("model.jar");
+    writeJar(jar, DEFLATED, Model.class, RealClass.class, Base.class);
+
+    var classFiles = new ClassFiles(List.of(classesDir, jar));
+    var names = new ArrayList<String>();
+    classFiles.sortedClassNames(PackageFilter.ALL).forEachRemaining(names::add);
+    assertThat(names).isEqualTo(new ArrayList<>(new TreeSet<>(classFiles.classNames())));
+  }
+
+  static void writeJar(Path jar, int method, Class<?>... classes) throws IOException {
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new JarEntry("META-INF/"));
+      out.closeEntry();
+      for (var clazz : classes) {
+        var bytes = classBytes(clazz);
+        var entry = new JarEntry(ClassFiles.toResourceName(clazz.getName()));
+        entry.setMethod(method);
+        if (method == STORED) {
+          var crc = new CRC32();
+          crc.update(bytes);
+          entry.setSize(bytes.length);
+          entry.setCompressedSize(bytes.length);
+          entry.setCrc(crc.getValue());
+        }
+        out.putNextEntry(entry);
+        out.write(bytes);
+        out.closeEntry();
+      }
+    }
+  }
+}
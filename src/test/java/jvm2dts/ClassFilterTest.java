@@ -0,0 +1,56 @@
+package jvm2dts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassFilterTest {
+  private final ClassFiles classFiles = new ClassFiles(List.of());
+
+  @Test
+  void dataOnly() {
+    var filter = new ClassFilter(classFiles, true, null);
+    assertThat(filter.passesDataFilter(info(Record.class))).isTrue();
+    assertThat(filter.passesDataFilter(info(Role.class))).isTrue();
+    assertThat(filter.passesDataFilter(info(Model.class))).isTrue();
+    assertThat(filter.passesDataFilter(info(RealClass.class))).isFalse();
+    assertThat(filter.passesAnnotationFilter(info(RealClass.class))).isTrue();
+
+    assertThat(new ClassFilter(classFiles, false, null).passesDataFilter(info(RealClass.class))).isTrue();
+  }
+
+  @Test
+  void annotated() {
+    var filter = new ClassFilter(classFiles, false, Set.of(BytecodeConverterTest.Annotation.class.getName()));
+    assertThat(filter.passesAnnotationFilter(info(Generics.class))).isTrue();
+    assertThat(filter.passesAnnotationFilter(info(Generics.Nested.class))).isTrue();
+    assertThat(filter.passesAnnotationFilter(info(InheritsAnnotation.class))).isTrue();
+    assertThat(filter.passesAnnotationFilter(info(RealClass.class))).isFalse();
+    assertThat(filter.passesDataFilter(info(RealClass.class))).isTrue();
+  }
+
+  @Test
+  void doesNotLoadClasses() {
+    var filter = new ClassFilter(classFiles, true, Set.of(BytecodeConverterTest.Annotation.class.getName()));
+    assertThat(filter.passesDataFilter(info("jvm2dts.NeverLoaded"))).isFalse();
+    assertThat(filter.passesAnnotationFilter(info("jvm2dts.NeverLoaded"))).isFalse();
+    assertThat(initialized).isFalse();
+  }
+
+  static boolean initialized;
+
+  private ClassInfo info(Class<?> clazz) {
+    return info(clazz.getName());
+  }
+
+  private ClassInfo info(String className) {
+    return classFiles.info(className);
+  }
+}
+
+class NeverLoaded {
+  static { ClassFilterTest.initialized = true; }
+}
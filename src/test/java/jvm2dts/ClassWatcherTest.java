@@ -0,0 +1,44 @@
+package jvm2dts;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassWatcherTest {
+  @TempDir Path dir;
+
+  @Test
+  void reportsChangedClassFiles() throws Exception {
+    Files.createDirectories(dir.resolve("m"));
+    Files.write(dir.resolve("m/A.class"), new byte[0]);
+    try (var watcher = new ClassWatcher(List.of(dir))) {
+      Files.write(dir.resolve("m/A.class"), new byte[] {1});
+      Files.write(dir.resolve("m/A.java"), new byte[] {1});
+      Files.delete(dir.resolve("m/A.class"));
+      Files.write(dir.resolve("B.class"), new byte[0]);
+      assertThat(watcher.awaitChanges()).containsExactly("B", "m.A");
+    }
+  }
+
+  @Test
+  void watchesNewDirectories() throws Exception {
+    try (var watcher = new ClassWatcher(List.of(dir))) {
+      createClassFile("n/p/C.class");
+      assertThat(watcher.awaitChanges()).containsExactly("n.p.C");
+      createClassFile("n/p/D.class");
+      assertThat(watcher.awaitChanges()).containsExactly("n.p.D");
+    }
+  }
+
+  private void createClassFile(String name) throws IOException {
+    var file = dir.resolve(name);
+    Files.createDirectories(file.getParent());
+    Files.write(file, new byte[0]);
+  }
+}
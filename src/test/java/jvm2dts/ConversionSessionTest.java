@@ -0,0 +1,296 @@
+package jvm2dts;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.annotation.Retention;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static jvm2dts.ConversionStats.Outcome.*;
+import static java.util.zip.ZipEntry.DEFLATED;
+import static jvm2dts.ConversionStats.Phase.CONVERT;
+import static jvm2dts.ConversionStats.Phase.LOAD;
+import static jvm2dts.TestClassFiles.classFile;
+import static jvm2dts.TestClassFiles.compile;
+import static jvm2dts.TestClassFiles.copyClasses;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConversionSessionTest {
+  @TempDir Path dir;
+
+  @Test
+  void convertsOnlyChangedClassesAndTheirSubclasses() throws IOException {
+    copyClasses(dir, Model.class, Base.class, AnyId.class, RealClass.class);
+    try (var session = new ConversionSession(List.of(dir)).bytecode(true)) {
+      var out = new StringBuilder();
+      assertThat(session.convert(out)).isEqualTo(4);
+      assertThat(out.toString()).contains("// jvm2dts.RealClass" + System.lineSeparator() + "export interface RealClass {");
+
+      var again = new StringBuilder();
+      assertThat(session.convert(again)).isEqualTo(0);
+      assertThat(again.toString()).isEqualTo(out.toString());
+
+      touch(Base.class);
+      assertThat(session.convert(new StringBuilder())).isEqualTo(3);
+
+      Files.delete(classFile(dir, RealClass.class));
+      assertThat(session.convert(new StringBuilder())).isEqualTo(0);
+      assertThat(session.convert().keySet()).containsExactly(AnyId.class.getName(), Base.class.getName(), Model.class.getName());
+    }
+  }
+
+  @Test
+  void sameOutputWithReflectionAndThreads() throws IOException {
+    copyClasses(dir, Model.class, Base.class, AnyId.class, RealClass.class);
+    try (var reflection = new ConversionSession(List.of(dir)).cast(Map.of("java.util.UUID", "number"));
+         var parallel = new ConversionSession(List.of(dir)).cast(Map.of("java.util.UUID", "number")).threads(4).bytecode(true)) {
+      assertThat(reflection.convert()).isEqualTo(parallel.convert());
+      assertThat(reflection.convert().get(RealClass.class.getName())).contains("id: number");
+    }
+  }
+
+  @Test
+  void sameOutputWithClassLoaderBatches() throws IOException {
+    copyClasses(dir, Model.class, Model.Details.class, Model.Role.class, Base.class, AnyId.class, RealClass.class);
+    try (var single = new ConversionSession(List.of(dir));
+         var batched = new ConversionSession(List.of(dir)).batchSize(2).threads(2)) {
+      var out = new StringBuilder();
+      var batchedOut = new StringBuilder();
+      assertThat(batched.convert(batchedOut)).isEqualTo(single.convert(out));
+      assertThat(batchedOut.toString()).isEqualTo(out.toString());
+    }
+  }
+
+  @Test
+  void streamsSameOutputAsConvert() throws IOException {
+    copyClasses(dir, Model.class, Model.Details.class, Model.Role.class, Base.class, AnyId.class, RealClass.class);
+    try (var session = new ConversionSession(List.of(dir));
+         var streaming = new ConversionSession(List.of(dir)).batchSize(2).threads(2)) {
+      var out = new StringBuilder();
+      var streamed = new StringBuilder();
+      assertThat(streaming.stream(streamed)).isEqualTo(session.convert(out));
+      assertThat(streamed.toString()).isEqualTo(out.toString());
+
+      var again = new StringBuilder();
+      assertThat(streaming.stream(again)).isEqualTo(6);
+      assertThat(again.toString()).isEqualTo(out.toString());
+    }
+  }
+
+  @Test
+  void servesClassesOfIndexedJarsWithoutLoadingThem() throws IOException {
+    var jar = dir.resolve("model.jar");
+    ClassFilesTest.writeJar(jar, DEFLATED, Model.class, Base.class, AnyId.class, RealClass.class);
+    var indexDir = dir.resolve("index");
+    SortedMap<String, String> expected;
+    try (var session = new ConversionSession(List.of(jar))) {
+      expected = new TreeMap<>(session.convert());
+    }
+    try (var session = new ConversionSession(List.of(jar)).jarIndex(indexDir)) {
+      assertThat(session.convert()).isEqualTo(expected);
+      assertThat(session.stats().count(INDEXED)).isEqualTo(4L);
+    }
+    try (var session = new ConversionSession(List.of(jar)).jarIndex(indexDir).exclude(".*Base")) {
+      var out = new StringBuilder();
+      session.stream(out);
+      assertThat(out.toString()).contains("export " + expected.get(RealClass.class.getName())).doesNotContain("// " + Base.class.getName());
+      assertThat(session.stats().count(INDEXED)).isEqualTo(3L);
+      assertThat(session.stats().phaseNanos(LOAD)).isEqualTo(0L);
+    }
+    try (var indexes = Files.list(indexDir)) {
+      assertThat(indexes.count()).isEqualTo(1L);
+    }
+  }
+
+  @Test
+  void filtersClasses() throws IOException {
+    copyClasses(dir, Model.class, Base.class, AnyId.class, RealClass.class);
+    try (var session = new ConversionSession(List.of(dir)).exclude(".*Base").packages(List.of("jvm2dts"))) {
+      assertThat(session.convert().keySet()).containsExactly(AnyId.class.getName(), Model.class.getName(), RealClass.class.getName());
+    }
+  }
+
+  @Test
+  void collectsStats() throws IOException {
+    copyClasses(dir, Model.class, Base.class, AnyId.class, RealClass.class);
+    try (var session = new ConversionSession(List.of(dir)).exclude(".*Base").threads(2)) {
+      session.convert(new StringBuilder());
+      var stats = session.stats();
+      assertThat(stats.count(CONVERTED)).isEqualTo(3L);
+      assertThat(stats.phaseNanos(LOAD) > 0).isTrue();
+      assertThat(stats.slowest().size()).isEqualTo(3);
+
+      session.convert(new StringBuilder());
+      assertThat(session.stats().count(UNCHANGED)).isEqualTo(3L);
+      assertThat(session.stats().count(CONVERTED)).isEqualTo(0L);
+    }
+  }
+
+  @Test
+  void measuresAllocationsIfRequested() throws IOException {
+    copyClasses(dir, Model.class, Base.class, AnyId.class, RealClass.class);
+    try (var session = new ConversionSession(List.of(dir)).bytecode(true)) {
+      session.convert(new StringBuilder());
+      assertThat(session.stats().phaseBytes(CONVERT)).isEqualTo(0L);
+    }
+    try (var session = new ConversionSession(List.of(dir)).bytecode(true).allocations(true)) {
+      session.convert(new StringBuilder());
+      var stats = session.stats();
+      assertThat(stats.phaseBytes(CONVERT) > 0).isTrue();
+      assertThat(stats.slowest().get(0).bytes() > 0).isTrue();
+      var printed = new ByteArrayOutputStream();
+      stats.print(new PrintStream(printed, true, UTF_8));
+      assertThat(printed.toString(UTF_8)).contains("MB allocated");
+    }
+  }
+
+  @Test
+  void convertsOnlyClassesReachableFromRoots() throws IOException {
+    copyClasses(dir, Model.class, Model.Details.class, Model.Role.class, Base.class, AnyId.class, RealClass.class, Record.class, ModelController.class, Controller.class);
+    try (var session = new ConversionSession(List.of(dir)).reachableFrom(Set.of(Model.class.getName()), Set.of())) {
+      assertThat(session.convert().keySet()).containsExactly(Model.class.getName(), Model.Details.class.getName(), Model.Role.class.getName());
+    }
+    try (var session = new ConversionSession(List.of(dir)).reachableFrom(Set.of(), Set.of(Controller.class.getName())).bytecode(true)) {
+      assertThat(session.convert().keySet()).containsExactly(Model.class.getName(), Model.Details.class.getName(), Model.Role.class.getName(), Record.class.getName());
+      assertThat(session.stats().count(UNREACHABLE)).isEqualTo(4L);
+    }
+  }
+
+  @Test
+  void followsTypeArgumentsOfGenericSuperclassesFromRoots() throws IOException {
+    copyClasses(dir, Page.class, RolePage.class, Role.class);
+    for (var bytecode : List.of(false, true)) {
+      try (var session = new ConversionSession(List.of(dir)).reachableFrom(Set.of(RolePage.class.getName()), Set.of()).bytecode(bytecode)) {
+        assertThat(session.convert().keySet()).containsExactly(Role.class.getName(), RolePage.class.getName());
+      }
+    }
+  }
+
+  @Test
+  void reachableDeclarationsReferOnlyToEachOther() throws IOException {
+    copyClasses(dir, PageController.class, Controller.class, Page.class, RolePage.class, ModelPage.class, Role.class,
+      Model.class, Model.Details.class, Model.Role.class, Base.class, AnyId.class, RealClass.class, Record.class);
+    for (var bytecode : List.of(false, true)) {
+      try (var session = new ConversionSession(List.of(dir)).reachableFrom(Set.of(), Set.of(Controller.class.getName())).bytecode(bytecode)) {
+        var declarations = session.convert().values();
+        var declared = new HashSet<String>();
+        for (var declaration : declarations) declared.add(ShardedOutput.declaredName(declaration));
+        assertThat(declared).contains("Role", "Model", "ModelDetails");
+        for (var declaration : declarations) {
+          var undeclared = ShardedOutput.referencedTypes(declaration);
+          undeclared.removeAll(declared);
+          undeclared.removeAll(Set.of("string", "number", "boolean", "any"));
+          assertThat(undeclared).as(declaration).isEmpty();
+        }
+      }
+    }
+  }
+
+  @Test
+  void reconvertsCachedClassesWhenHierarchyOfTheirPropertyTypesChanges() throws IOException {
+    var classes = dir.resolve("classes");
+    compile(classes, "m.Id", "package m; public class Id {}",
+      "m.OrderId", "package m; public class OrderId extends Id {}",
+      "m.Order", "package m; public class Order { public OrderId getOrderId() { return null; } }");
+    var cacheFile = dir.resolve("cache");
+    try (var session = new ConversionSession(List.of(classes)).cast(Map.of("m.Id", "string")).cache(cacheFile)) {
+      assertThat(session.convert().get("m.Order")).isEqualTo("interface Order {orderId: string;}");
+    }
+
+    compile(classes, "m.OrderId", "package m; public class OrderId {}");
+    try (var session = new ConversionSession(List.of(classes)).cast(Map.of("m.Id", "string")).cache(cacheFile)) {
+      assertThat(session.convert().get("m.Order")).isEqualTo("interface Order {orderId: OrderId;}");
+      assertThat(session.stats().count(CACHED)).isEqualTo(1L);
+    }
+  }
+
+  @Test
+  void bytecodeConverterCastsClassesWithoutLoadingThem() throws IOException {
+    var classes = dir.resolve("classes");
+    compile(classes, "lib.Base", "package lib; public class Base {}",
+      "m.Id", "package m; public class Id extends lib.Base {}",
+      "m.Order", "package m; public class Order { public Id getId() { return null; } }");
+    Files.delete(classes.resolve("lib/Base.class"));
+    try (var session = new ConversionSession(List.of(classes)).packages(List.of("m")).cast(Map.of("m.Id", "string", "m.Missing", "number")).bytecode(true)) {
+      assertThat(session.convert().get("m.Order")).isEqualTo("interface Order {id: string;}");
+    }
+  }
+
+  @Test
+  void reconvertsClassesWhenHierarchyOfTheirPropertyTypesChanges() throws IOException {
+    var classes = dir.resolve("classes");
+    for (var bytecode : List.of(false, true)) {
+      compile(classes, "m.Id", "package m; public class Id {}",
+        "m.OrderId", "package m; public class OrderId extends Id {}",
+        "m.Order", "package m; public class Order { public OrderId getOrderId() { return null; } }");
+      try (var session = new ConversionSession(List.of(classes)).cast(Map.of("m.Id", "string")).bytecode(bytecode)) {
+        assertThat(session.convert().get("m.Order")).isEqualTo("interface Order {orderId: string;}");
+
+        compile(classes, "m.OrderId", "package m; public class OrderId {}");
+        assertThat(session.convert().get("m.Order")).isEqualTo("interface Order {orderId: OrderId;}");
+        assertThat(session.stats().count(UNCHANGED)).isEqualTo(1L);
+      }
+    }
+  }
+
+  @Test
+  void doesNotIndexClassesOfJarsWithPropertyTypesInOtherRoots() throws IOException {
+    var ids = dir.resolve("ids");
+    compile(ids, "m.Id", "package m; public class Id {}", "m.OrderId", "package m; public class OrderId extends Id {}");
+    var orders = dir.resolve("orders");
+    compile(orders, "m.Id", "package m; public class Id {}", "m.OrderId", "package m; public class OrderId {}",
+      "m.Order", "package m; public class Order { public OrderId getOrderId() { return null; } }");
+    var jar = dir.resolve("orders.jar");
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new JarEntry("m/Order.class"));
+      out.write(Files.readAllBytes(orders.resolve("m/Order.class")));
+      out.closeEntry();
+    }
+    var indexDir = dir.resolve("index");
+    try (var session = new ConversionSession(List.of(jar, ids)).cast(Map.of("m.Id", "string")).jarIndex(indexDir)) {
+      assertThat(session.convert().get("m.Order")).isEqualTo("interface Order {orderId: string;}");
+    }
+
+    compile(ids, "m.OrderId", "package m; public class OrderId {}");
+    try (var session = new ConversionSession(List.of(jar, ids)).cast(Map.of("m.Id", "string")).jarIndex(indexDir)) {
+      assertThat(session.convert().get("m.Order")).isEqualTo("interface Order {orderId: OrderId;}");
+      assertThat(session.stats().count(INDEXED)).isEqualTo(0L);
+    }
+  }
+
+  private void touch(Class<?> clazz) throws IOException {
+    var file = classFile(dir, clazz);
+    Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10_000));
+  }
+}
+
+@Retention(RUNTIME)
+@interface Controller {}
+
+@Controller
+class ModelController {
+  public List<Model> models(Record filter) { return List.of(); }
+}
+
+@Controller
+class PageController {
+  public RolePage roles() { return null; }
+  public ModelPage models() { return null; }
+}
+
+interface ModelPage extends Page<Model> {}
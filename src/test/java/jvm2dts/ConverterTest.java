@@ -27,6 +27,21 @@ public class ConverterTest {
       "superGenericList: Role[];" +
       "}");
   }
+
+  @Test
+  void resolvesTypeVariablesFromSupertypes() {
+    assertThat(converter.convert(RolePage.class)).isEqualTo("interface RolePage {first?: Role; groups: {[key: string]: Role[]}; items: Role[]; total: number;}");
+    assertThat(converter.convert(Page.class)).isEqualTo("interface Page {first?: any; groups: {[key: string]: any[]}; items: any[];}");
+  }
+
+  @Test
+  void appendsToOutput() {
+    var out = new StringBuilder("// ");
+    assertThat(converter.convert(Role.class, out)).isTrue();
+    assertThat(converter.convert(Empty.class, out)).isFalse();
+    assertThat(converter.convert(Generics.class, out.append("; "))).isTrue();
+    assertThat(out.toString()).isEqualTo("// enum Role {ADMIN = 'ADMIN', USER = 'USER'}; " + converter.convert(Generics.class));
+  }
 }
 
 enum Role {
@@ -52,3 +67,13 @@ interface Collections {
 
 class MultiGeneric<T, U, V> {}
 class SingleGeneric<T> {}
+
+interface Page<T> {
+  List<T> getItems();
+  Map<String, List<T>> getGroups();
+  Optional<T> getFirst();
+}
+
+interface RolePage extends Page<Role> {
+  int getTotal();
+}
@@ -0,0 +1,60 @@
+package jvm2dts;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static jvm2dts.TestClassFiles.copyClasses;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DaemonTest {
+  @TempDir Path dir;
+
+  @Test
+  void convertsOnWarmSessionsAndStreamsOutputToClient() throws Exception {
+    var classes = dir.resolve("classes");
+    copyClasses(classes, Model.class, Base.class, AnyId.class, RealClass.class);
+    var expected = new StringBuilder();
+    try (var session = new ConversionSession(List.of(classes))) {
+      session.convert(expected);
+    }
+
+    var socket = dir.resolve("daemon.sock");
+    try (var daemon = new Daemon(socket)) {
+      var server = new Thread(() -> {
+        try {
+          daemon.serve();
+        } catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      });
+      server.start();
+
+      var stdout = new ByteArrayOutputStream();
+      var stderr = new ByteArrayOutputStream();
+      assertThat(Client.run(connect(socket), new String[] {"-classesDir", classes.toString(), "-stats"}, stdout, stderr)).isEqualTo(0);
+      assertThat(stdout.toString(UTF_8)).isEqualTo(expected.toString());
+      assertThat(stderr.toString(UTF_8)).contains("converted");
+
+      stdout.reset();
+      stderr.reset();
+      assertThat(Client.run(connect(socket), new String[] {"-classesDir", classes.toString(), "-stats"}, stdout, stderr)).isEqualTo(0);
+      assertThat(stdout.toString(UTF_8)).isEqualTo(expected.toString());
+      assertThat(stderr.toString(UTF_8)).contains("unchanged since previous conversion");
+
+      assertThat(Client.run(connect(socket), new String[] {"-classesDir", classes.toString(), "-watch"}, stdout, stderr)).isEqualTo(2);
+    }
+    assertThat(socket).doesNotExist();
+  }
+
+  private static SocketChannel connect(Path socket) throws IOException {
+    return SocketChannel.open(UnixDomainSocketAddress.of(socket));
+  }
+}
@@ -0,0 +1,78 @@
+package jvm2dts;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MainTest {
+  @TempDir Path dir;
+  private final ByteArrayOutputStream errBytes = new ByteArrayOutputStream();
+  private final PrintStream err = new PrintStream(errBytes, true, UTF_8);
+
+  @Test
+  void splitsJobLinesAtWhitespaceOutsideOfQuotes() {
+    assertThat(Main.splitJobLine("  -classesDir \"my classes\"  -out 'web/my types.ts' -cast a.Id=string a.b"))
+      .containsExactly("-classesDir", "my classes", "-out", "web/my types.ts", "-cast", "a.Id=string", "a.b");
+    assertThat(Main.splitJobLine("-outDir \"\" x\"y z\"")).containsExactly("-outDir", "", "xy z");
+  }
+
+  @Test
+  void runsValidJobsAndReportsAllInvalidLines() throws Exception {
+    var classes = Files.createDirectories(dir.resolve("my classes"));
+    var jobsFile = jobs(
+      "# comment",
+      "-classesDir '" + classes + "' -out '" + dir.resolve("a.ts") + "'",
+      "-classesDir '" + classes + "'",
+      "",
+      "-classesDir '" + classes + "' -out " + dir.resolve("b/../a.ts"),
+      "-classesDir '" + classes + "' -outDir " + dir.resolve("d") + " -watch",
+      "-classesDir '" + classes + " -out " + dir.resolve("e.ts"),
+      "-classesDir '" + classes + "' -outDir " + dir.resolve("f"));
+
+    assertThat(Main.runJobs(jobsFile, 2, Main::run, err)).isEqualTo(1);
+    assertThat(Files.exists(dir.resolve("a.ts"))).isTrue();
+    assertThat(Files.isDirectory(dir.resolve("f"))).isTrue();
+    assertThat(Files.exists(dir.resolve("d"))).isFalse();
+    assertThat(Files.exists(dir.resolve("e.ts"))).isFalse();
+    assertThat(errBytes.toString(UTF_8)).contains("line 3 ", "line 5 ", "like the job on line 2", "line 6 ", "line 7 ", "Unterminated quote");
+  }
+
+  @Test
+  void failsIfAnyJobFails() throws Exception {
+    var classes = Files.createDirectories(dir.resolve("classes"));
+    var notDir = Files.createFile(dir.resolve("file"));
+    var jobsFile = jobs("-classesDir " + classes + " -out " + notDir.resolve("a.ts"), "-classesDir " + classes + " -out " + dir.resolve("b.ts"));
+
+    assertThat(Main.runJobs(jobsFile, 1, Main::run, err)).isEqualTo(1);
+    assertThat(Files.exists(dir.resolve("b.ts"))).isTrue();
+    assertThat(errBytes.toString(UTF_8)).contains("Failed to convert " + classes + " into " + notDir.resolve("a.ts"));
+
+    assertThat(Main.runJobs(jobs("-classesDir " + classes + " -out " + dir.resolve("b.ts")), 1, Main::run, err)).isEqualTo(0);
+  }
+
+  @Test
+  void deletesTemporaryFileIfWritingFails() throws IOException {
+    var file = dir.resolve("types.ts");
+    Files.writeString(file, "previous");
+    assertThatThrownBy(() -> Main.write(file, writer -> {
+      writer.write("half");
+      throw new IOException("broken");
+    })).isInstanceOf(IOException.class).hasMessageContaining("broken");
+    assertThat(Files.exists(dir.resolve("types.ts.tmp"))).isFalse();
+    assertThat(Files.readString(file)).isEqualTo("previous");
+  }
+
+  private Path jobs(String... lines) throws IOException {
+    return Files.write(dir.resolve("jvm2dts.jobs"), List.of(lines));
+  }
+}
@@ -0,0 +1,61 @@
+package jvm2dts;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackageFilterTest {
+  @TempDir Path dir;
+
+  @Test
+  void includesClassesDirectlyInPackages() {
+    var filter = new PackageFilter(Set.of("com.example.model", "com.other"), Set.of(), null);
+    assertThat(filter.includes("com.example.model.User")).isTrue();
+    assertThat(filter.includes("com.example.model.User$Role")).isTrue();
+    assertThat(filter.includes("com.example.model.sub.User")).isFalse();
+    assertThat(filter.includes("com.example.User")).isFalse();
+    assertThat(filter.includes("User")).isFalse();
+    assertThat(filter.descend(filter.root(), "org")).isNull();
+    assertThat(filter.descend(filter.descend(filter.root(), "com"), "example")).isNotNull();
+  }
+
+  @Test
+  void excludesPackageTreesAndClassNames() {
+    var filter = new PackageFilter(Set.of(), Set.of("com.example.generated", "com/legacy"), ".*Test");
+    assertThat(filter.includes("User")).isTrue();
+    assertThat(filter.includes("com.example.User")).isTrue();
+    assertThat(filter.includes("com.example.UserTest")).isFalse();
+    assertThat(filter.includes("com.example.generated.User")).isFalse();
+    assertThat(filter.includes("com.example.generated.deep.User")).isFalse();
+    assertThat(filter.includes("com.legacy.User")).isFalse();
+    assertThat(filter.descend(filter.descend(filter.root(), "com"), "legacy")).isNull();
+  }
+
+  @Test
+  void scansOnlyIncludedDirectories() throws IOException {
+    for (var file : List.of("a/A.class", "a/b/B.class", "a/gen/G.class", "a/gen/deep/D.class", "c/C.class", "META-INF/X.class", "a/package-info.class", "a/b/readme.txt"))
+      createFile(file);
+
+    var classFiles = new ClassFiles(List.of(dir));
+    assertThat(classFiles.classNames(new PackageFilter(Set.of(), Set.of("a.gen"), null), null))
+      .containsExactlyInAnyOrder("a.A", "a.b.B", "c.C");
+    assertThat(classFiles.classNames(new PackageFilter(Set.of("a.b"), Set.of(), null), new ForkJoinPool(2)))
+      .containsExactly("a.b.B");
+    assertThat(classFiles.classNames(PackageFilter.ALL, new ForkJoinPool(2)))
+      .containsExactlyInAnyOrder("a.A", "a.b.B", "a.gen.G", "a.gen.deep.D", "c.C");
+  }
+
+  private void createFile(String name) throws IOException {
+    var file = dir.resolve(name);
+    Files.createDirectories(file.getParent());
+    Files.createFile(file);
+  }
+}
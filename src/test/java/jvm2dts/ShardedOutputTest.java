@@ -0,0 +1,74 @@
+package jvm2dts;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.lang.System.lineSeparator;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardedOutputTest {
+  @TempDir Path dir;
+
+  @Test
+  void groupsClassesByPackagePrefix() {
+    var output = new ShardedOutput(dir);
+    assertThat(output.shardOf("com.example.model.User")).isEqualTo("com.example.model");
+    assertThat(output.shardOf("User")).isEqualTo(ShardedOutput.DEFAULT_PACKAGE);
+    output.packageDepth(2);
+    assertThat(output.shardOf("com.example.model.User")).isEqualTo("com.example");
+    assertThat(output.shardOf("com.User")).isEqualTo("com");
+  }
+
+  @Test
+  void findsTypesReferredToByDeclarations() {
+    assertThat(ShardedOutput.declaredName("interface Model {id: string;}")).isEqualTo("Model");
+    assertThat(ShardedOutput.referencedTypes("interface Model {Role: Role; roles?: Role[]; \"Details\": {[key: string]: Details}; other: Generic<Other>;}"))
+      .containsExactlyInAnyOrder("Role", "string", "Details", "Generic", "Other");
+    assertThat(ShardedOutput.referencedTypes("enum Role {ADMIN = 'Admin', USER = 'USER'}")).isEmpty();
+  }
+
+  @Test
+  void writesFilePerPackageWithImports() throws IOException {
+    var declarations = new TreeMap<String, String>();
+    declarations.put("a.b.Owner", "interface Owner {pet: Pet; kind?: Kind;}");
+    declarations.put("a.c.Kind", "enum Kind {DOG = 'DOG'}");
+    declarations.put("a.c.Pet", "interface Pet {kind: Kind; owner: Owner;}");
+
+    var output = new ShardedOutput(dir);
+    var shards = output.group(declarations);
+    var declaringShards = ShardedOutput.declaringShards(shards);
+    for (var shard : shards.entrySet()) output.write(shard.getKey(), shard.getValue(), declaringShards);
+    output.deleteStale(shards.keySet());
+
+    assertThat(Files.readString(dir.resolve("a.b.ts"))).isEqualTo(
+      "import {Kind, Pet} from './a.c';" + lineSeparator() + lineSeparator() +
+      "// a.b.Owner" + lineSeparator() + "export interface Owner {pet: Pet; kind?: Kind;}" + lineSeparator());
+    assertThat(Files.readString(dir.resolve("a.c.ts"))).startsWith("import {Owner} from './a.b';" + lineSeparator());
+
+    output.deleteStale(Set.of("a.c"));
+    assertThat(Files.exists(dir.resolve("a.b.ts"))).isFalse();
+  }
+
+  @Test
+  void doesNotImportNamesDeclaredInTheSameFile() throws IOException {
+    var declarations = new TreeMap<String, String>();
+    declarations.put("a.Role", "enum Role {ADMIN = 'ADMIN'}");
+    declarations.put("b.Role", "enum Role {USER = 'USER'}");
+    declarations.put("b.User", "interface User {role: Role;}");
+
+    var output = new ShardedOutput(dir);
+    var shards = output.group(declarations);
+    var declaringShards = ShardedOutput.declaringShards(shards);
+    for (var shard : shards.entrySet()) output.write(shard.getKey(), shard.getValue(), declaringShards);
+
+    assertThat(Files.readString(dir.resolve("b.ts"))).isEqualTo(
+      "// b.Role" + lineSeparator() + "export enum Role {USER = 'USER'}" + lineSeparator() +
+      "// b.User" + lineSeparator() + "export interface User {role: Role;}" + lineSeparator());
+  }
+}
@@ -0,0 +1,50 @@
+package jvm2dts;
+
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class files of test fixtures, copied or compiled into directories that tests convert
+ */
+class TestClassFiles {
+  private TestClassFiles() {}
+
+  static byte[] classBytes(Class<?> clazz) throws IOException {
+    try (var in = clazz.getResourceAsStream("/" + ClassFiles.toResourceName(clazz.getName()))) {
+      return in.readAllBytes();
+    }
+  }
+
+  static Path classFile(Path dir, Class<?> clazz) {
+    return dir.resolve(ClassFiles.toResourceName(clazz.getName()));
+  }
+
+  static void copyClasses(Path dir, Class<?>... classes) throws IOException {
+    for (var clazz : classes) {
+      var target = classFile(dir, clazz);
+      Files.createDirectories(target.getParent());
+      Files.write(target, classBytes(clazz));
+    }
+  }
+
+  /**
+   * Compiles sources given as pairs of class name and code into the directory, replacing the class files compiled before
+   */
+  static void compile(Path classes, String... namesAndSources) throws IOException {
+    var args = new ArrayList<>(List.of("-d", classes.toString(), "-classpath", classes.toString()));
+    var sources = classes.resolveSibling(classes.getFileName() + "-sources");
+    for (int i = 0; i < namesAndSources.length; i += 2) {
+      var source = sources.resolve(namesAndSources[i].replace('.', '/') + ".java");
+      Files.createDirectories(source.getParent());
+      Files.writeString(source, namesAndSources[i + 1]);
+      args.add(source.toString());
+    }
+    assertThat(ToolProvider.getSystemJavaCompiler().run(null, null, null, args.toArray(new String[0]))).isEqualTo(0);
+  }
+}
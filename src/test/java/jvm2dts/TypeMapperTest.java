@@ -0,0 +1,44 @@
+package jvm2dts;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.time.chrono.JapaneseDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeMapperTest {
+  private final TypeMapper typeMapper = new TypeMapper(Map.of(Identifier.class, "string"));
+  private final ClassFiles classFiles = new ClassFiles(List.of());
+
+  @Test
+  void castAppliesToSubtypes() {
+    for (var type : List.of(Identifier.class, UserId.class, SpecialUserId.class)) {
+      assertThat(typeMapper.getSimpleTSType(type)).isEqualTo("string");
+      assertThat(typeMapper.getSimpleTSType(type.getName(), classFiles)).isEqualTo("string");
+    }
+  }
+
+  @Test
+  void resolvesFullHierarchy() {
+    assertThat(typeMapper.getTSType(LongAdder.class)).isEqualTo("number");
+    assertThat(typeMapper.getTSType(LongAdder.class.getName(), classFiles)).isEqualTo("number");
+    assertThat(typeMapper.getTSType(JapaneseDate.class)).isEqualTo("string");
+    assertThat(typeMapper.getTSType(JapaneseDate.class.getName(), classFiles)).isEqualTo("string");
+  }
+
+  @Test
+  void unmappedTypes() {
+    assertThat(typeMapper.getSimpleTSType(Object.class)).isEqualTo("any");
+    assertThat(typeMapper.getSimpleTSType(Serializable.class)).isNull();
+    assertThat(typeMapper.getTSType(Model.Details.class)).isEqualTo("ModelDetails");
+    assertThat(typeMapper.getTSType(Model.Details.class.getName(), classFiles)).isEqualTo("ModelDetails");
+  }
+
+  interface Identifier {}
+  static class UserId implements Identifier {}
+  static class SpecialUserId extends UserId implements Serializable {}
+}